@@ -1,12 +1,30 @@
 package com;
 
 import com.menu.MenuObject;
+import com.objects.characters.Hero;
 import com.world.WorldObject;
 import engine.game.CoreGame;
+import engine.game.objects.GameObject;
 import engine.game.objects.text.FontLoader;
+import engine.util.Time;
+import engine.util.loading.AssetManifest;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
-
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The scenes (menu, world) are loaded in the background by the scene loader: the scenes' constructors read, parse and decode
+ * the files and build the GameObjects on its thread, and the OpenGL uploads are done a slice each frame (see GLThread).
+ * The current scene keeps running until the new one is ready, then they are swapped in a single update
+ * that only attaches the new scene and activates it (camera, current hero and map).
+ */
 final public class Game extends CoreGame {
 
 	/**
@@ -39,11 +57,46 @@ final public class Game extends CoreGame {
 	 */
 	private byte load;
 
+	/**
+	 * Thread creating the scenes in the background.
+	 */
+	final private @NotNull ExecutorService sceneLoader;
+
+	/**
+	 * Scene being created by the scene loader (null = none).
+	 */
+	private @Nullable Future<GameObject> stagedScene;
+
+	/**
+	 * Which scene is being created by the scene loader (Game.LOAD_NONE = none).
+	 */
+	private byte staging;
+
+	/**
+	 * When did the scene loader start creating the scene (in ns).
+	 */
+	private long stagingStart;
+
 	/**
 	 * Creates a new Game instance.
 	 */
 	public Game() {
 		super();
+
+		this.sceneLoader = Executors.newSingleThreadExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(final @NotNull Runnable runnable) {
+				final Thread thread = new Thread(runnable, "Scene loader");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	@Override
+	final public void fillAssetManifest(final @NotNull AssetManifest manifest) {
+		manifest.load("/media/manifest.json");
+		FontLoader.addToManifest(manifest);
 	}
 
 	@Override
@@ -51,51 +104,129 @@ final public class Game extends CoreGame {
 		FontLoader.loadAll();
 
 		this.load = Game.LOAD_NONE;
+		this.stagedScene = null;
+		this.staging = Game.LOAD_NONE;
 
+		// Nothing to show yet: the first scene is created right away.
 		this.menuObject = new MenuObject(this);
 		this.addToRootObject(this.getMenuObject());
 		this.getMenuObject().init();
+		this.getMenuObject().activate();
 
 		return this;
 	}
 
 	@Override
 	final public void update(final double delta) {
-		if(this.load == Game.LOAD_MENU) {
-			if(this.getWorldObject() != null) {
-				this.removeFromRootObject(this.getWorldObject());
-				this.worldObject = null;
+		if(this.load != Game.LOAD_NONE && this.stagedScene == null) {
+			if(!this.isCurrentScene(this.load)) {
+				this.stage(this.load);
 			}
 
-			this.menuObject = new MenuObject(this);
-			this.addToRootObject(this.getMenuObject());
-			this.getMenuObject().init();
-		} else if(this.load == Game.LOAD_WORLD) {
-			if(this.getMenuObject() != null) {
-				this.removeFromRootObject(this.getMenuObject());
-				this.menuObject.destroy();
-				this.menuObject = null;
+			this.load = Game.LOAD_NONE;
+		} else if(this.load == this.staging) {
+			this.load = Game.LOAD_NONE; // Already being loaded (e.g. the button has been clicked twice).
+		}
+
+		if(this.stagedScene != null && this.stagedScene.isDone()) {
+			this.swapScene();
+		}
+
+		super.update(delta);
+	}
+
+	/**
+	 * Starts creating the scene on the scene loader's thread.
+	 * The constructors do the loading work there: the scene is published through the Future, then attached, initialized and activated by Game.swapScene().
+	 *
+	 * @param scene Scene to create (Game.LOAD_MENU or Game.LOAD_WORLD)
+	 */
+	private void stage(final byte scene) {
+		this.staging = scene;
+		this.stagingStart = Time.getNanoTime();
+
+		this.stagedScene = this.sceneLoader.submit(new Callable<GameObject>() {
+			@Override
+			public GameObject call() {
+				return scene == Game.LOAD_MENU ? new MenuObject(Game.this) : new WorldObject(Game.this);
 			}
+		});
+	}
 
-			this.worldObject = new WorldObject(this);
-			this.addToRootObject(this.getWorldObject());
-			this.getWorldObject().init();
+	/**
+	 * Replaces the current scene with the scene created by the scene loader.
+	 * The old scene is removed and the new one is added during the same update: no frame is rendered without a scene.
+	 * The new scene is initialized once attached, as when it was created on this thread: its initialization only attaches what has been built.
+	 */
+	private void swapScene() {
+		final GameObject scene;
+
+		try {
+			scene = this.stagedScene.get();
+		} catch(final InterruptedException | ExecutionException e) {
+			System.err.println("Error: the scene couldn't be loaded.");
+			e.printStackTrace();
+			System.exit(1);
+			return;
 		}
 
-		this.load = Game.LOAD_NONE;
+		if(this.getMenuObject() != null) {
+			this.removeFromRootObject(this.getMenuObject());
+			this.menuObject.destroy();
+			this.menuObject = null;
+		}
 
-		super.update(delta);
+		if(this.getWorldObject() != null) {
+			this.getWorldObject().deactivate();
+			this.removeFromRootObject(this.getWorldObject());
+			this.worldObject.destroy();
+			this.worldObject = null;
+		}
+
+		this.addToRootObject(scene);
+		scene.init();
+
+		if(this.staging == Game.LOAD_MENU) {
+			this.menuObject = (MenuObject) scene;
+			this.getMenuObject().activate();
+		} else {
+			this.worldObject = (WorldObject) scene;
+			this.getWorldObject().activate();
+		}
+
+		if(Options.DEBUG) System.out.println("Scene loaded in the background in " + (Time.getNanoTime() - this.stagingStart) * Time.NANO_TO_MILLI + "ms.");
+
+		this.stagedScene = null;
+		this.staging = Game.LOAD_NONE;
+	}
+
+	/**
+	 * Returns whether the scene is the current one.
+	 *
+	 * @param scene Game.LOAD_MENU or Game.LOAD_WORLD
+	 * @return boolean
+	 */
+	@Contract(pure = true)
+	private boolean isCurrentScene(final byte scene) {
+		return scene == Game.LOAD_MENU ? this.getMenuObject() != null : this.getWorldObject() != null;
+	}
+
+	@Override
+	final public void lateLatch(final double timeSinceTick) {
+		if(this.getWorldObject() != null && Hero.getInstance() != null) {
+			Hero.getInstance().latch(timeSinceTick);
+		}
 	}
 
 	/**
-	 * Loads the menu.
+	 * Loads the menu in the background (the current scene keeps running until it's ready).
 	 */
 	final public void loadMenu() {
 		this.load = Game.LOAD_MENU;
 	}
 
 	/**
-	 * Loads the world.
+	 * Loads the world in the background (the current scene keeps running until it's ready).
 	 */
 	final public void loadWorld() {
 		this.load = Game.LOAD_WORLD;
@@ -40,6 +40,11 @@ public class GameOptions {
 	 */
 	final private static HashMap<String, SlideValues> sliders = new HashMap<>();
 
+	/**
+	 * Tab of the options panel chosen last (not saved, the panel shows it when created again).
+	 */
+	private static volatile int optionsTab = 0;
+
 	static {
 		if(support.File.exists(GameOptions.SAVES_FOLDER + "/options.json")) {
 			GameOptions.loadOptions(GameOptions.SAVES_FOLDER + "/options.json");
@@ -92,6 +97,25 @@ public class GameOptions {
 		return GameOptions.sliders.get(index);
 	}
 
+	/**
+	 * Returns the tab of the options panel chosen last.
+	 *
+	 * @return GameOptions::optionsTab
+	 */
+	@Contract(pure = true)
+	public static int getOptionsTab() {
+		return GameOptions.optionsTab;
+	}
+
+	/**
+	 * Sets the tab of the options panel chosen last.
+	 *
+	 * @param index Tab's index
+	 */
+	public static void setOptionsTab(final int index) {
+		GameOptions.optionsTab = index;
+	}
+
 	/**
 	 * Returns if the key is already picked by another action.
 	 *
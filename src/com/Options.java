@@ -36,6 +36,78 @@ public interface Options {
 	 */
 	final public static AtomicInteger MAX_FRAMES_PER_SECOND = GameOptions.getSlide("maxFPS").getValueReference();
 
+	/**
+	 * Defines how many simulation ticks are done in a second, whatever the frame rate.
+	 * Each tick updates the game with a delta of 1 / TICKS_PER_SECOND.
+	 */
+	final public static int TICKS_PER_SECOND = 60;
+
+	/**
+	 * Defines the maximum number of ticks done to catch up before rendering a frame.
+	 * Beyond that, the remaining time is dropped: the game slows down instead of freezing.
+	 */
+	final public static int MAX_TICKS_PER_FRAME = 5;
+
+	/**
+	 * Defines if the inputs are polled again right before each frame is captured,
+	 * the hero and his camera being rendered where the latest inputs predict them (late latch).
+	 */
+	final public static boolean LATE_LATCH = false;
+
+	/**
+	 * Defines if the simulation runs on its own thread, the OpenGL thread only rendering the last captured frame.
+	 * Every OpenGL call made by the simulation then waits for the OpenGL thread (see GLThread).
+	 */
+	final public static boolean PIPELINED_RENDERING = false;
+
+	/**
+	 * Defines if the engine's systems that don't conflict (physics broad phase, chunks preparation, audio listener...)
+	 * run in parallel on the other cores each tick (see TaskGraph).
+	 */
+	final public static boolean PARALLEL_SYSTEMS = true;
+
+	/**
+	 * Defines the maximum time spent each frame on deferred work (chunks baking, texts printing, zones loading...), in ms.
+	 * The work that doesn't fit is done in the next frames (see WorkScheduler).
+	 */
+	final public static double WORK_BUDGET = 5.0;
+
+	/**
+	 * Defines the maximum time the OpenGL thread spends each frame on the uploads queued by the background loaders, in ms.
+	 * The uploads that don't fit are done in the next frames, while the current scene keeps rendering (see GLThread).
+	 */
+	final public static double UPLOAD_BUDGET = 4.0;
+
+	/**
+	 * Defines if the GameObjects far from the camera are updated less often, and not at all beyond the chunks' unloading radius.
+	 * The objects close to the screen are still updated every tick (see GameObject.getUpdateLevel()).
+	 */
+	final public static boolean UPDATE_LOD = true;
+
+	/**
+	 * Defines if the state of the GameObjects in the world (positions, rotations, scales, velocities, directions)
+	 * is stored in primitive arrays by the EntityStore, the objects being views of it, for the systems going through all of them.
+	 */
+	final public static boolean ENTITY_STORE = false;
+
+	/**
+	 * Defines if the prefabs are built by the code again and saved on their first use, even if their file exists
+	 * (to apply a change of the code building them, see Prefab.get()).
+	 */
+	final public static boolean GENERATE_PREFABS = false;
+
+	/**
+	 * Defines if the quads sharing a texture are drawn together by a SpriteBatch (one draw call per texture change)
+	 * instead of one draw call each.
+	 */
+	final public static boolean SPRITE_BATCH = true;
+
+	/**
+	 * Defines if the draw records are sorted by depth and texture before being drawn (see RenderSnapshot.sort()),
+	 * instead of being drawn in the scene graph's order.
+	 */
+	final public static boolean SORT_DRAW_LIST = true;
+
 	/**
 	 * Size of a tile in openGL units (2 is the height of the window).
 	 */
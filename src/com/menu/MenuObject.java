@@ -11,6 +11,8 @@ import engine.audio.AudioObject;
 import engine.game.components.Camera;
 import engine.game.components.RenderedComponent;
 import engine.game.objects.GameObject;
+import engine.game.objects.Prefab;
+import engine.game.objects.PrefabBuilder;
 import engine.game.objects.button.Button;
 import engine.math.Vector2f;
 import engine.rendering.texture.Animation;
@@ -19,6 +21,7 @@ import engine.rendering.texture.Texture;
 import engine.util.Window;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 final public class MenuObject extends GameObject {
 
@@ -42,6 +45,11 @@ final public class MenuObject extends GameObject {
 	 */
 	private boolean optionsPanelOn;
 
+	/**
+	 * Menu's camera (null until the menu is initialized).
+	 */
+	private @Nullable Camera camera;
+
 	/**
 	 * Create a new MenuObject instance.
 	 *
@@ -53,37 +61,17 @@ final public class MenuObject extends GameObject {
 		this.game = game;
 		this.optionsPanel = new OptionsPanel(this);
 		this.optionsPanelOn = false;
+		this.camera = null;
 		this.setPosition(new Vector2f(-1 * Window.getRatio(), -1));
 		this.setDepth(MenuObject.DEPTH);
 
-		final Material animationMaterial = new Material(new Animation(new Texture[] {
-			new Texture("/menu/background-1"),
-			new Texture("/menu/background-2"),
-			new Texture("/menu/background-3"),
-			new Texture("/menu/background-4"),
-			new Texture("/menu/background-5"),
-			new Texture("/menu/background-6"),
-			new Texture("/menu/background-7"),
-			new Texture("/menu/background-8"),
-			new Texture("/menu/background-9"),
-			new Texture("/menu/background-10"),
-			new Texture("/menu/background-11"),
-			new Texture("/menu/background-12"),
-			new Texture("/menu/background-13"),
-			new Texture("/menu/background-14"),
-			new Texture("/menu/background-15"),
-			new Texture("/menu/background-16"),
-			new Texture("/menu/background-17"),
-			new Texture("/menu/background-18"),
-			new Texture("/menu/background-19"),
-			new Texture("/menu/background-20"),
-			new Texture("/menu/background-21"),
-			new Texture("/menu/background-22"),
-			new Texture("/menu/background-23"),
-			new Texture("/menu/background-24")
-		}, 4f));
-		final RenderedComponent renderedComponent = new RenderedComponent(animationMaterial, 2 * Window.getRatio(), 2);
-		this.addComponent(renderedComponent);
+		// Built by the code once, then instantiated from its prefab (the screen's ratio gives its size).
+		this.addChild(Prefab.get("menu-background", "ratio " + Window.getRatio(), new PrefabBuilder() {
+			@Override
+			public @NotNull GameObject build() {
+				return MenuObject.createBackground();
+			}
+		}));
 
 		final NewGameButton newGameButton = new NewGameButton(this);
 		this.addChild(newGameButton);
@@ -118,27 +106,72 @@ final public class MenuObject extends GameObject {
 
 	@Override
 	final public @NotNull MenuObject init() {
-		final Camera camera = new Camera();
+		this.camera = new Camera();
 
-		final MenuCameraObject cameraObject = new MenuCameraObject(camera);
-		camera.init();
+		final MenuCameraObject cameraObject = new MenuCameraObject(this.camera);
+		this.camera.init();
 		this.addChild(cameraObject);
 		cameraObject.init();
 
-		this.getGame().getRenderingEngine().setMainCamera(camera);
-
 		return this;
 	}
 
+	/**
+	 * Builds the menu's animated background, covering the whole screen (saved as the menu-background prefab).
+	 *
+	 * @return new GameObject
+	 */
+	private static @NotNull GameObject createBackground() {
+		final GameObject background = new GameObject("Menu background", 2 * Window.getRatio(), 2);
+		final Material animationMaterial = new Material(new Animation(new Texture[] {
+			new Texture("/menu/background-1"),
+			new Texture("/menu/background-2"),
+			new Texture("/menu/background-3"),
+			new Texture("/menu/background-4"),
+			new Texture("/menu/background-5"),
+			new Texture("/menu/background-6"),
+			new Texture("/menu/background-7"),
+			new Texture("/menu/background-8"),
+			new Texture("/menu/background-9"),
+			new Texture("/menu/background-10"),
+			new Texture("/menu/background-11"),
+			new Texture("/menu/background-12"),
+			new Texture("/menu/background-13"),
+			new Texture("/menu/background-14"),
+			new Texture("/menu/background-15"),
+			new Texture("/menu/background-16"),
+			new Texture("/menu/background-17"),
+			new Texture("/menu/background-18"),
+			new Texture("/menu/background-19"),
+			new Texture("/menu/background-20"),
+			new Texture("/menu/background-21"),
+			new Texture("/menu/background-22"),
+			new Texture("/menu/background-23"),
+			new Texture("/menu/background-24")
+		}, 4f));
+
+		background.addComponent(new RenderedComponent(animationMaterial, 2 * Window.getRatio(), 2));
+
+		return background;
+	}
+
+	/**
+	 * Makes the menu the current scene: uses its camera.
+	 * Called by the Game when the menu replaces the previous scene (the menu may have been created on the scene loader's thread).
+	 */
+	final public void activate() {
+		this.getGame().getRenderingEngine().setMainCamera(this.camera);
+	}
+
 	@Override
 	final public void update(final double delta) {
 		super.update(delta);
 
-		if(this.optionsPanelOn && !this.getChildren().contains(this.getOptionsPanel())) {
+		if(this.optionsPanelOn && !this.hasChild(this.getOptionsPanel())) {
 			this.addChild(this.getOptionsPanel());
 		}
 
-		if(!this.optionsPanelOn && this.getChildren().contains(this.getOptionsPanel())) {
+		if(!this.optionsPanelOn && this.hasChild(this.getOptionsPanel())) {
 			this.removeChild(this.getOptionsPanel());
 		}
 	}
@@ -182,7 +215,10 @@ final public class MenuObject extends GameObject {
 	/**
 	 * Called when the menu should no longer exist (since destructor is weird in Java).
 	 */
+	@Override
 	final public void destroy() {
+		super.destroy();
+
 		for(final AudioObject audioObject : this.getAudioObjects()) {
 			audioObject.stop();
 		}
@@ -1,5 +1,6 @@
 package com.menu.options.tabs;
 
+import com.GameOptions;
 import com.menu.options.tabs.audio.AudioTabsButton;
 import com.menu.options.tabs.audio.AudioTabsContent;
 import com.menu.options.tabs.controls.ControlsTabsButton;
@@ -14,6 +15,7 @@ import engine.math.Vector2f;
 import engine.rendering.texture.Material;
 import engine.rendering.texture.Texture;
 import engine.util.Window;
+import org.jetbrains.annotations.NotNull;
 
 public class OptionsTabs extends Tabs {
 
@@ -37,6 +39,11 @@ public class OptionsTabs extends Tabs {
      */
     final public static float HEIGHT = 1.13f;
 
+    /**
+     * How long a tab's content stays hidden before being released (in seconds).
+     */
+    final public static double RELEASE_TIME = 30.0;
+
     /**
      * Creates a new OptionsTabs instance.
      */
@@ -53,15 +60,29 @@ public class OptionsTabs extends Tabs {
         };
         this.setBackgrounds(backgrounds);
 
-        final GameObject[] contents = new GameObject[] {
-            new VideoTabsContent(),
-            new AudioTabsContent(),
-            new ControlsTabsContent()
-        };
-        this.setContents(contents);
-
         final TabsButton[] buttons = new TabsButton[] { new VideoTabsButton(this), new AudioTabsButton(this), new ControlsTabsButton(this) };
         this.setButtons(buttons);
+
+        // Only the tab shown is created: the slots' values are in the GameOptions, a content can be created again anytime.
+        this.setIndex(GameOptions.getOptionsTab());
+        this.setLazyContents(OptionsTabs.RELEASE_TIME);
+    }
+
+    @Override
+    protected @NotNull GameObject createContent(final int index) {
+        switch(index) {
+        case 0:
+            return new VideoTabsContent();
+        case 1:
+            return new AudioTabsContent();
+        default:
+            return new ControlsTabsContent();
+        }
+    }
+
+    @Override
+    protected void selected(final int index) {
+        GameOptions.setOptionsTab(index);
     }
 
 }
\ No newline at end of file
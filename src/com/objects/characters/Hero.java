@@ -4,6 +4,7 @@ import com.GameOptions;
 import com.Options;
 import engine.game.components.Camera;
 import engine.game.components.RenderedComponent;
+import engine.game.objects.map.Map;
 import engine.math.Vector2f;
 import engine.physic.colliders.AABBCollider;
 import engine.rendering.texture.Animation;
@@ -13,27 +14,21 @@ import engine.util.Direction;
 import engine.util.Input;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class Hero extends Character {
 
 	/**
-	 * The Hero's instance.
+	 * The Hero's instance (set when the world becomes the current scene, see WorldObject.activate()).
 	 */
-	private static Hero instance;
+	private static volatile @Nullable Hero instance;
 
 	/**
 	 * Hero's Textures.
+	 * Created with the Hero rather than in a static initializer: the scene loader creates the Hero and waits for the uploads,
+	 * which must not happen while holding the class' initialization lock (the engine reads Hero::instance every frame).
 	 */
-	private static Material[] materials = new Material[] {
-		new Material(new Texture("temp_hero/hero_NORTH_0")),
-		new Material(new Animation(new Texture[] {new Texture("temp_hero/hero_NORTH_1"), new Texture("temp_hero/hero_NORTH_2")}, 1.0)),
-		new Material(new Texture("temp_hero/hero_EAST_0")),
-		new Material(new Animation(new Texture[] {new Texture("temp_hero/hero_EAST_1"), new Texture("temp_hero/hero_EAST_2")}, 1.0)),
-		new Material(new Texture("temp_hero/hero_SOUTH_0")),
-		new Material(new Animation(new Texture[] {new Texture("temp_hero/hero_SOUTH_1"), new Texture("temp_hero/hero_SOUTH_2")}, 1.0)),
-		new Material(new Texture("temp_hero/hero_WEST_0")),
-		new Material(new Animation(new Texture[] {new Texture("temp_hero/hero_WEST_1"), new Texture("temp_hero/hero_WEST_2")}, 1.0)),
-	};
+	final private @NotNull Material[] materials;
 
 	/**
 	 * Hero's camera.
@@ -68,15 +63,19 @@ public class Hero extends Character {
 	public Hero(final @NotNull String name) {
 		super(name, Hero.SIZE, Hero.SIZE);
 
-		if(Hero.instance != null) {
-			System.err.println("Error: Hero constructor is called when a Hero already exists.");
-			new Exception().printStackTrace();
-			System.exit(1);
-		}
-		Hero.instance = this;
+		this.materials = new Material[] {
+			new Material(new Texture("temp_hero/hero_NORTH_0")),
+			new Material(new Animation(new Texture[] {new Texture("temp_hero/hero_NORTH_1"), new Texture("temp_hero/hero_NORTH_2")}, 1.0)),
+			new Material(new Texture("temp_hero/hero_EAST_0")),
+			new Material(new Animation(new Texture[] {new Texture("temp_hero/hero_EAST_1"), new Texture("temp_hero/hero_EAST_2")}, 1.0)),
+			new Material(new Texture("temp_hero/hero_SOUTH_0")),
+			new Material(new Animation(new Texture[] {new Texture("temp_hero/hero_SOUTH_1"), new Texture("temp_hero/hero_SOUTH_2")}, 1.0)),
+			new Material(new Texture("temp_hero/hero_WEST_0")),
+			new Material(new Animation(new Texture[] {new Texture("temp_hero/hero_WEST_1"), new Texture("temp_hero/hero_WEST_2")}, 1.0)),
+		};
 
 		this.camera = new Camera();
-		this.renderedComponent = new RenderedComponent(Hero.materials[4], Hero.SIZE, Hero.SIZE);
+		this.renderedComponent = new RenderedComponent(this.materials[4], Hero.SIZE, Hero.SIZE);
 
 		this.setPosition(new Vector2f(20, 15).mul(Options.TILE_SIZE)); // TODO: Give real position.
 		this.setDepth(-0.2f);
@@ -93,26 +92,17 @@ public class Hero extends Character {
 
 	@Override
 	final public void update(final double delta) {
-		final Vector2f velocity = new Vector2f(0, 0);
+		final Vector2f velocity = this.getInputVelocity();
 
-		// First we set the direction, then we normalize the vector and multiply by boosts.
-		if(Input.getKey(GameOptions.getKey("moveNorth").get())) velocity.addition(0, 1.0f);
-		if(Input.getKey(GameOptions.getKey("moveSouth").get())) velocity.addition(0, -1.0f);
-		if(Input.getKey(GameOptions.getKey("moveEast").get())) velocity.addition(1.0f, 0);
-		if(Input.getKey(GameOptions.getKey("moveWest").get())) velocity.addition(-1.0f, 0);
-		if(velocity.length() > 0.001f) velocity.normalize(); // Normalize if velocity isn't nul.
 		if(Input.getKey(GameOptions.getKey("sprint").get())) {
-			velocity.multiply(Hero.RUN_MULTIPLICATOR);
-
 			for(int i = 0; i < 4; i++) {
-				((Animation) Hero.materials[2*i+1].getImage()).setMaxTime(0.7f); // TODO: There must be a better way to do this (right now, checks and sets every frame).
+				((Animation) this.materials[2*i+1].getImage()).setMaxTime(0.7f); // TODO: There must be a better way to do this (right now, checks and sets every frame).
 			}
 		} else {
 			for(int i = 0; i < 4; i++) {
-				((Animation) Hero.materials[2*i+1].getImage()).setMaxTime(1.0f);
+				((Animation) this.materials[2*i+1].getImage()).setMaxTime(1.0f);
 			}
 		}
-		velocity.multiply(Hero.SPEED);
 		// TODO: Double key to sprint
 
 		if(!velocity.equals(this.getVelocity())) {
@@ -125,23 +115,61 @@ public class Hero extends Character {
 		super.update(delta);
 	}
 
+	/**
+	 * Predicts where the Hero is with the keys pressed right now, and renders him (and his camera) there until the next tick.
+	 * Collisions are not checked: the next tick corrects the position if needed.
+	 *
+	 * @param timeSinceTick Time since the last tick (in seconds)
+	 */
+	final public void latch(final double timeSinceTick) {
+		final Vector2f velocity = this.getInputVelocity();
+		final float tileSpeed = this.canFly() ? 1 : Map.getInstance().getTileSpeedOn(this.getPosition(), this.getPhysicsWidth(), this.getPhysicsHeight());
+
+		this.getTransform().setLatchedPosition(this.getPosition().add(velocity.mul((float)(timeSinceTick * Options.TILE_SIZE * tileSpeed))));
+	}
+
+	/**
+	 * Returns the Hero's velocity depending on the keys pressed.
+	 *
+	 * @return new Vector2f
+	 */
+	private @NotNull Vector2f getInputVelocity() {
+		final Vector2f velocity = new Vector2f(0, 0);
+
+		// First we set the direction, then we normalize the vector and multiply by boosts.
+		if(Input.getKey(GameOptions.getKey("moveNorth").get())) velocity.addition(0, 1.0f);
+		if(Input.getKey(GameOptions.getKey("moveSouth").get())) velocity.addition(0, -1.0f);
+		if(Input.getKey(GameOptions.getKey("moveEast").get())) velocity.addition(1.0f, 0);
+		if(Input.getKey(GameOptions.getKey("moveWest").get())) velocity.addition(-1.0f, 0);
+		if(velocity.length() > 0.001f) velocity.normalize(); // Normalize if velocity isn't nul.
+		if(Input.getKey(GameOptions.getKey("sprint").get())) velocity.multiply(Hero.RUN_MULTIPLICATOR);
+		velocity.multiply(Hero.SPEED);
+
+		return velocity;
+	}
+
 	@Override
 	public AABBCollider asCollider() {
 		return this.asAABBCollider();
 	}
 
+	@Override
+	protected boolean isAlwaysUpdated() {
+		return true; // Holds the camera: every update level is computed from where it is.
+	}
+
 	@Override
 	protected void refreshTexture() {
 		final byte direction = this.getDirection().getDirection();
 
 		if(direction == Direction.NORTH || direction == Direction.NORTH_EAST || direction == Direction.NORTH_WEST) {
-			this.renderedComponent.setMaterial(Hero.materials[this.isMoving() ? 1 : 0]);
+			this.renderedComponent.setMaterial(this.materials[this.isMoving() ? 1 : 0]);
 		} else if(direction == Direction.SOUTH || direction == Direction.SOUTH_EAST || direction == Direction.SOUTH_WEST || direction == Direction.NONE) {
-			this.renderedComponent.setMaterial(Hero.materials[this.isMoving() ? 5 : 4]);
+			this.renderedComponent.setMaterial(this.materials[this.isMoving() ? 5 : 4]);
 		} else if(direction == Direction.EAST) {
-			this.renderedComponent.setMaterial(Hero.materials[this.isMoving() ? 3 : 2]);
+			this.renderedComponent.setMaterial(this.materials[this.isMoving() ? 3 : 2]);
 		} else if(direction == Direction.WEST) {
-			this.renderedComponent.setMaterial(Hero.materials[this.isMoving() ? 7 : 6]);
+			this.renderedComponent.setMaterial(this.materials[this.isMoving() ? 7 : 6]);
 		} else {
 			System.err.println("Direction unknown!");
 			new Exception().printStackTrace();
@@ -164,8 +192,17 @@ public class Hero extends Character {
 	 * @return Hero::instance
 	 */
 	@Contract(pure = true)
-	public static Hero getInstance() {
+	public static @Nullable Hero getInstance() {
 		return Hero.instance;
 	}
 
+	/**
+	 * Sets the hero of the current scene.
+	 *
+	 * @param hero Hero to set (null = no world)
+	 */
+	public static void setInstance(final @Nullable Hero hero) {
+		Hero.instance = hero;
+	}
+
 }
\ No newline at end of file
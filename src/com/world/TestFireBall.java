@@ -4,6 +4,7 @@ import com.Options;
 import com.objects.characters.Character;
 import engine.audio.AudioObject;
 import engine.game.components.RenderedComponent;
+import engine.game.objects.GameObjectPool;
 import engine.math.Vector2f;
 import engine.physic.CollisionBehaviour;
 import engine.physic.MovementsAllowed;
@@ -21,22 +22,49 @@ public class TestFireBall extends PhysicsObject {
 	final public static Material MATERIAL = new Material(new Texture("circle"));
 
 	/**
-	 * Create a new TestFireBall instance.
+	 * Fire balls removed from the world, reused by the next ones launched (with their component and audio).
 	 */
-	public TestFireBall() {
+	final public static @NotNull GameObjectPool<TestFireBall> POOL = new GameObjectPool<TestFireBall>(32) {
+		@Override
+		protected @NotNull TestFireBall create() {
+			return new TestFireBall();
+		}
+	};
+
+	/**
+	 * Fire ball's sound.
+	 */
+	final private @NotNull AudioObject audio;
+
+	/**
+	 * Create a new TestFireBall instance (use TestFireBall::POOL and launch() instead).
+	 */
+	private TestFireBall() {
 		super("Test fire ball", Options.TILE_SIZE, Options.TILE_SIZE, CollisionBehaviour.BOUNCE, MovementsAllowed.FLY);
 
-		this.setPosition(new Vector2f(40 * Options.TILE_SIZE, 7.5f * Options.TILE_SIZE));
 		this.setDepth(-0.3f);
-		this.setVelocity(new Vector2f(-6, 6));
 
 		final RenderedComponent renderedComponent = new RenderedComponent(TestFireBall.MATERIAL, Options.TILE_SIZE, Options.TILE_SIZE);
 		this.addComponent(renderedComponent);
 
-		final AudioObject audio = new AudioObject("/fireplace_mono.wav");
-		audio.setVolume(0.5f);
-		this.addAudioObject(audio);
-		audio.play();
+		this.audio = new AudioObject("/fireplace_mono.wav");
+		this.audio.setVolume(0.5f);
+		this.addAudioObject(this.audio);
+	}
+
+	/**
+	 * Launches the fire ball (to add to the world right after).
+	 *
+	 * @param position Where the fire ball starts
+	 * @param velocity Fire ball's velocity
+	 * @return this
+	 */
+	final public @NotNull TestFireBall launch(final @NotNull Vector2f position, final @NotNull Vector2f velocity) {
+		this.setPosition(position);
+		this.setVelocity(velocity);
+		this.audio.play();
+
+		return this;
 	}
 
 	@Override
@@ -25,7 +25,7 @@ public class WorldObject extends GameObject {
 	/**
 	 * World's map.
 	 */
-	private Map map;
+	final private @NotNull Map map;
 
 	/**
 	 * World's hero.
@@ -37,8 +37,15 @@ public class WorldObject extends GameObject {
 	 */
 	final private @NotNull HUD hud;
 
+	/**
+	 * World's test tree.
+	 */
+	final private @NotNull GameObject tree;
+
 	/**
 	 * Create a new WorldObject instance.
+	 * Reads and parses the map's files and creates the world's GameObjects: may run on the scene loader's thread,
+	 * the world being attached and activated later (see WorldObject.init() and WorldObject.activate()).
 	 *
 	 * @param game Parent's game
 	 */
@@ -48,8 +55,11 @@ public class WorldObject extends GameObject {
 		this.game = game;
 		this.hero = new Hero("Dradeliomecus");
 		this.hud = new HUD(this.getHero());
+		this.map = new MainMap().init();
+		this.tree = new TestTree().init();
 		this.setPosition(new Vector2f(0.0f, 0.0f));
 		this.setDepth(WorldObject.DEPTH);
+		this.setSpatialChildren(true); // The world's entities are spread over the whole map.
 	}
 
 	@Override
@@ -57,18 +67,29 @@ public class WorldObject extends GameObject {
 		this.getHero().init();
 		this.addChild(this.getHero());
 		this.addChild(this.hud);
+		this.addChild(this.map);
+		this.addChild(this.tree);
+		//this.addChild(TestFireBall.POOL.obtain().launch(new Vector2f(40 * Options.TILE_SIZE, 7.5f * Options.TILE_SIZE), new Vector2f(-6, 6)));
 
-		this.getGame().getRenderingEngine().setMainCamera(this.getHero().getCamera());
+		return this;
+	}
 
-		this.map = new MainMap();
-		this.addChild(this.map);
-		this.map.init();
+	/**
+	 * Makes the world the current scene: uses the hero's camera, the world's hero and the world's map.
+	 * Called by the Game when the world replaces the previous scene (the world may have been created on the scene loader's thread).
+	 */
+	final public void activate() {
+		this.getGame().getRenderingEngine().setMainCamera(this.getHero().getCamera());
+		Hero.setInstance(this.getHero());
 		Map.setInstance(this.map);
+	}
 
-		this.addChild(new TestTree().init());
-		//this.addChild(new TestFireBall().init());
-
-		return this;
+	/**
+	 * Stops using the world's hero (e.g. for the listener's position).
+	 * Called by the Game when the world is replaced by another scene.
+	 */
+	final public void deactivate() {
+		Hero.setInstance(null);
 	}
 
 	/**
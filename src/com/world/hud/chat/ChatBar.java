@@ -101,7 +101,7 @@ public class ChatBar extends GameObject {
 		}
 
 		if(messageChanged) {
-			this.message.print(); // TODO: Maybe try something to not reprint the whole message all the time a key is pressed.
+			this.message.printLater(); // Printed once per frame at most, whatever the number of keys pressed.
 		}
 
 		if(Input.getKeyDown(GameOptions.getKey("openConsole").get(), true)) {
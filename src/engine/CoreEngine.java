@@ -4,18 +4,31 @@ import com.MainComponent;
 import com.Options;
 import engine.audio.AudioEngine;
 import engine.game.CoreGame;
+import engine.game.Transform;
+import engine.game.objects.map.Map;
 import engine.physic.PhysicsEngine;
+import engine.rendering.GLState;
+import engine.rendering.GLThread;
+import engine.rendering.RenderSnapshot;
 import engine.rendering.RenderingEngine;
 import engine.rendering.texture.TextureResource;
+import engine.util.FramePacer;
 import engine.util.Input;
 import engine.util.Time;
 import engine.util.Window;
+import engine.util.loading.AssetManifest;
+import engine.util.loading.AssetPreloader;
 import engine.util.profiling.Profiler;
+import engine.util.tasks.FrameTask;
+import engine.util.tasks.TaskGraph;
+import engine.util.tasks.WorkScheduler;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.lwjgl.opengl.ContextAttribs;
 
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.lwjgl.opengl.GL11.GL_VERSION;
 import static org.lwjgl.opengl.GL11.glDeleteTextures;
@@ -24,15 +37,30 @@ import static org.lwjgl.opengl.GL30.glDeleteFramebuffers;
 
 final public class CoreEngine {
 
+	/**
+	 * Maximum time the OpenGL thread waits for a snapshot or a task when pipelined (in ns).
+	 */
+	final private static long GL_THREAD_MAX_WAIT = 10000000L;
+
+	/**
+	 * Resources shared by the tick's tasks (see CoreEngine.createTickTasks()).
+	 */
+	final private static String INPUT = "Input", SCENE = "Scene", CAMERA = "Camera", CHUNKS = "Chunks", BROAD_PHASE = "BroadPhase", CONSOLE = "Console", LISTENER = "Listener";
+
 	/**
 	 * Is the Engine running right now.
 	 */
-	private boolean isRunning;
+	private volatile boolean isRunning;
+
+	/**
+	 * Is the Engine running without window, audio device and rendering (simulation only).
+	 */
+	final private boolean headless;
 
 	/**
-	 * Context Attributes for OpenGL version.
+	 * Context Attributes for OpenGL version (null if headless).
 	 */
-	final private ContextAttribs contextAttribs;
+	final private @Nullable ContextAttribs contextAttribs;
 
 	/**
 	 * Application's game.
@@ -40,38 +68,100 @@ final public class CoreEngine {
 	final private @NotNull CoreGame game;
 
 	/**
-	 * Application's rendering engine.
+	 * Application's rendering engine (null if headless).
 	 */
-	final private @NotNull RenderingEngine renderingEngine;
+	final private @Nullable RenderingEngine renderingEngine;
 
 	/**
 	 * Application's audio engine.
 	 */
 	final private @NotNull AudioEngine audioEngine;
 
+	/**
+	 * Assets preloaded at startup, released once the game is initialized (null if headless or released).
+	 */
+	private @Nullable AssetPreloader assetPreloader;
+
+	/**
+	 * Simulation time not processed yet by a tick (in seconds).
+	 */
+	private double unprocessedTime;
+
+	/**
+	 * Frame pacer used to wait between frames and ticks.
+	 */
+	final private @NotNull FramePacer framePacer;
+
+	/**
+	 * Last snapshot published by the logic thread, swapped with the one the OpenGL thread has just rendered (pipelined only).
+	 */
+	final private @NotNull AtomicReference<RenderSnapshot> publishedSnapshot;
+
+	/**
+	 * Tasks run every tick.
+	 */
+	final private @NotNull TaskGraph tickTasks;
+
+	/**
+	 * Delta of the tick being simulated (in seconds).
+	 */
+	private double tickDelta;
+
 	/**
 	 * Creates a new CoreEngine instance.
 	 *
 	 * @param game Game used for the application.
 	 */
 	public CoreEngine(final @NotNull CoreGame game) {
-		this.isRunning = false;
-
-		this.contextAttribs = new ContextAttribs(3, 3).withForwardCompatible(true).withProfileCore(true);
-		this.createWindow(Options.WINDOW_WIDTH, Options.WINDOW_HEIGHT, Options.WINDOW_TITLE, this.contextAttribs);
-
-		if(Options.DEBUG)
-			this.outputVersions();
+		this(game, false);
+	}
 
-		this.renderingEngine = new RenderingEngine();
-		game.setRenderingEngine(this.renderingEngine);
-		this.audioEngine = new AudioEngine(); // TODO: Initialize this later with the loading screen
-		Input.init(); // TODO: Initialize this later with the loading screen
+	/**
+	 * Creates a new CoreEngine instance.
+	 * A headless engine doesn't create the window, the OpenAL device, the inputs nor the rendering engine:
+	 * it can only run the simulation (see CoreEngine.startHeadless()).
+	 *
+	 * @param game Game used for the application.
+	 * @param headless true = no window, no audio, no rendering
+	 */
+	public CoreEngine(final @NotNull CoreGame game, final boolean headless) {
+		this.isRunning = false;
+		this.headless = headless;
+		this.unprocessedTime = 0.0;
+		this.framePacer = new FramePacer();
+		this.publishedSnapshot = new AtomicReference<>(new RenderSnapshot());
+
+		if(headless) {
+			this.contextAttribs = null;
+			this.renderingEngine = null;
+			this.audioEngine = new AudioEngine(false);
+			this.assetPreloader = null;
+		} else {
+			this.contextAttribs = new ContextAttribs(3, 3).withForwardCompatible(true).withProfileCore(true);
+			this.createWindow(Options.WINDOW_WIDTH, Options.WINDOW_HEIGHT, Options.WINDOW_TITLE, this.contextAttribs);
+			GLThread.bindCurrentThread();
+
+			// The assets are decoded in the background while the engine initializes.
+			final AssetManifest manifest = new AssetManifest();
+			game.fillAssetManifest(manifest);
+			this.assetPreloader = new AssetPreloader(manifest).start();
+
+			if(Options.DEBUG)
+				this.outputVersions();
+
+			this.renderingEngine = new RenderingEngine();
+			game.setRenderingEngine(this.renderingEngine);
+			this.audioEngine = new AudioEngine(true);
+			Input.init();
+
+			this.assetPreloader.waitForAssets(); // Uploads them behind the loading screen.
+		}
 
 		this.game = game.init(this);
+		this.tickTasks = this.createTickTasks();
 
 		if(Options.DEBUG)
-			System.out.println("CoreEngine has been initialized.");
+			System.out.println("CoreEngine has been initialized" + (headless ? " (headless)." : "."));
 	}
 
 	/**
@@ -94,87 +184,226 @@ final public class CoreEngine {
 			return;
 		}
 
-		if(Options.DEBUG) System.out.println("CoreEngine is starting.");
+		if(this.isHeadless()) {
+			System.err.println("Couldn't start the CoreEngine: Engine is headless, use startHeadless() instead.");
+			new Exception().printStackTrace();
+			return;
+		}
+
+		if(Options.DEBUG) System.out.println("CoreEngine is starting" + (Options.PIPELINED_RENDERING ? " (pipelined)." : "."));
+
+		if(Options.PIPELINED_RENDERING) this.runPipelined();
+		else                            this.run();
+	}
+
+	/**
+	 * Runs the simulation (input, update, physics) for a fixed number of ticks, as fast as possible,
+	 * then prints the ticks/sec and the Profiler's timings.
+	 * Nothing is rendered: the engine must have been created headless.
+	 *
+	 * @param ticks Number of ticks to simulate
+	 */
+	final public void startHeadless(final int ticks) {
+		if(this.isRunning) {
+			System.err.println("Couldn't start the CoreEngine: Engine already running.");
+			new Exception().printStackTrace();
+			return;
+		}
+
+		if(!this.isHeadless()) {
+			System.err.println("Couldn't start the CoreEngine headless: Engine has been created with a window.");
+			new Exception().printStackTrace();
+			return;
+		}
+
+		if(ticks < 1) {
+			System.err.println("Error: the number of ticks should be at least 1, ticks: " + ticks);
+			throw new IllegalArgumentException();
+		}
 
-		this.run();
+		if(Options.DEBUG) System.out.println("CoreEngine is starting headless for " + ticks + " ticks.");
+
+		this.runHeadless(ticks);
 	}
 
 	/**
 	 * Runs the engine.
+	 * The simulation runs at Options.TICKS_PER_SECOND, the frames are rendered at most Options.MAX_FRAMES_PER_SECOND
+	 * and interpolated between the last two ticks.
 	 */
 	private void run() {
 		this.isRunning = true;
 
 		int frames = 0;
+		int ticks = 0;
 		long frameCounter = 0L;
 
-		this.game.init();
+		this.initGame();
 
 		long lastFrameTime = Time.getNanoTime(); // When did the last frame start
-		double unprocessedTime = 0.0; // How many time do I still need to update the game
+		double unrenderedTime = 0.0; // How many time since the last frame has been rendered
 
 		if(Options.DEBUG) System.out.println("CoreEngine is running. It took " + (Time.getNanoTime() - MainComponent.APPLICATION_START) * Time.NANO_TO_MILLI + "ms to get here.\n");
 
 		while(this.isRunning) {
-			final double frameTime = 1.0 / Options.MAX_FRAMES_PER_SECOND.get(); // How long should a frame take
-			boolean render = false;
+			final boolean minimised = !Window.isVisible();
+			final boolean background = minimised || !Window.isActive();
+			final double frameTime = 1.0 / (background ? FramePacer.BACKGROUND_FRAMES_PER_SECOND : Options.MAX_FRAMES_PER_SECOND.get()); // How long should a frame take
 
 			final long startTime = Time.getNanoTime(); // When did this frame start
 			final long passedTime = startTime - lastFrameTime; // Time the last frame took
 			lastFrameTime = startTime;
 
-			unprocessedTime += ((double) passedTime / Time.SECOND_TO_NANO);
+			unrenderedTime += ((double) passedTime / Time.SECOND_TO_NANO);
 			frameCounter += passedTime;
 
-			while(unprocessedTime > frameTime) {
-				render = true;
+			if(Window.isCloseRequested()) this.stop();
+
+			final int ticksDone = this.simulateTicks((double) passedTime / Time.SECOND_TO_NANO);
+			if(ticksDone > 0) {
+				ticks += ticksDone;
+				CoreEngine.cleanMemory();
+			}
 
-				unprocessedTime -= frameTime;
+			// Uploads of the background loaders, a slice each frame: the current scene keeps rendering meanwhile.
+			Profiler.startProfileTimer("GLTasks");
+			GLThread.processTasks((long) (Options.UPLOAD_BUDGET * Time.SECOND_TO_NANO / 1000.0));
+			Profiler.stopProfileTimer("GLTasks");
 
-				if(Window.isCloseRequested()) this.stop();
+			if(frameCounter >= Time.SECOND_TO_NANO) {
+				if(Profiler.isOn()) {
+					final double totalTime = (1000.0 * frameCounter * Time.NANO_TO_SECOND) / (double) frames;
 
-				Profiler.startProfileTimer("Input");
-				this.game.input();
-				Input.update();
-				Profiler.stopProfileTimer("Input");
+					CoreEngine.displayPacing(this.framePacer);
+					WorkScheduler.displayStatistics();
+					Profiler.displayAndResetTime(totalTime, frames);
+				}
 
-				Profiler.startProfileTimer("Update");
-				Profiler.update();
-				Profiler.startProfileTimer("Update-Physics");
-				PhysicsEngine.update(frameTime);
-				Profiler.stopProfileTimer("Update-Physics");
-				this.game.update(frameTime);
-				Profiler.stopProfileTimer("Update");
-				this.getAudioEngine().update();
+				if(Options.DEBUG) System.out.println(frames + " frames/sec, " + ticks + " ticks/sec.");
+				frames = 0;
+				ticks = 0;
+				frameCounter = 0L;
+			}
 
-				CoreEngine.cleanMemory();
+			if(unrenderedTime >= frameTime && this.isRunning) {
+				unrenderedTime %= frameTime;
 
-				if(frameCounter >= Time.SECOND_TO_NANO) {
-					if(Profiler.isOn()) {
-						final double totalTime = (1000.0 * frameCounter * Time.NANO_TO_SECOND) / (double) frames;
+				if(minimised) {
+					Window.processMessages();
+				} else {
+					if(Options.LATE_LATCH) this.lateLatch();
+					final long inputTime = Input.getLastSampleTime();
 
-						Profiler.displayAndResetTime(totalTime, frames);
-					}
+					this.renderingEngine.setInterpolation(this.getInterpolation());
+					this.render();
+					this.framePacer.frameShown(inputTime);
 
-					if(Options.DEBUG) System.out.println(frames + " frames/sec.");
-					frames = 0;
-					frameCounter = 0L;
+					frames++;
+					this.framePacer.frameRendered(frameTime);
 				}
 			}
 
-			if(render) {
-				this.render();
+			// Waits for the next frame, or the next tick when the window is active.
+			double waitTime = frameTime - unrenderedTime;
+			if(!background) waitTime = Math.min(waitTime, 1.0 / Options.TICKS_PER_SECOND - this.unprocessedTime);
+
+			Profiler.startProfileTimer("Sleep");
+			this.framePacer.waitUntil(startTime + (long) (waitTime * Time.SECOND_TO_NANO));
+			Profiler.stopProfileTimer("Sleep");
+		}
+
+		this.cleanUp();
+
+		if(Options.DEBUG) System.out.println("Application exiting.");
+
+		System.exit(0);
+	}
+
+	/**
+	 * Runs the engine with the simulation on a logic thread and the rendering on this (OpenGL) thread.
+	 * At the end of its ticks, the logic thread captures a RenderSnapshot and publishes it;
+	 * the OpenGL thread renders the last published snapshot and executes the OpenGL tasks queued by the simulation.
+	 */
+	private void runPipelined() {
+		this.isRunning = true;
+
+		int frames = 0;
+		long frameCounter = 0L;
+
+		this.initGame();
+
+		final Thread logicThread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				CoreEngine.this.runLogic();
+			}
+		}, "Logic thread");
+		logicThread.start();
+
+		RenderSnapshot snapshot = new RenderSnapshot(); // Snapshot owned by the OpenGL thread
+		final FramePacer presentPacer = new FramePacer(); // Statistics of the OpenGL thread (the logic thread owns CoreEngine.framePacer)
+		long lastRenderedFrame = 0L;
+		long lastFrameTime = Time.getNanoTime();
+
+		if(Options.DEBUG) System.out.println("CoreEngine is running. It took " + (Time.getNanoTime() - MainComponent.APPLICATION_START) * Time.NANO_TO_MILLI + "ms to get here.\n");
+
+		while(this.isRunning) {
+			final long startTime = Time.getNanoTime();
+			frameCounter += startTime - lastFrameTime;
+			lastFrameTime = startTime;
+
+			if(Window.isCloseRequested()) this.stop();
+
+			Profiler.startProfileTimer("GLTasks");
+			GLThread.processTasks((long) (Options.UPLOAD_BUDGET * Time.SECOND_TO_NANO / 1000.0));
+			Profiler.stopProfileTimer("GLTasks");
+
+			CoreEngine.cleanMemory();
+
+			if(this.publishedSnapshot.get().getFrame() > lastRenderedFrame) {
+				snapshot = this.publishedSnapshot.getAndSet(snapshot);
+				lastRenderedFrame = snapshot.getFrame();
+
+				this.render(snapshot);
+				presentPacer.frameShown(snapshot.getInputTime());
 
 				frames++;
-			} else {
-				try {
-					Profiler.startProfileTimer("Sleep");
-					Thread.sleep(1);
-					Profiler.stopProfileTimer("Sleep");
-				} catch(final InterruptedException e) {
-					e.printStackTrace();
-					System.exit(1);
+				presentPacer.frameRendered(1.0 / Options.MAX_FRAMES_PER_SECOND.get());
+			} else if(!Window.isVisible()) {
+				Window.processMessages();
+			}
+
+			// Sleeps until the logic thread publishes a snapshot or queues an OpenGL task.
+			Profiler.startProfileTimer("Sleep");
+			final long waitStart = Time.getNanoTime();
+			GLThread.waitForWork(CoreEngine.GL_THREAD_MAX_WAIT);
+			presentPacer.addIdleTime(Time.getNanoTime() - waitStart);
+			Profiler.stopProfileTimer("Sleep");
+
+			if(frameCounter >= Time.SECOND_TO_NANO) {
+				if(Profiler.isOn()) {
+					final double totalTime = (1000.0 * frameCounter * Time.NANO_TO_SECOND) / (double) frames;
+
+					CoreEngine.displayPacing(presentPacer);
+					WorkScheduler.displayStatistics();
+					Profiler.displayAndResetTime(totalTime, frames);
 				}
+
+				if(Options.DEBUG) System.out.println(frames + " frames/sec.");
+				frames = 0;
+				frameCounter = 0L;
+			}
+		}
+
+		// The logic thread may be waiting for an OpenGL task: keep executing them until it's over.
+		while(logicThread.isAlive()) {
+			GLThread.processTasks();
+
+			try {
+				logicThread.join(1);
+			} catch(final InterruptedException e) {
+				e.printStackTrace();
+				System.exit(1);
 			}
 		}
 
@@ -185,6 +414,233 @@ final public class CoreEngine {
 		System.exit(0);
 	}
 
+	/**
+	 * Runs the simulation on the logic thread (pipelined only) and publishes a RenderSnapshot at most Options.MAX_FRAMES_PER_SECOND.
+	 */
+	private void runLogic() {
+		RenderSnapshot snapshot = new RenderSnapshot(); // Snapshot owned by the logic thread
+		long frame = 0L;
+
+		long lastFrameTime = Time.getNanoTime();
+		double unrenderedTime = 0.0;
+
+		try {
+			while(this.isRunning) {
+				final boolean background = !Window.isVisible() || !Window.isActive();
+				final double frameTime = 1.0 / (background ? FramePacer.BACKGROUND_FRAMES_PER_SECOND : Options.MAX_FRAMES_PER_SECOND.get());
+
+				final long startTime = Time.getNanoTime();
+				final double passedTime = (double) (startTime - lastFrameTime) / Time.SECOND_TO_NANO;
+				lastFrameTime = startTime;
+
+				unrenderedTime += passedTime;
+				this.simulateTicks(passedTime);
+
+				if(unrenderedTime >= frameTime && this.isRunning) {
+					unrenderedTime %= frameTime;
+
+					Profiler.startProfileTimer("Capture");
+					if(Options.LATE_LATCH) this.lateLatch();
+
+					this.renderingEngine.setInterpolation(this.getInterpolation());
+					this.game.capture(this.renderingEngine, snapshot);
+					snapshot.setFrame(++frame);
+					snapshot = this.publishedSnapshot.getAndSet(snapshot);
+					GLThread.wakeUp();
+					Profiler.stopProfileTimer("Capture");
+				}
+
+				double waitTime = frameTime - unrenderedTime;
+				if(!background) waitTime = Math.min(waitTime, 1.0 / Options.TICKS_PER_SECOND - this.unprocessedTime);
+
+				this.framePacer.waitUntil(startTime + (long) (waitTime * Time.SECOND_TO_NANO));
+			}
+		} catch(final Throwable e) {
+			System.err.println("Error: the logic thread has crashed.");
+			e.printStackTrace();
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Gives the frame pacing statistics to the Profiler and resets them.
+	 *
+	 * @param pacer Frame pacer of the rendering thread
+	 */
+	private static void displayPacing(final @NotNull FramePacer pacer) {
+		Profiler.setValue("Frame jitter", pacer.getJitter() + " ms");
+		Profiler.setValue("Idle CPU", pacer.getIdlePercentage() + " %");
+		Profiler.setValue("Oversleep", pacer.getOversleep() + " ms");
+		Profiler.setValue("Input latency", pacer.getAverageLatency() + " ms (max " + pacer.getMaxLatency() + " ms)");
+		pacer.resetStatistics();
+	}
+
+	/**
+	 * Runs the engine headless: only the simulation, for a fixed number of ticks.
+	 *
+	 * @param ticks Number of ticks to simulate
+	 */
+	private void runHeadless(final int ticks) {
+		this.isRunning = true;
+
+		if(Profiler.isOff()) Profiler.setActive(true, false);
+
+		this.initGame();
+
+		final double tickTime = 1.0 / Options.TICKS_PER_SECOND; // Simulated duration of a tick
+		final long startTime = Time.getNanoTime();
+
+		int ticksDone = 0;
+		while(this.isRunning && ticksDone < ticks) {
+			this.simulate(tickTime);
+			WorkScheduler.run();
+			ticksDone++;
+		}
+
+		final long totalTime = Time.getNanoTime() - startTime;
+
+		WorkScheduler.displayStatistics();
+		System.out.println("Headless simulation: " + ticksDone + " ticks in " + totalTime * Time.NANO_TO_MILLI + "ms (" + (ticksDone / (totalTime * Time.NANO_TO_SECOND)) + " ticks/sec, " + tickTime * 1000.0 + "ms simulated per tick).");
+		Profiler.displayAndResetTime(totalTime * Time.NANO_TO_MILLI / ticksDone, ticksDone);
+
+		this.isRunning = false;
+		this.cleanUp();
+
+		if(Options.DEBUG) System.out.println("Headless simulation is over.");
+	}
+
+	/**
+	 * Adds the time passed to the unprocessed time and simulates as many ticks as it contains,
+	 * with at most Options.MAX_TICKS_PER_FRAME ticks: the time that can't be caught up is dropped.
+	 * If a tick has been simulated, the deferred work is then done within its budget (see WorkScheduler).
+	 *
+	 * @param passedTime Time passed since the last call (in seconds)
+	 * @return Number of ticks simulated
+	 */
+	private int simulateTicks(final double passedTime) {
+		final double tickTime = 1.0 / Options.TICKS_PER_SECOND;
+		this.unprocessedTime += passedTime;
+
+		int ticks = 0;
+		while(this.unprocessedTime >= tickTime && ticks < Options.MAX_TICKS_PER_FRAME && this.isRunning) {
+			this.unprocessedTime -= tickTime;
+			this.simulate(tickTime);
+			ticks++;
+		}
+
+		if(ticks > 0) {
+			WorkScheduler.run();
+		}
+
+		if(this.unprocessedTime >= tickTime && this.isRunning) {
+			final int skippedTicks = (int) (this.unprocessedTime / tickTime);
+			this.unprocessedTime -= skippedTicks * tickTime;
+
+			if(Options.DEBUG) System.out.println("CoreEngine can't keep up, " + skippedTicks + " ticks skipped.");
+		}
+
+		return ticks;
+	}
+
+	/**
+	 * Polls the inputs again and lets the game move what follows them, right before a frame is captured.
+	 */
+	private void lateLatch() {
+		Profiler.startProfileTimer("LateLatch");
+		Input.latch();
+		this.game.lateLatch(this.unprocessedTime);
+		Profiler.stopProfileTimer("LateLatch");
+	}
+
+	/**
+	 * Returns how far the engine is between the last tick and the next one.
+	 *
+	 * @return Interpolation factor between 0 and 1
+	 */
+	@Contract(pure = true)
+	private float getInterpolation() {
+		return (float) Math.min(1.0, this.unprocessedTime * Options.TICKS_PER_SECOND);
+	}
+
+	/**
+	 * Simulates one tick: inputs, physics, game's update and audio.
+	 *
+	 * @param delta Duration of the tick (in seconds)
+	 */
+	private void simulate(final double delta) {
+		Transform.nextTick();
+
+		this.tickDelta = delta;
+
+		Profiler.startProfileTimer("Update");
+		this.tickTasks.run();
+		Profiler.stopProfileTimer("Update");
+	}
+
+	/**
+	 * Creates the tasks run every tick, in the order they would run one after the other.
+	 * The inputs and the game's update are pinned: they can make OpenGL calls and modify the whole scene.
+	 * The Profiler's console and the chunks preparation (only computing which chunks the update creates) run while the inputs are processed,
+	 * and the physics' broad phase only reads the scene, once the inputs have set the velocities.
+	 *
+	 * @return new TaskGraph
+	 */
+	private @NotNull TaskGraph createTickTasks() {
+		final TaskGraph graph = new TaskGraph("Update", Options.PARALLEL_SYSTEMS);
+
+		graph.addTask(new FrameTask("Profiler", false, new String[] {}, new String[] {CoreEngine.CONSOLE}) {
+			@Override
+			public void run() {
+				Profiler.update();
+			}
+		});
+
+		graph.addTask(new FrameTask("Chunks", false, new String[] {CoreEngine.CAMERA}, new String[] {CoreEngine.CHUNKS}) {
+			@Override
+			public void run() {
+				if(Map.getInstance() != null) Map.getInstance().prepareChunks();
+			}
+		});
+
+		graph.addTask(new FrameTask("Input", true, new String[] {}, new String[] {CoreEngine.INPUT, CoreEngine.SCENE}) {
+			@Override
+			public void run() {
+				CoreEngine.this.game.input();
+				if(!CoreEngine.this.isHeadless()) Input.update();
+			}
+		});
+
+		graph.addTask(new FrameTask("BroadPhase", false, new String[] {CoreEngine.SCENE}, new String[] {CoreEngine.BROAD_PHASE}) {
+			@Override
+			public void run() {
+				PhysicsEngine.computeBroadPhase(CoreEngine.this.tickDelta);
+			}
+		});
+
+		graph.addTask(new FrameTask("Physics", false, new String[] {CoreEngine.BROAD_PHASE}, new String[] {CoreEngine.SCENE}) {
+			@Override
+			public void run() {
+				PhysicsEngine.update(CoreEngine.this.tickDelta);
+			}
+		});
+
+		graph.addTask(new FrameTask("Game", true, new String[] {CoreEngine.INPUT}, new String[] {CoreEngine.SCENE, CoreEngine.CAMERA, CoreEngine.CHUNKS}) {
+			@Override
+			public void run() {
+				CoreEngine.this.game.update(CoreEngine.this.tickDelta);
+			}
+		});
+
+		graph.addTask(new FrameTask("Audio", false, new String[] {CoreEngine.SCENE}, new String[] {CoreEngine.LISTENER}) {
+			@Override
+			public void run() {
+				CoreEngine.this.getAudioEngine().update();
+			}
+		});
+
+		return graph;
+	}
+
 	/**
 	 * Clears the memory from all things not used anymore.
 	 */
@@ -198,6 +654,7 @@ final public class CoreEngine {
 		for(final int id : buffersToDelete) {
 			try {
 				glDeleteTextures(id);
+				GLState.forgetTexture(id);
 			} catch(final Exception e) {
 				System.out.println("Error when deleting id n°" + id);
 				e.printStackTrace();
@@ -207,6 +664,7 @@ final public class CoreEngine {
 		for(final int fbo : fboToDelete) {
 			try {
 				glDeleteFramebuffers(fbo);
+				GLState.forgetFramebuffer(fbo);
 			} catch(final Exception e) {
 				System.out.println("Error when deleting fbo n°" + fbo);
 				e.printStackTrace();
@@ -219,8 +677,10 @@ final public class CoreEngine {
 	 * This method should be called before exiting the application.
 	 */
 	private void cleanUp() {
-		Window.dispose();
-		Input.destroy();
+		if(!this.isHeadless()) {
+			Window.dispose();
+			Input.destroy();
+		}
 		this.getAudioEngine().cleanUp();
 
 		if(Options.DEBUG) System.out.println("\nCoreEngine has been cleanedUp.");
@@ -241,6 +701,18 @@ final public class CoreEngine {
 		if(Options.DEBUG) System.out.println("\nStopping the CoreEngine has been requested.");
 	}
 
+	/**
+	 * Initializes the game, then releases the preloaded assets it doesn't use.
+	 */
+	private void initGame() {
+		this.game.init();
+
+		if(this.assetPreloader != null) {
+			this.assetPreloader.release();
+			this.assetPreloader = null;
+		}
+	}
+
 	/**
 	 * Renders a frame.
 	 */
@@ -255,15 +727,40 @@ final public class CoreEngine {
 	}
 
 	/**
-	 * Returns the Rendering Engine.
+	 * Renders a frame captured by the logic thread.
+	 *
+	 * @param snapshot Snapshot to render
+	 */
+	private void render(final @NotNull RenderSnapshot snapshot) {
+		Profiler.startProfileTimer("Render");
+		this.renderingEngine.render(snapshot);
+		Profiler.stopProfileTimer("Render");
+
+		Profiler.startProfileTimer("WindowSync");
+		Window.render();
+		Profiler.stopProfileTimer("WindowSync");
+	}
+
+	/**
+	 * Returns the Rendering Engine (null if the engine is headless).
 	 *
 	 * @return CoreEngine.renderingEngine
 	 */
 	@Contract(pure = true)
-	final public @NotNull RenderingEngine getRenderingEngine() {
+	final public @Nullable RenderingEngine getRenderingEngine() {
 		return this.renderingEngine;
 	}
 
+	/**
+	 * Returns whether the engine runs without window, audio and rendering.
+	 *
+	 * @return CoreEngine.headless
+	 */
+	@Contract(pure = true)
+	final public boolean isHeadless() {
+		return this.headless;
+	}
+
 	/**
 	 * Returns the Audio Engine.
 	 *
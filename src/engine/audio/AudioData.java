@@ -13,9 +13,15 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.ShortBuffer;
+import java.util.HashMap;
 
 class AudioData {
 
+	/**
+	 * Audio data decoded in advance, waiting for the AudioObject that will use it (see AudioData::preload()).
+	 */
+	final private static @NotNull HashMap<String, AudioData> preloaded = new HashMap<>();
+
 	/**
 	 * Audio's data.
 	 */
@@ -82,6 +88,43 @@ class AudioData {
 		this.getData().clear();
 	}
 
+	/**
+	 * Decodes a file in advance (can be called from any thread): AudioData::take() then returns it without reading the file.
+	 *
+	 * @param path File's path (without /media/audio/ ; extension required)
+	 * @return false if there was a problem while loading the audio file
+	 */
+	static boolean preload(final @NotNull String path) {
+		final AudioData audioData = AudioData.create(path);
+
+		if(audioData == null) {
+			return false;
+		}
+
+		synchronized(AudioData.preloaded) {
+			AudioData.preloaded.put(path, audioData);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the AudioData decoded in advance for a file, or creates it.
+	 * Returns null if there was a problem while loading the audio file.
+	 *
+	 * @param path File's path (without /media/audio/ ; extension required)
+	 * @return AudioData
+	 */
+	static @Nullable AudioData take(final @NotNull String path) {
+		final AudioData audioData;
+
+		synchronized(AudioData.preloaded) {
+			audioData = AudioData.preloaded.remove(path);
+		}
+
+		return audioData != null ? audioData : AudioData.create(path);
+	}
+
 	/**
 	 * Returns an AudioData corresponding to a file.
 	 * Returns null if there was a problem while loading the audio file.
@@ -18,10 +18,30 @@ import static org.lwjgl.openal.AL11.AL_LINEAR_DISTANCE_CLAMPED;
 
 final public class AudioEngine {
 
+	/**
+	 * Is the OpenAL device created (false when the engine is headless).
+	 */
+	final private boolean enabled;
+
 	/**
 	 * Creates a new AudioEngine instance.
 	 */
 	public AudioEngine() {
+		this(true);
+	}
+
+	/**
+	 * Creates a new AudioEngine instance.
+	 *
+	 * @param enabled false = no OpenAL device is created and the AudioEngine does nothing
+	 */
+	public AudioEngine(final boolean enabled) {
+		this.enabled = enabled;
+
+		if(!enabled) {
+			return;
+		}
+
 		try {
 			AL.create();
 		} catch(final LWJGLException e) {
@@ -36,6 +56,10 @@ final public class AudioEngine {
 	 * Updates the AudioEngine.
 	 */
 	final public void update() {
+		if(!this.isEnabled()) {
+			return;
+		}
+
 		alListenerf(AL_GAIN, GameOptions.getSlide("generalVolume").getValue()*0.01f);
 		if(Hero.getInstance() != null) {
 			alListener3f(AL_POSITION, Hero.getInstance().getPosition().getX(), Hero.getInstance().getPosition().getY(), 0.0f);
@@ -55,7 +79,18 @@ final public class AudioEngine {
 	 * Called when application closes.
 	 */
 	final public void cleanUp() {
-		AL.destroy();
+		if(this.isEnabled()) {
+			AL.destroy();
+		}
+	}
+
+	/**
+	 * Returns whether the OpenAL device has been created.
+	 *
+	 * @return AudioEngine.enabled
+	 */
+	final public boolean isEnabled() {
+		return this.enabled;
 	}
 
 }
\ No newline at end of file
@@ -54,7 +54,7 @@ public class AudioObject {
 		}
 
 		// Loading the audio data and putting it in the buffer.
-		final AudioData audioData = AudioData.create(fileName);
+		final AudioData audioData = AudioData.take(fileName);
 		if(audioData == null) {
 			System.err.println("Error while loading audio's data.");
 			System.err.println(this);
@@ -78,6 +78,17 @@ public class AudioObject {
 		this.setVolume(1.0f);
 	}
 
+	/**
+	 * Decodes an audio file in advance (can be called from any thread):
+	 * the next AudioObject created from this file doesn't have to read it.
+	 *
+	 * @param fileName File's name from the folder "media/audio" with the extension.
+	 * @return false if the file couldn't be loaded
+	 */
+	public static boolean preload(final @NotNull String fileName) {
+		return AudioData.preload(fileName);
+	}
+
 	/**
 	 * Sets the audio's volume (where 1.0 is the normal volume).
 	 *
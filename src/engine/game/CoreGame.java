@@ -3,9 +3,11 @@ package engine.game;
 import engine.CoreEngine;
 import engine.game.components.GameComponent;
 import engine.game.objects.GameObject;
+import engine.rendering.RenderSnapshot;
 import engine.rendering.RenderingEngine;
 import engine.rendering.shader.Shader;
 import engine.util.GameInterface;
+import engine.util.loading.AssetManifest;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -69,6 +71,36 @@ abstract public class CoreGame implements GameInterface {
 		renderingEngine.render(this.getRootObject());
 	}
 
+	/**
+	 * Adds the assets to preload at startup, behind the loading screen (see AssetPreloader).
+	 * Called before the game is initialized: the assets listed here are then loaded without any file read.
+	 *
+	 * @param manifest Manifest to fill
+	 */
+	public void fillAssetManifest(final @NotNull AssetManifest manifest) {
+
+	}
+
+	/**
+	 * Called right before a frame is captured, after the inputs have been polled again (late latch, see Options.LATE_LATCH).
+	 * Lets the game move what follows the inputs (e.g. the hero and his camera) to where it's predicted to be.
+	 *
+	 * @param timeSinceTick Time since the last tick (in seconds)
+	 */
+	public void lateLatch(final double timeSinceTick) {
+
+	}
+
+	/**
+	 * Captures the draw records of all objects and components in the snapshot, without any OpenGL call.
+	 *
+	 * @param renderingEngine Rendering engine to capture with
+	 * @param snapshot Snapshot to fill
+	 */
+	public void capture(final @NotNull RenderingEngine renderingEngine, final @NotNull RenderSnapshot snapshot) {
+		renderingEngine.capture(this.getRootObject(), snapshot);
+	}
+
 	@Override
 	final public void render(final @NotNull Shader shader, final @Nullable ArrayList<GameComponent> renderLater) {
 		System.err.println("Error: CoreGame.render should never be called.");
@@ -1,5 +1,6 @@
 package engine.game;
 
+import engine.game.store.EntityPage;
 import engine.math.Matrix4f;
 import engine.math.Vector2f;
 import engine.math.Vector3f;
@@ -11,6 +12,11 @@ import org.jetbrains.annotations.Nullable;
 
 final public class Transform {
 
+	/**
+	 * Current simulation tick (incremented by the CoreEngine before each tick).
+	 */
+	private static long currentTick = 0L;
+
 	/**
 	 * Transform's position.
 	 */
@@ -26,6 +32,16 @@ final public class Transform {
 	 */
 	private @NotNull Vector2f scale;
 
+	/**
+	 * Page of the EntityStore the rotation and scale are stored in, instead of the fields above (null = none, see Transform.bind()).
+	 */
+	private @Nullable EntityPage page;
+
+	/**
+	 * Transform's index in the page.
+	 */
+	private int index;
+
 	/**
 	 * Transform has changed.
 	 */
@@ -41,10 +57,108 @@ final public class Transform {
 	 */
 	private @Nullable Transform parent;
 
+	/**
+	 * Number of changes of the Transform (position, rotation, scale, depth or parent).
+	 */
+	private long version;
+
+	/**
+	 * Number of times the world state (see below) has been calculated.
+	 * Children compare it with the one they used to know whether their own world state is outdated.
+	 */
+	private long worldVersion;
+
+	/**
+	 * Transform's version when the world state was calculated.
+	 */
+	private long cachedVersion;
+
+	/**
+	 * Parent's world version when the world state was calculated (-1 = no parent).
+	 */
+	private long cachedParentVersion;
+
+	/**
+	 * World transformation matrix: the parents' one multiplied by the Transform's one (null = not calculated yet).
+	 */
+	private @Nullable Matrix4f worldTransformation;
+
+	/**
+	 * World position: the Transform's position added by all parent's position.
+	 */
+	final private @NotNull Vector2f worldPosition;
+
+	/**
+	 * World rotation: the Transform's rotation added by all parent's rotation.
+	 */
+	private double worldRotation;
+
+	/**
+	 * World scale: the Transform's scale multiplied by all parent's scale.
+	 */
+	final private @NotNull Vector2f worldScale;
+
+	/**
+	 * World depth: the Transform's depth added by all parent's depth.
+	 */
+	private float worldDepth;
+
+	/**
+	 * Transform's position at the end of the previous tick.
+	 */
+	final private @NotNull Position previousPosition;
+
+	/**
+	 * Transform's rotation at the end of the previous tick.
+	 */
+	private double previousRotation;
+
+	/**
+	 * Transform's scale at the end of the previous tick.
+	 */
+	private @NotNull Vector2f previousScale;
+
+	/**
+	 * Tick during which the previous state has been saved (the Transform changed during that tick).
+	 */
+	private long savedTick;
+
+	/**
+	 * Position predicted right before rendering (late latch), used instead of the interpolation (null = none).
+	 */
+	private @Nullable Vector2f latchedPosition;
+
+	/**
+	 * Tick during which the position has been latched (the latched position expires with the tick).
+	 */
+	private long latchedTick;
+
+	/**
+	 * Tick during which the Transform has been created or restarted (nothing to interpolate from during that tick).
+	 */
+	private long createdTick;
+
 	/**
 	 * Creates a new Transform instance.
 	 */
 	public Transform() {
+		this.previousPosition = new Position();
+		this.previousScale = new Vector2f(1, 1);
+		this.savedTick = -1L;
+		this.latchedPosition = null;
+		this.latchedTick = -1L;
+		this.createdTick = Transform.currentTick;
+
+		this.version = 0L;
+		this.worldVersion = 0L;
+		this.cachedVersion = -1L;
+		this.cachedParentVersion = -1L;
+		this.worldTransformation = null;
+		this.worldPosition = new Vector2f();
+		this.worldRotation = 0.0;
+		this.worldScale = new Vector2f(1, 1);
+		this.worldDepth = 0.0f;
+
 		this.position = new Position();
 		this.setRotation(0.0);
 		this.scale = new Vector2f(1, 1);
@@ -65,41 +179,136 @@ final public class Transform {
 	}
 
 	/**
-	 * Returns the calculated transformation matrix.
+	 * Returns the world transformation matrix (the parents' one multiplied by the Transform's one).
+	 * It's cached: calculated again only if the Transform or one of its parents has changed.
+	 * The matrix is shared, it must not be modified.
 	 *
-	 * @return new Matrix4f
+	 * @return Transform.worldTransformation
 	 */
 	final public @NotNull Matrix4f getTransformedTransformation() {
-		final boolean profiling = !Profiler.isProfileTimerRunning("Render-TransformCalc.");
+		// Called from several threads: only the one that started the timer stops it.
+		final boolean profiling = Profiler.startProfileTimerIfIdle("Render-TransformCalc.");
+		final Matrix4f result;
+
+		synchronized(this) {
+			this.updateWorld();
+			result = this.worldTransformation;
+		}
 
 		if(profiling) {
-			Profiler.startProfileTimer("Render-TransformCalc.");
+			Profiler.stopProfileTimer("Render-TransformCalc.");
 		}
 
-		if(this.hasChanged()) {
-			final Matrix4f translation = new Matrix4f().initPosition(this.getPosition().getX(), this.getPosition().getY(), this.getDepth());
+		return result;
+	}
+
+	/**
+	 * Calculates the world state again if the Transform or one of its parents has changed since the last time.
+	 * Must be called with the Transform's lock (the parents are locked after their child: children can be updated in parallel).
+	 */
+	private void updateWorld() {
+		final Transform parent = this.getParent();
+
+		if(parent == null) {
+			if(this.worldTransformation != null && this.cachedVersion == this.version && this.cachedParentVersion == -1L) {
+				return;
+			}
+
+			this.worldTransformation = this.getLocalTransformation();
+			this.worldPosition.set(this.position.getXAsFloat(), this.position.getYAsFloat());
+			this.worldRotation = this.getRotation();
+			this.worldScale.set(this.getScaleX(), this.getScaleY());
+			this.worldDepth = this.getDepth();
+			this.cachedParentVersion = -1L;
+		} else {
+			synchronized(parent) {
+				parent.updateWorld();
+
+				if(this.worldTransformation != null && this.cachedVersion == this.version && this.cachedParentVersion == parent.worldVersion) {
+					return;
+				}
+
+				this.worldTransformation = parent.worldTransformation.mul(this.getLocalTransformation());
+				this.worldPosition.set(parent.worldPosition.getX() + this.position.getXAsFloat(), parent.worldPosition.getY() + this.position.getYAsFloat());
+				this.worldRotation = parent.worldRotation + this.getRotation();
+				this.worldScale.set(parent.worldScale.getX() * this.getScaleX(), parent.worldScale.getY() * this.getScaleY());
+				this.worldDepth = parent.worldDepth + this.getDepth();
+				this.cachedParentVersion = parent.worldVersion;
+			}
+		}
+
+		this.cachedVersion = this.version;
+		this.worldVersion++;
+	}
+
+	/**
+	 * Returns the calculated transformation matrix between the previous tick's state and the current one.
+	 * Only the Transforms that changed during the last tick are interpolated: if neither the Transform
+	 * nor its parents are, the cached world matrix is returned (shared, it must not be modified).
+	 *
+	 * @param alpha Interpolation factor (0 = previous tick, 1 = current tick)
+	 * @return Matrix4f
+	 */
+	final public @NotNull Matrix4f getInterpolatedTransformation(final float alpha) {
+		if(!this.isMoving(alpha)) {
+			return this.getTransformedTransformation();
+		}
+
+		final Matrix4f local;
+
+		if(this.isLatched()) {
+			final Matrix4f translation = new Matrix4f().initPosition(this.latchedPosition.getX(), this.latchedPosition.getY(), this.getDepth());
 			final Matrix4f rotation = new Matrix4f().initRotation(0, 0, this.getRotation());
 			final Matrix4f scale = new Matrix4f().initScale(this.getScale());
-			this.setTransformation(translation.mul(rotation.mul(scale)));
+			local = translation.mul(rotation.mul(scale));
+		} else if(this.isInterpolated() && alpha < 1) {
+			final Matrix4f translation = new Matrix4f().initPosition(this.getInterpolatedX(alpha), this.getInterpolatedY(alpha), Transform.lerp(this.previousPosition.getZAsFloat(), this.getDepth(), alpha));
+			final Matrix4f rotation = new Matrix4f().initRotation(0, 0, this.previousRotation + (this.getRotation() - this.previousRotation) * alpha);
+			final Matrix4f scale = new Matrix4f().initScale(this.previousScale.lerp(this.getScale(), alpha));
+			local = translation.mul(rotation.mul(scale));
+		} else {
+			local = this.getLocalTransformation();
+		}
 
-			this.setHasChanged(false);
+		if(this.getParent() == null) {
+			return local;
 		}
 
-		final Matrix4f parentMatrix;
+		return this.getParent().getInterpolatedTransformation(alpha).mul(local);
+	}
 
-		if(this.getParent() != null) {
-			parentMatrix = this.getParent().getTransformedTransformation();
-		} else {
-			parentMatrix = new Matrix4f().initIdentity();
+	/**
+	 * Returns whether the Transform or one of its parents is rendered somewhere else than its current state
+	 * (interpolated or latched).
+	 *
+	 * @param alpha Interpolation factor (0 = previous tick, 1 = current tick)
+	 * @return boolean
+	 */
+	@Contract(pure = true)
+	final public boolean isMoving(final float alpha) {
+		if(this.isLatched() || (this.isInterpolated() && alpha < 1)) {
+			return true;
 		}
 
-		final Matrix4f result = parentMatrix.mul(this.getTransformation());
+		return this.getParent() != null && this.getParent().isMoving(alpha);
+	}
 
-		if(profiling) {
-			Profiler.stopProfileTimer("Render-TransformCalc.");
+	/**
+	 * Returns the Transform's transformation matrix, calculated again only if the Transform has changed.
+	 *
+	 * @return Transform.transformation
+	 */
+	private @NotNull Matrix4f getLocalTransformation() {
+		if(this.hasChanged()) {
+			final Matrix4f translation = new Matrix4f().initPosition(this.getPosition().getX(), this.getPosition().getY(), this.getDepth());
+			final Matrix4f rotation = new Matrix4f().initRotation(0, 0, this.getRotation());
+			final Matrix4f scale = new Matrix4f().initScale(this.getScale());
+			this.setTransformation(translation.mul(rotation.mul(scale)));
+
+			this.setHasChanged(false);
 		}
 
-		return result;
+		return this.getTransformation();
 	}
 
 	/**
@@ -123,21 +332,68 @@ final public class Transform {
 	}
 
 	/**
-	 * Returns the Transform's position added by all parent's position.
+	 * Returns the Transform's position added by all parent's position (cached, see Transform.getTransformedTransformation()).
 	 *
 	 * @return new Vector2f
 	 */
 	@Contract(pure = true)
 	final public @NotNull Vector2f getTransformedPosition() {
-		final Vector2f r = new Vector2f(this.getPosition());
+		synchronized(this) {
+			this.updateWorld();
+			return new Vector2f(this.worldPosition);
+		}
+	}
+
+	/**
+	 * Returns the Transform's position interpolated between the previous tick and the current one, added by all parent's (interpolated) position.
+	 *
+	 * @param alpha Interpolation factor (0 = previous tick, 1 = current tick)
+	 * @return new Vector2f
+	 */
+	final public @NotNull Vector2f getInterpolatedTransformedPosition(final float alpha) {
+		if(!this.isMoving(alpha)) {
+			return this.getTransformedPosition();
+		}
+
+		final Vector2f r;
+
+		if(this.isLatched()) {
+			r = new Vector2f(this.latchedPosition);
+		} else if(this.isInterpolated() && alpha < 1) {
+			r = new Vector2f(this.getInterpolatedX(alpha), this.getInterpolatedY(alpha));
+		} else {
+			r = this.getPosition();
+		}
 
 		if(this.getParent() != null) {
-			r.addition(this.getParent().getTransformedPosition());
+			r.addition(this.getParent().getInterpolatedTransformedPosition(alpha));
 		}
 
 		return r;
 	}
 
+	/**
+	 * Returns the Transform's x position interpolated between the previous tick and the current one.
+	 *
+	 * @param alpha Interpolation factor
+	 * @return new float
+	 */
+	private float getInterpolatedX(final float alpha) {
+		final long previous = this.previousPosition.getX();
+		return Position.convert(previous + Math.round((this.position.getX() - previous) * (double) alpha));
+	}
+
+	/**
+	 * Returns the Transform's y position interpolated between the previous tick and the current one.
+	 *
+	 * @param alpha Interpolation factor
+	 * @return new float
+	 */
+	private float getInterpolatedY(final float alpha) {
+		final long previous = this.previousPosition.getY();
+		return Position.convert(previous + Math.round((this.position.getY() - previous) * (double) alpha));
+	}
+
 	/**
 	 * Returns the Transform's rotation on the z axis.
 	 *
@@ -145,22 +401,20 @@ final public class Transform {
 	 */
 	@Contract(pure = true)
 	final public double getRotation() {
-		return this.rotation;
+		final EntityPage page = this.page;
+		return page == null ? this.rotation : page.getRotations()[this.index];
 	}
 
 	/**
-	 * Returns the Transform's rotation added by all parent's rotation.
+	 * Returns the Transform's rotation added by all parent's rotation (cached, see Transform.getTransformedTransformation()).
 	 *
-	 * @return new double
+	 * @return Transform.worldRotation
 	 */
 	final public double getTransformedRotation() {
-		double r = this.getRotation();
-
-		if(this.getParent() != null) {
-			r += this.getParent().getTransformedRotation();
+		synchronized(this) {
+			this.updateWorld();
+			return this.worldRotation;
 		}
-
-		return r;
 	}
 
 	/**
@@ -170,23 +424,42 @@ final public class Transform {
 	 */
 	@Contract(pure = true)
 	final public @NotNull Vector2f getScale() {
-		return new Vector2f(this.scale);
+		return new Vector2f(this.getScaleX(), this.getScaleY());
+	}
+
+	/**
+	 * Returns the Transform's scale on the x axis.
+	 *
+	 * @return Transform.scale.x
+	 */
+	@Contract(pure = true)
+	private float getScaleX() {
+		final EntityPage page = this.page;
+		return page == null ? this.scale.getX() : page.getScalesX()[this.index];
 	}
 
 	/**
-	 * Returns the Transform's scale multiplied by all parent's scale.
+	 * Returns the Transform's scale on the y axis.
+	 *
+	 * @return Transform.scale.y
+	 */
+	@Contract(pure = true)
+	private float getScaleY() {
+		final EntityPage page = this.page;
+		return page == null ? this.scale.getY() : page.getScalesY()[this.index];
+	}
+
+	/**
+	 * Returns the Transform's scale multiplied by all parent's scale (cached, see Transform.getTransformedTransformation()).
 	 *
 	 * @return new Vector2f
 	 */
 	@Contract(pure = true)
 	final public @NotNull Vector2f getTransformScale() {
-		final Vector2f r = new Vector2f(this.getScale());
-
-		if(this.getParent() != null) {
-			r.multiply(this.getParent().getTransformScale());
+		synchronized(this) {
+			this.updateWorld();
+			return new Vector2f(this.worldScale);
 		}
-
-		return r;
 	}
 
 	/**
@@ -200,19 +473,16 @@ final public class Transform {
 	}
 
 	/**
-	 * Returns the Transform's depth added by all parent's depth.
+	 * Returns the Transform's depth added by all parent's depth (cached, see Transform.getTransformedTransformation()).
 	 *
-	 * @return new float
+	 * @return Transform.worldDepth
 	 */
 	@Contract(pure = true)
 	final public float getTransformedDepth() {
-		float r = this.getDepth();
-
-		if(this.getParent() != null) {
-			r += this.getParent().getTransformedDepth();
+		synchronized(this) {
+			this.updateWorld();
+			return this.worldDepth;
 		}
-
-		return r;
 	}
 
 	/**
@@ -225,6 +495,36 @@ final public class Transform {
 		return this.hasChanged;
 	}
 
+	/**
+	 * Returns the number of changes of the Transform (position, rotation, scale, depth or parent) since its creation.
+	 *
+	 * @return Transform.version
+	 */
+	@Contract(pure = true)
+	final public long getVersion() {
+		return this.version;
+	}
+
+	/**
+	 * Returns whether the Transform changed during the last tick (and has a previous state to interpolate from).
+	 *
+	 * @return Transform.savedTick == Transform.currentTick
+	 */
+	@Contract(pure = true)
+	final public boolean isInterpolated() {
+		return this.savedTick == Transform.currentTick && this.createdTick != Transform.currentTick;
+	}
+
+	/**
+	 * Returns whether the Transform has a position latched during this tick.
+	 *
+	 * @return Transform.latchedTick == Transform.currentTick
+	 */
+	@Contract(pure = true)
+	final public boolean isLatched() {
+		return this.latchedPosition != null && this.latchedTick == Transform.currentTick;
+	}
+
 	/**
 	 * Returns the Transform's parent.
 	 *
@@ -242,6 +542,7 @@ final public class Transform {
 	 */
 	final public void setPosition(final @NotNull Vector3f position) {
 		if(!(new Vector3f(this.getPosition(), this.getDepth()).equals(position))) {
+			this.savePreviousState();
 			this.position.setXYZAsFloat(position);
 
 			this.setHasChanged(true);
@@ -255,6 +556,7 @@ final public class Transform {
 	 */
 	final public void setPosition(final @NotNull Vector2f position) {
 		if(!this.getPosition().equals(position)) {
+			this.savePreviousState();
 			this.position.setXYAsFloat(position);
 
 			this.setHasChanged(true);
@@ -289,7 +591,8 @@ final public class Transform {
 	 */
 	final public void setRotation(final double rotation) {
 		if(this.getRotation() != rotation) {
-			this.rotation = rotation;
+			this.savePreviousState();
+			this.storeRotation(rotation);
 
 			this.setHasChanged(true);
 		}
@@ -302,7 +605,8 @@ final public class Transform {
 	 */
 	final public void setScale(final @NotNull Vector2f scale) {
 		if(!this.getScale().equals(scale)) {
-			this.scale = new Vector2f(scale);
+			this.savePreviousState();
+			this.storeScale(scale.getX(), scale.getY());
 
 			this.setHasChanged(true);
 		}
@@ -325,12 +629,104 @@ final public class Transform {
 	 */
 	final public void setDepth(final float depth) {
 		if(this.getDepth() != depth) {
+			this.savePreviousState();
 			this.position.setZAsFloat(depth);
 
 			this.setHasChanged(true);
 		}
 	}
 
+	/**
+	 * Stores the Transform's rotation (in its page or in its field).
+	 *
+	 * @param rotation Rotation to store
+	 */
+	private void storeRotation(final double rotation) {
+		final EntityPage page = this.page;
+
+		if(page == null) {
+			this.rotation = rotation;
+		} else {
+			page.getRotations()[this.index] = rotation;
+		}
+	}
+
+	/**
+	 * Stores the Transform's scale (in its page or in its field).
+	 *
+	 * @param x Scale on the x axis
+	 * @param y Scale on the y axis
+	 */
+	private void storeScale(final float x, final float y) {
+		final EntityPage page = this.page;
+
+		if(page == null) {
+			this.scale = new Vector2f(x, y);
+		} else {
+			page.getScalesX()[this.index] = x;
+			page.getScalesY()[this.index] = y;
+		}
+	}
+
+	/**
+	 * Stores the Transform's position, rotation and scale in a page of the EntityStore (their current values are moved there),
+	 * or back in its own fields. The Transform doesn't change: neither its version nor its interpolation.
+	 *
+	 * @param page Page to store the Transform in (null = own fields)
+	 * @param index Transform's index in the page
+	 */
+	final public void bind(final @Nullable EntityPage page, final int index) {
+		final double rotation = this.getRotation();
+		final float scaleX = this.getScaleX();
+		final float scaleY = this.getScaleY();
+
+		this.position.bind(page, index);
+		this.page = page;
+		this.index = index;
+		this.storeRotation(rotation);
+		this.storeScale(scaleX, scaleY);
+	}
+
+	/**
+	 * Saves the Transform's state as the previous tick's one, if it's the first change during this tick.
+	 */
+	private void savePreviousState() {
+		if(this.savedTick != Transform.currentTick) {
+			this.previousPosition.set(this.position);
+			this.previousRotation = this.getRotation();
+			this.previousScale = this.getScale();
+			this.savedTick = Transform.currentTick;
+		}
+	}
+
+	/**
+	 * Sets the position to render until the next tick instead of the interpolated one (late latch).
+	 *
+	 * @param position Position to copy and set
+	 */
+	final public void setLatchedPosition(final @NotNull Vector2f position) {
+		this.latchedPosition = new Vector2f(position);
+		this.latchedTick = Transform.currentTick;
+	}
+
+	/**
+	 * Cancels the interpolation until the next change (e.g. after a teleportation).
+	 */
+	final public void resetInterpolation() {
+		this.savedTick = -1L;
+	}
+
+	/**
+	 * Forgets the previous tick's state and the latched position, as if the Transform had been created during this tick
+	 * (e.g. its GameObject is reused from a pool: the first position set isn't interpolated from the old one).
+	 */
+	final public void restart() {
+		this.savedTick = -1L;
+		this.latchedPosition = null;
+		this.latchedTick = -1L;
+		this.createdTick = Transform.currentTick;
+	}
+
 	/**
 	 * Sets if the Transform has changed.
 	 *
@@ -338,6 +734,10 @@ final public class Transform {
 	 */
 	private void setHasChanged(final boolean hasChanged) {
 		this.hasChanged = hasChanged;
+
+		if(hasChanged) {
+			this.version++; // The world state (and the children's) is outdated.
+		}
 	}
 
 	/**
@@ -355,7 +755,30 @@ final public class Transform {
 	 * @param parentTransform Parent to set
 	 */
 	final public void setParent(final @Nullable Transform parentTransform) {
-		this.parent = parentTransform;
+		if(this.parent != parentTransform) {
+			this.parent = parentTransform;
+			this.version++;
+		}
+	}
+
+	/**
+	 * Starts a new simulation tick: every Transform changed from now on saves its previous state again.
+	 */
+	public static void nextTick() {
+		Transform.currentTick++;
+	}
+
+	/**
+	 * Returns the linear interpolation between a and b.
+	 *
+	 * @param a Value at 0
+	 * @param b Value at 1
+	 * @param alpha Interpolation factor
+	 * @return new float
+	 */
+	@Contract(pure = true)
+	private static float lerp(final float a, final float b, final float alpha) {
+		return a + (b - a) * alpha;
 	}
 
 }
\ No newline at end of file
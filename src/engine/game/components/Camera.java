@@ -58,6 +58,26 @@ final public class Camera extends GameComponent {
 		return this.projectionMatrix;
 	}
 
+	/**
+	 * Returns the Camera's projection matrix with the camera's position interpolated between the previous tick and the current one.
+	 * The tick's matrix is only used when the camera is rendered at its current position: not when it (or a parent) is latched,
+	 * the latched position applying whatever the alpha (see Transform.getInterpolatedTransformedPosition()).
+	 *
+	 * @param alpha Interpolation factor (0 = previous tick, 1 = current tick)
+	 * @return Camera.projectionMatrix or new Matrix4f
+	 */
+	final public Matrix4f getInterpolatedProjectionMatrix(final float alpha) {
+		if(this.getTransform() == null || this.projectionMatrix == null || !this.getTransform().isMoving(alpha)) {
+			return this.projectionMatrix;
+		}
+
+		final Vector2f pos = this.getTransform().getInterpolatedTransformedPosition(alpha);
+		final Matrix4f cameraMatrix     = new Matrix4f().initPosition(-pos.getX(), -pos.getY(), 0);
+		final Matrix4f projectionMatrix = new Matrix4f().initProjection(Window.getRatio());
+
+		return projectionMatrix.mul(cameraMatrix);
+	}
+
 	/**
 	 * Returns if the Camera ahs moved on this frame.
 	 *
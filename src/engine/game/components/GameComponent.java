@@ -3,15 +3,17 @@ package engine.game.components;
 import engine.CoreEngine;
 import engine.game.objects.GameObject;
 import engine.game.Transform;
+import engine.rendering.RenderSnapshot;
 import engine.rendering.shader.Shader;
 import engine.util.GameInterface;
+import engine.util.pool.Poolable;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 
-abstract public class GameComponent implements GameInterface {
+abstract public class GameComponent implements GameInterface, Poolable {
 
 	/**
 	 * GameComponent's parent.
@@ -115,12 +117,13 @@ abstract public class GameComponent implements GameInterface {
 	}
 
 	/**
-	 * Sets the GameComponent's parent.
+	 * Sets the GameComponent's parent (the GameComponent is added to it).
+	 * Override it to take back what the subclasses share (and call super.setParent()).
 	 *
 	 * @param parent Parent to set
 	 * @param parentTransform Parent's transform
 	 */
-	final public void setParent(final @NotNull GameObject parent, final @NotNull Transform parentTransform) {
+	public void setParent(final @NotNull GameObject parent, final @NotNull Transform parentTransform) {
 		this.parent = parent;
 		this.transform = parentTransform;
 	}
@@ -130,6 +133,15 @@ abstract public class GameComponent implements GameInterface {
 
 	}
 
+	/**
+	 * Adds the GameComponent's draw records to the snapshot.
+	 *
+	 * @param snapshot Snapshot to fill
+	 */
+	public void capture(final @NotNull RenderSnapshot snapshot) {
+
+	}
+
 	@Override
 	public void update(final double delta) {
 
@@ -149,4 +161,23 @@ abstract public class GameComponent implements GameInterface {
 
 	}
 
+	/**
+	 * Called when the GameComponent is removed from its GameObject, or when its GameObject is destroyed (see GameObject.destroy()):
+	 * it may be added again afterwards (e.g. the backgrounds of the tabs).
+	 * Override it to release what the subclasses share (and call super.detach()).
+	 */
+	public void detach() {
+
+	}
+
+	/**
+	 * Detaches the GameComponent from its GameObject when it goes back to its pool (see Pool).
+	 * Override it to reset the subclasses' state (and call super.reset()).
+	 */
+	@Override
+	public void reset() {
+		this.parent = null;
+		this.transform = null;
+	}
+
 }
\ No newline at end of file
@@ -1,7 +1,11 @@
 package engine.game.components;
 
+import engine.game.Transform;
+import engine.game.objects.GameObject;
 import engine.rendering.texture.Material;
 import engine.rendering.Mesh;
+import engine.rendering.MeshCache;
+import engine.rendering.RenderSnapshot;
 import engine.rendering.shader.Shader;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -27,18 +31,23 @@ public class RenderedComponent extends GameComponent {
 	private boolean renderedLater;
 
 	/**
-	 * Creates a new RenderedComponent instance with a basic mesh width * height.
+	 * True = the component holds a reference to its mesh, when it comes from the MeshCache (released when detached).
+	 */
+	private boolean holdsMesh;
+
+	/**
+	 * Creates a new RenderedComponent instance with a basic mesh width * height (shared, see MeshCache).
 	 *
 	 * @param material Material to set
 	 * @param width Width to set
 	 * @param height Height to set
 	 */
 	public RenderedComponent(final @NotNull Material material, final float width, final float height){
-		this(Mesh.create(width, height), material, width, height);
+		this(MeshCache.get(width, height, false), material, width, height);
 	}
 
 	/**
-	 * Creates a new RenderedComponent instance with a basic mesh width * height.
+	 * Creates a new RenderedComponent instance with a basic mesh width * height (shared, see MeshCache).
 	 *
 	 * @param material Material to set
 	 * @param width Width to set
@@ -46,7 +55,7 @@ public class RenderedComponent extends GameComponent {
 	 * @param renderedLater Is the component rendered later?
 	 */
 	public RenderedComponent(final @NotNull Material material, final float width, final float height, final boolean renderedLater){
-		this(Mesh.create(width, height), material, width, height, renderedLater);
+		this(MeshCache.get(width, height, false), material, width, height, renderedLater);
 	}
 
 	/**
@@ -77,11 +86,41 @@ public class RenderedComponent extends GameComponent {
 		this.renderedLater = renderedLater;
 	}
 
+	@Override
+	public void setParent(final @NotNull GameObject parent, final @NotNull Transform parentTransform) {
+		super.setParent(parent, parentTransform);
+
+		if(!this.holdsMesh) { // Added again after having been detached.
+			MeshCache.acquire(this.mesh);
+			this.holdsMesh = true;
+		}
+	}
+
+	@Override
+	public void detach() {
+		super.detach();
+
+		if(this.holdsMesh) {
+			MeshCache.release(this.mesh);
+			this.holdsMesh = false;
+		}
+	}
+
 	@Override
 	public void update(final double delta) {
 		this.getMaterial().update(delta);
 	}
 
+	/**
+	 * Returns the RenderedComponent's Mesh.
+	 *
+	 * @return RenderedComponent.mesh
+	 */
+	@Contract(pure = true)
+	final public @NotNull Mesh getMesh(){
+		return this.mesh;
+	}
+
 	/**
 	 * Returns the RenderedComponent's Material.
 	 *
@@ -115,11 +154,19 @@ public class RenderedComponent extends GameComponent {
 
 	/**
 	 * Sets the RenderedComponent's Mesh.
+	 * A Mesh from the MeshCache (given with a reference, see MeshCache.get()) is released by the component
+	 * when replaced or when the component is detached (see RenderedComponent.detach()).
 	 *
 	 * @param mesh Mesh to set
 	 */
 	final public void setMesh(final @NotNull Mesh mesh){
+		final Mesh previous = this.mesh;
 		this.mesh = mesh;
+
+		if(previous != null && this.holdsMesh) {
+			MeshCache.release(previous);
+		}
+		this.holdsMesh = true;
 	}
 
 	/**
@@ -142,4 +189,10 @@ public class RenderedComponent extends GameComponent {
 		}
 	}
 
+	@Override
+	public void capture(final @NotNull RenderSnapshot snapshot) {
+		final Material material = this.getMaterial();
+		snapshot.add(this.mesh, material.getTexture(), material.getColor(), this.getTransform().getInterpolatedTransformation(snapshot.getInterpolation()), this.renderedLater);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,339 @@
+package engine.game.objects;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+
+/**
+ * Registry of the GameObjects in the world: every GameObject attached to the root object (directly or through its parents)
+ * gets a generational handle (see GameObject.getHandle()) and is indexed by class (and superclasses) and by tags (see GameObject.addTag()).
+ * The GameObjects of a subtree enter the world with it, and leave it with it.
+ * A handle stays valid until the GameObject leaves the world: it can then be kept instead of a reference,
+ * a removed GameObject being detected in constant time (EntityRegistry.get() returns null).
+ * The indexes are iterated in the order the GameObjects have been registered.
+ */
+final public class EntityRegistry {
+
+	/**
+	 * Handle of no GameObject.
+	 */
+	final public static long NONE = 0L;
+
+	/**
+	 * Tag of the GameObjects playing sounds (see GameObject.addAudioObject()).
+	 */
+	final public static @NotNull String TAG_AUDIO = "audio";
+
+	/**
+	 * Registered GameObjects (by slot, null = free slot).
+	 */
+	private static @NotNull GameObject[] objects = new GameObject[64];
+
+	/**
+	 * Generation of each slot: incremented each time the slot is freed, so the old handles don't match anymore.
+	 */
+	private static @NotNull int[] generations = new int[64];
+
+	/**
+	 * Free slots (stack).
+	 */
+	private static @NotNull int[] freeSlots = new int[64];
+
+	/**
+	 * Number of free slots.
+	 */
+	private static int freeCount = 0;
+
+	/**
+	 * Number of slots used at least once.
+	 */
+	private static int slotsUsed = 0;
+
+	/**
+	 * Number of registered GameObjects.
+	 */
+	private static int size = 0;
+
+	/**
+	 * GameObjects by class (and superclasses up to GameObject).
+	 */
+	final private static @NotNull HashMap<Class<?>, LinkedHashSet<GameObject>> byClass = new HashMap<>();
+
+	/**
+	 * GameObjects by tag.
+	 */
+	final private static @NotNull HashMap<String, LinkedHashSet<GameObject>> byTag = new HashMap<>();
+
+	/**
+	 * EntityRegistry is static only.
+	 */
+	private EntityRegistry() {
+
+	}
+
+	/**
+	 * Registers a GameObject and returns its handle.
+	 *
+	 * @param object GameObject to register (not registered yet)
+	 * @return new long
+	 */
+	static synchronized long register(final @NotNull GameObject object) {
+		final int slot;
+
+		if(EntityRegistry.freeCount > 0) {
+			slot = EntityRegistry.freeSlots[--EntityRegistry.freeCount];
+		} else {
+			if(EntityRegistry.slotsUsed == EntityRegistry.objects.length) {
+				final int capacity = EntityRegistry.objects.length * 2;
+				final GameObject[] objects = new GameObject[capacity];
+				final int[] generations = new int[capacity];
+				final int[] freeSlots = new int[capacity];
+
+				System.arraycopy(EntityRegistry.objects, 0, objects, 0, EntityRegistry.slotsUsed);
+				System.arraycopy(EntityRegistry.generations, 0, generations, 0, EntityRegistry.slotsUsed);
+				System.arraycopy(EntityRegistry.freeSlots, 0, freeSlots, 0, EntityRegistry.freeCount);
+
+				EntityRegistry.objects = objects;
+				EntityRegistry.generations = generations;
+				EntityRegistry.freeSlots = freeSlots;
+			}
+
+			slot = EntityRegistry.slotsUsed++;
+			EntityRegistry.generations[slot] = 1; // Generation 0 would give the handle NONE for the slot 0.
+		}
+
+		EntityRegistry.objects[slot] = object;
+		EntityRegistry.size++;
+
+		for(Class<?> type = object.getClass(); type != null && GameObject.class.isAssignableFrom(type); type = type.getSuperclass()) {
+			EntityRegistry.index(EntityRegistry.byClass, type, object);
+		}
+		for(final String tag : object.getTags()) {
+			EntityRegistry.index(EntityRegistry.byTag, tag, object);
+		}
+
+		return ((long) EntityRegistry.generations[slot] << 32) | slot;
+	}
+
+	/**
+	 * Unregisters a GameObject: its handle isn't valid anymore.
+	 *
+	 * @param object GameObject to unregister
+	 * @param handle GameObject's handle
+	 */
+	static synchronized void unregister(final @NotNull GameObject object, final long handle) {
+		if(EntityRegistry.get(handle) != object) {
+			return;
+		}
+
+		final int slot = (int) handle;
+
+		EntityRegistry.objects[slot] = null;
+		EntityRegistry.generations[slot] = EntityRegistry.generations[slot] == Integer.MAX_VALUE ? 1 : EntityRegistry.generations[slot] + 1;
+		EntityRegistry.freeSlots[EntityRegistry.freeCount++] = slot;
+		EntityRegistry.size--;
+
+		for(Class<?> type = object.getClass(); type != null && GameObject.class.isAssignableFrom(type); type = type.getSuperclass()) {
+			EntityRegistry.unindex(EntityRegistry.byClass, type, object);
+		}
+		for(final String tag : object.getTags()) {
+			EntityRegistry.unindex(EntityRegistry.byTag, tag, object);
+		}
+	}
+
+	/**
+	 * Adds a tag to a GameObject, and to the index if the GameObject is registered.
+	 *
+	 * @param object GameObject to tag
+	 * @param tag Tag to add
+	 */
+	static synchronized void tag(final @NotNull GameObject object, final @NotNull String tag) {
+		if(object.addTagInstantly(tag) && EntityRegistry.get(object.getHandle()) == object) {
+			EntityRegistry.index(EntityRegistry.byTag, tag, object);
+		}
+	}
+
+	/**
+	 * Removes a tag from a GameObject, and from the index if the GameObject is registered.
+	 *
+	 * @param object GameObject to untag
+	 * @param tag Tag to remove
+	 */
+	static synchronized void untag(final @NotNull GameObject object, final @NotNull String tag) {
+		if(object.removeTagInstantly(tag) && EntityRegistry.get(object.getHandle()) == object) {
+			EntityRegistry.unindex(EntityRegistry.byTag, tag, object);
+		}
+	}
+
+	/**
+	 * Returns the GameObject of a handle.
+	 *
+	 * @param handle GameObject's handle
+	 * @return GameObject | null if the GameObject has been removed (or NONE)
+	 */
+	@Contract(pure = true)
+	public static synchronized @Nullable GameObject get(final long handle) {
+		final int slot = (int) handle;
+		final int generation = (int) (handle >>> 32);
+
+		if(slot < 0 || slot >= EntityRegistry.slotsUsed || EntityRegistry.generations[slot] != generation) {
+			return null;
+		}
+
+		return EntityRegistry.objects[slot];
+	}
+
+	/**
+	 * Returns the GameObject of a handle if it's of the given type.
+	 *
+	 * @param handle GameObject's handle
+	 * @param type GameObject's type
+	 * @param <T> GameObject's type
+	 * @return T | null if the GameObject has been removed or isn't of this type
+	 */
+	@Contract(pure = true)
+	public static @Nullable <T extends GameObject> T get(final long handle, final @NotNull Class<T> type) {
+		final GameObject object = EntityRegistry.get(handle);
+
+		return type.isInstance(object) ? type.cast(object) : null;
+	}
+
+	/**
+	 * Returns the slot of a handle (the same for every GameObject that has used it, see EntityStore).
+	 *
+	 * @param handle GameObject's handle
+	 * @return int
+	 */
+	@Contract(pure = true)
+	public static int getSlot(final long handle) {
+		return (int) handle;
+	}
+
+	/**
+	 * Returns whether a handle still refers to a GameObject in the world.
+	 *
+	 * @param handle Handle to check
+	 * @return boolean
+	 */
+	@Contract(pure = true)
+	public static boolean isValid(final long handle) {
+		return EntityRegistry.get(handle) != null;
+	}
+
+	/**
+	 * Fills a list with the registered GameObjects of a class (or of its subclasses), in the order they have been registered.
+	 * The list can be reused from one call to another.
+	 *
+	 * @param type GameObjects' class
+	 * @param result List to fill (cleared first)
+	 * @param <T> GameObjects' class
+	 * @return result
+	 */
+	public static synchronized @NotNull <T extends GameObject> ArrayList<T> collect(final @NotNull Class<T> type, final @NotNull ArrayList<T> result) {
+		result.clear();
+
+		final LinkedHashSet<GameObject> objects = EntityRegistry.byClass.get(type);
+		if(objects != null) {
+			for(final GameObject object : objects) {
+				result.add(type.cast(object));
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Fills a list with the registered GameObjects having a tag, in the order they have been registered (or tagged).
+	 * The list can be reused from one call to another.
+	 *
+	 * @param tag Tag
+	 * @param result List to fill (cleared first)
+	 * @return result
+	 */
+	public static synchronized @NotNull ArrayList<GameObject> collectTagged(final @NotNull String tag, final @NotNull ArrayList<GameObject> result) {
+		result.clear();
+
+		final LinkedHashSet<GameObject> objects = EntityRegistry.byTag.get(tag);
+		if(objects != null) {
+			result.addAll(objects);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the number of registered GameObjects of a class (or of its subclasses).
+	 *
+	 * @param type GameObjects' class
+	 * @return int
+	 */
+	@Contract(pure = true)
+	public static synchronized int count(final @NotNull Class<? extends GameObject> type) {
+		final LinkedHashSet<GameObject> objects = EntityRegistry.byClass.get(type);
+
+		return objects == null ? 0 : objects.size();
+	}
+
+	/**
+	 * Returns the number of registered GameObjects having a tag.
+	 *
+	 * @param tag Tag
+	 * @return int
+	 */
+	@Contract(pure = true)
+	public static synchronized int countTagged(final @NotNull String tag) {
+		final LinkedHashSet<GameObject> objects = EntityRegistry.byTag.get(tag);
+
+		return objects == null ? 0 : objects.size();
+	}
+
+	/**
+	 * Returns the number of registered GameObjects.
+	 *
+	 * @return EntityRegistry::size
+	 */
+	@Contract(pure = true)
+	public static synchronized int size() {
+		return EntityRegistry.size;
+	}
+
+	/**
+	 * Adds a GameObject to an index.
+	 *
+	 * @param index Index (by class or by tag)
+	 * @param key GameObject's class or tag
+	 * @param object GameObject to add
+	 * @param <K> Key's type
+	 */
+	private static <K> void index(final @NotNull HashMap<K, LinkedHashSet<GameObject>> index, final @NotNull K key, final @NotNull GameObject object) {
+		LinkedHashSet<GameObject> objects = index.get(key);
+
+		if(objects == null) {
+			objects = new LinkedHashSet<>();
+			index.put(key, objects);
+		}
+
+		objects.add(object);
+	}
+
+	/**
+	 * Removes a GameObject from an index.
+	 *
+	 * @param index Index (by class or by tag)
+	 * @param key GameObject's class or tag
+	 * @param object GameObject to remove
+	 * @param <K> Key's type
+	 */
+	private static <K> void unindex(final @NotNull HashMap<K, LinkedHashSet<GameObject>> index, final @NotNull K key, final @NotNull GameObject object) {
+		final LinkedHashSet<GameObject> objects = index.get(key);
+
+		if(objects != null) {
+			objects.remove(object);
+		}
+	}
+
+}
\ No newline at end of file
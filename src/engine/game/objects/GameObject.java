@@ -1,31 +1,61 @@
 package engine.game.objects;
 
+import com.Options;
 import engine.CoreEngine;
 import engine.audio.AudioObject;
+import engine.game.RootObject;
 import engine.game.Transform;
 import engine.game.components.GameComponent;
+import engine.game.objects.map.Map;
+import engine.game.store.EntityPage;
+import engine.game.store.EntityStore;
 import engine.math.Vector2f;
 import engine.physic.PhysicsEngine;
 import engine.physic.PhysicsObject;
+import engine.rendering.RenderSnapshot;
 import engine.rendering.shader.Shader;
 import engine.util.GameInterface;
 import engine.util.Input;
 import engine.util.Position;
 import engine.util.Units;
 import engine.util.Window;
+import engine.util.pool.Poolable;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
-public class GameObject implements GameInterface {
+public class GameObject implements GameInterface, Poolable {
 
 	/**
 	 * Do we ignore the check to render if the object is out of bounds.
 	 */
 	public static boolean ignoreRenderOutOfBounds = false;
 
+	/**
+	 * Update level: updated every tick.
+	 */
+	final public static byte UPDATE_FULL = 0;
+
+	/**
+	 * Update level: updated every GameObject::REDUCED_UPDATE_TICKS ticks, with the delta accumulated meanwhile.
+	 */
+	final public static byte UPDATE_REDUCED = 1;
+
+	/**
+	 * Update level: neither updated nor moved by the PhysicsEngine, until it gets closer to the camera.
+	 */
+	final public static byte UPDATE_DORMANT = 2;
+
+	/**
+	 * Number of ticks between two updates of a GameObject at reduced rate.
+	 */
+	final public static int REDUCED_UPDATE_TICKS = 4;
+
 	/**
 	 * Reference to the CoreEngine.
 	 */
@@ -38,9 +68,16 @@ public class GameObject implements GameInterface {
 
 	/**
 	 * GameObject's children.
+	 * A child knows its slot in the list (see GameObject.childIndex): a removal only marks the slot as freed,
+	 * the list is compacted once the removals are done so the children stay in the order they were added.
 	 */
 	final private @NotNull ArrayList<GameObject> children;
 
+	/**
+	 * GameObject's slot in its parent's children (-1 = not a child).
+	 */
+	private int childIndex;
+
 	/**
 	 * GameObject's children to add at the end of the update.
 	 */
@@ -71,6 +108,56 @@ public class GameObject implements GameInterface {
 	 */
 	private boolean renderOutsideParent;
 
+	/**
+	 * Are the GameObject's children independent from each other (updated in parallel).
+	 */
+	private boolean parallelChildren;
+
+	/**
+	 * Index of the children by position, to only visit the visible ones when rendering (null = none).
+	 */
+	private @Nullable SpatialGrid spatialChildren;
+
+	/**
+	 * Parallel update of the children in progress (null = none).
+	 */
+	private volatile @Nullable ParallelUpdate parallelUpdate;
+
+	/**
+	 * Level at which the GameObject has been updated during the last tick (see GameObject.getUpdateLevel()).
+	 */
+	private volatile byte updateLevel;
+
+	/**
+	 * Ticks left before the next update at reduced rate.
+	 */
+	private int reducedTicks;
+
+	/**
+	 * Delta skipped since the last update, while updated at reduced rate or dormant (in seconds).
+	 */
+	private double skippedDelta;
+
+	/**
+	 * Pool the GameObject goes back to when it's removed from its parent (null = none).
+	 */
+	private @Nullable GameObjectPool<?> pool;
+
+	/**
+	 * GameObject's handle in the EntityRegistry (EntityRegistry.NONE = not in the world).
+	 */
+	private volatile long handle;
+
+	/**
+	 * Is the GameObject in the world: the root object, or a child of a GameObject in the world.
+	 */
+	private boolean inWorld;
+
+	/**
+	 * GameObject's tags (null = none, see GameObject.addTag()).
+	 */
+	private @Nullable LinkedHashSet<String> tags;
+
 	/**
 	 * GameObject's width (value in Position units and not openGL units).
 	 */
@@ -93,10 +180,21 @@ public class GameObject implements GameInterface {
 		this.children = new ArrayList<>();
 		this.childrenToAdd = new ArrayList<>();
 		this.childrenToRemove = new ArrayList<>();
+		this.childIndex = -1;
 		this.components = new ArrayList<>();
 		this.audioObjects = new ArrayList<>();
 		this.transform = new Transform();
 		this.setRenderOutsideParent(false);
+		this.parallelChildren = false;
+		this.spatialChildren = null;
+		this.parallelUpdate = null;
+		this.updateLevel = GameObject.UPDATE_FULL;
+		this.reducedTicks = 0;
+		this.skippedDelta = 0.0;
+		this.pool = null;
+		this.handle = EntityRegistry.NONE;
+		this.inWorld = this instanceof RootObject;
+		this.tags = null;
 		this.setWidth(width);
 		this.setHeight(height);
 	}
@@ -108,7 +206,7 @@ public class GameObject implements GameInterface {
 
 	@Override
 	public void render(final Shader shader, final @Nullable ArrayList<GameComponent> renderLater) {
-		for(final @NotNull GameObject object : this.getChildren()) {
+		for(final @NotNull GameObject object : this.getChildrenToRender()) {
 			if(GameObject.ignoreRenderOutOfBounds || (object.isInScreen() && (this.renderOutsideParent() || object.isInObjectFrame(this)))) {
 				object.render(shader, renderLater);
 			}
@@ -119,10 +217,31 @@ public class GameObject implements GameInterface {
 		}
 	}
 
+	/**
+	 * Adds the draw records of the GameObject (and all his visible children/components) to the snapshot.
+	 *
+	 * @param snapshot Snapshot to fill
+	 */
+	public void capture(final @NotNull RenderSnapshot snapshot) {
+		for(final @NotNull GameObject object : this.getChildrenToRender()) {
+			if(GameObject.ignoreRenderOutOfBounds || (object.isInScreen() && (this.renderOutsideParent() || object.isInObjectFrame(this)))) {
+				object.capture(snapshot);
+			}
+		}
+
+		for(final @NotNull GameComponent component : this.getComponents()) {
+			component.capture(snapshot);
+		}
+	}
+
 	@Override
 	public void update(final double delta) {
-		for(final @NotNull GameObject object : this.getChildren()) {
-			object.update(delta);
+		if(this.hasParallelChildren() && Options.PARALLEL_SYSTEMS && ParallelUpdate.isWorthIt(this.getChildren().size())) {
+			ParallelUpdate.update(this, this.getChildrenToAdd(), this.getChildrenToRemove(), delta);
+		} else {
+			for(final @NotNull GameObject object : this.getChildren()) {
+				object.tick(delta);
+			}
 		}
 
 		for(final @NotNull GameComponent component : this.getComponents()) {
@@ -142,20 +261,23 @@ public class GameObject implements GameInterface {
 		for(final @NotNull GameObject child : this.getChildrenToAdd()) {
 			this.addChildInstantly(child);
 		}
+		int freedSlot = Integer.MAX_VALUE;
 		for(final @NotNull GameObject child : this.getChildrenToRemove()) {
-			this.getChildren().remove(child);
-			if(child instanceof PhysicsObject) {
-				PhysicsEngine.removeObject((PhysicsObject) child);
-			}
+			freedSlot = Math.min(freedSlot, this.detachChild(child));
 		}
+		this.compactChildren(freedSlot);
 		this.getChildrenToAdd().clear();
 		this.getChildrenToRemove().clear();
+
+		if(this.spatialChildren != null) {
+			this.spatialChildren.refresh();
+		}
 	}
 
 	@Override
 	public void input() {
 		for(final @NotNull GameObject object : this.getChildren()) {
-			object.input();
+			object.tickInput();
 		}
 
 		for(final @NotNull GameComponent component : this.getComponents()) {
@@ -163,6 +285,177 @@ public class GameObject implements GameInterface {
 		}
 	}
 
+	/**
+	 * Updates the GameObject at its update level: every tick near the camera, every GameObject::REDUCED_UPDATE_TICKS ticks
+	 * with the accumulated delta further, not at all beyond Map::UPDATE_RADIUS_REDUCED.
+	 * The children of a GameObject that isn't updated aren't either.
+	 *
+	 * @param delta Time of a tick
+	 */
+	final void tick(final double delta) {
+		final byte previous = this.updateLevel;
+		final byte level = this.computeUpdateLevel();
+		this.updateLevel = level;
+
+		if(level == GameObject.UPDATE_DORMANT) {
+			this.skippedDelta += delta;
+			return;
+		}
+
+		if(previous == GameObject.UPDATE_DORMANT) { // The time spent dormant isn't simulated: the GameObject catches up in wake().
+			this.wake(this.skippedDelta);
+			this.skippedDelta = 0.0;
+		}
+
+		if(level == GameObject.UPDATE_REDUCED) {
+			if(previous != GameObject.UPDATE_REDUCED) { // Spreads the GameObjects at reduced rate over the ticks.
+				this.reducedTicks = Math.max(0, this.childIndex) % GameObject.REDUCED_UPDATE_TICKS;
+			}
+
+			this.skippedDelta += delta;
+
+			if(this.reducedTicks > 0) {
+				this.reducedTicks--;
+				return;
+			}
+
+			this.reducedTicks = GameObject.REDUCED_UPDATE_TICKS - 1;
+		} else {
+			this.skippedDelta += delta;
+		}
+
+		final double accumulated = this.skippedDelta;
+		this.skippedDelta = 0.0;
+
+		this.update(accumulated);
+	}
+
+	/**
+	 * Handles the inputs unless the GameObject is dormant (the inputs aren't skipped at reduced rate).
+	 */
+	final void tickInput() {
+		if(this.updateLevel != GameObject.UPDATE_DORMANT) {
+			this.input();
+		}
+	}
+
+	/**
+	 * Computes the GameObject's update level from the distance between its frame and the screen.
+	 *
+	 * @return GameObject.UPDATE_FULL | GameObject.UPDATE_REDUCED | GameObject.UPDATE_DORMANT
+	 */
+	private byte computeUpdateLevel() {
+		if(!Options.UPDATE_LOD || this.isAlwaysUpdated() || this.width < 0 || this.height < 0) { // Infinite GameObjects are always close.
+			return GameObject.UPDATE_FULL;
+		}
+
+		if(this.getCoreEngine() == null || this.getCoreEngine().getRenderingEngine() == null || this.getCoreEngine().getRenderingEngine().getMainCamera() == null) {
+			return GameObject.UPDATE_FULL; // Headless: no camera, the whole world is simulated.
+		}
+
+		return this.computeUpdateLevel(this.getCoreEngine().getRenderingEngine().getMainCamera().getPos(), Window.getRatio());
+	}
+
+	/**
+	 * Computes the GameObject's update level from the distance between its frame in the world and the screen.
+	 * The frame is the world one (with the parents' positions and scales): a child of a GameObject following the camera
+	 * (e.g. the HUD's) stays close to it wherever the camera is.
+	 *
+	 * @param cameraPosition Camera's position (in the world)
+	 * @param ratio Screen's ratio (half the screen's width, the height being 2)
+	 * @return GameObject.UPDATE_FULL | GameObject.UPDATE_REDUCED | GameObject.UPDATE_DORMANT
+	 */
+	final byte computeUpdateLevel(final @NotNull Vector2f cameraPosition, final float ratio) {
+		final Vector2f worldPosition = this.getTransform().getTransformedPosition();
+		final Vector2f worldScale = this.getTransform().getTransformScale();
+		final float worldWidth = this.getWidth() * Math.abs(worldScale.getX());
+		final float worldHeight = this.getHeight() * Math.abs(worldScale.getY());
+
+		final float distanceX = Math.max(cameraPosition.getX() - ratio - worldPosition.getX() - worldWidth, worldPosition.getX() - cameraPosition.getX() - ratio);
+		final float distanceY = Math.max(cameraPosition.getY() - 1 - worldPosition.getY() - worldHeight, worldPosition.getY() - cameraPosition.getY() - 1);
+		final float distance = Math.max(distanceX, distanceY);
+
+		if(distance <= Map.UPDATE_RADIUS_FULL) {
+			return GameObject.UPDATE_FULL;
+		} else if(distance <= Map.UPDATE_RADIUS_REDUCED) {
+			return GameObject.UPDATE_REDUCED;
+		}
+
+		return GameObject.UPDATE_DORMANT;
+	}
+
+	/**
+	 * Returns whether the GameObject must be updated every tick, wherever it is.
+	 * Override it for the GameObjects the rest of the game relies on (e.g. the one holding the camera).
+	 *
+	 * @return false
+	 */
+	@Contract(pure = true)
+	protected boolean isAlwaysUpdated() {
+		return false;
+	}
+
+	/**
+	 * Called when the GameObject gets close enough to the camera to be updated again, right before its update.
+	 * Override it to catch up with the time spent dormant (e.g. timers, regeneration).
+	 *
+	 * @param dormantTime Time spent dormant (in seconds)
+	 */
+	protected void wake(final double dormantTime) {
+
+	}
+
+	/**
+	 * Stores the GameObject's state in a page of the EntityStore (see Options.ENTITY_STORE), or back in its own fields.
+	 * Override it to store the subclasses' state too (and call super.bindColumns()).
+	 *
+	 * @param page Page to store the state in (null = own fields)
+	 * @param index GameObject's index in the page
+	 */
+	protected void bindColumns(final @Nullable EntityPage page, final int index) {
+		this.getTransform().bind(page, index);
+	}
+
+	/**
+	 * Puts the GameObject back in a reusable state when it goes back to its pool (see GameObjectPool):
+	 * the pending children changes are dropped and the sounds stopped.
+	 * Override it to reset the subclasses' state (and call super.reset()).
+	 */
+	@Override
+	public void reset() {
+		this.getChildrenToAdd().clear();
+		this.getChildrenToRemove().clear();
+
+		for(final @NotNull AudioObject audio : this.getAudioObjects()) {
+			audio.stop();
+		}
+
+		this.getTransform().restart();
+		this.updateLevel = GameObject.UPDATE_FULL;
+		this.reducedTicks = 0;
+		this.skippedDelta = 0.0;
+		this.pool = null;
+	}
+
+	/**
+	 * Called when the GameObject won't be used anymore (e.g. the scene replaced by the Game, a released tab's content):
+	 * its components are detached, so they release what they share (see GameComponent.detach()), and its children are destroyed.
+	 * The GameObject must be removed from its parent (it can still be updated until then) and not be added again.
+	 * Override it to release the subclasses' resources (and call super.destroy()).
+	 */
+	public void destroy() {
+		for(final @NotNull GameObject child : this.getChildren()) {
+			child.destroy();
+		}
+		for(final @NotNull GameObject child : this.getChildrenToAdd()) {
+			child.destroy();
+		}
+
+		for(final @NotNull GameComponent component : this.getComponents()) {
+			component.detach();
+		}
+	}
+
 	/**
 	 * Adds everything to the core engine.
 	 *
@@ -224,10 +517,40 @@ public class GameObject implements GameInterface {
 	 * Returns whether the GameObject contains this child.
 	 *
 	 * @param child Child to check
-	 * @return GameObject.children.contains(child)
+	 * @return boolean
 	 */
+	@Contract(pure = true)
 	final protected boolean hasChild(final GameObject child) {
-		return this.getChildren().contains(child);
+		if(child == null) {
+			return false;
+		}
+
+		final int index = child.childIndex;
+
+		return index >= 0 && index < this.children.size() && this.children.get(index) == child;
+	}
+
+	/**
+	 * Returns the children that may be visible: the ones in the cells overlapping the camera
+	 * if the children are indexed by position (see GameObject.setSpatialChildren()), all of them otherwise.
+	 * The list may be reused by the next call.
+	 *
+	 * @return ArrayList
+	 */
+	private @NotNull ArrayList<GameObject> getChildrenToRender() {
+		if(this.spatialChildren == null || GameObject.ignoreRenderOutOfBounds || this.getCoreEngine() == null || this.getCoreEngine().getRenderingEngine() == null) {
+			return this.getChildren();
+		}
+
+		// Camera's rectangle, in the GameObject's space (the children are indexed by their local position).
+		final Vector2f cameraPosition = this.getCoreEngine().getRenderingEngine().getMainCamera().getPos();
+		final Vector2f selfPosition = this.getTransform().getTransformedPosition();
+		final long minX = Position.convert(cameraPosition.getX() - Window.getRatio() - selfPosition.getX());
+		final long minY = Position.convert(cameraPosition.getY() - 1 - selfPosition.getY());
+		final long maxX = Position.convert(cameraPosition.getX() + Window.getRatio() - selfPosition.getX());
+		final long maxY = Position.convert(cameraPosition.getY() + 1 - selfPosition.getY());
+
+		return this.spatialChildren.query(minX, minY, maxX, maxY);
 	}
 
 	/**
@@ -236,7 +559,7 @@ public class GameObject implements GameInterface {
 	 * @return GameObject.childrenToAdd
 	 */
 	@Contract(pure = true)
-	private @NotNull ArrayList<GameObject> getChildrenToAdd() {
+	final @NotNull ArrayList<GameObject> getChildrenToAdd() {
 		return this.childrenToAdd;
 	}
 
@@ -279,6 +602,89 @@ public class GameObject implements GameInterface {
 		return this.transform;
 	} // TODO: Needs to be private, protected for debugging.
 
+	/**
+	 * Returns the level at which the GameObject has been updated during the last tick.
+	 *
+	 * @return GameObject.updateLevel
+	 */
+	@Contract(pure = true)
+	final public byte getUpdateLevel() {
+		return this.updateLevel;
+	}
+
+	/**
+	 * Returns whether the GameObject is too far from the camera to be updated.
+	 *
+	 * @return boolean
+	 */
+	@Contract(pure = true)
+	final public boolean isDormant() {
+		return this.updateLevel == GameObject.UPDATE_DORMANT;
+	}
+
+	/**
+	 * Returns the pool the GameObject goes back to when it's removed from its parent.
+	 *
+	 * @return GameObject.pool
+	 */
+	@Contract(pure = true)
+	final @Nullable GameObjectPool<?> getPool() {
+		return this.pool;
+	}
+
+	/**
+	 * Returns the GameObject's handle in the EntityRegistry.
+	 *
+	 * @return GameObject.handle (EntityRegistry.NONE = not in the world)
+	 */
+	@Contract(pure = true)
+	final public long getHandle() {
+		return this.handle;
+	}
+
+	/**
+	 * Returns whether the GameObject has a tag.
+	 *
+	 * @param tag Tag to check
+	 * @return boolean
+	 */
+	@Contract(pure = true)
+	final public boolean hasTag(final @NotNull String tag) {
+		final LinkedHashSet<String> tags = this.tags;
+
+		return tags != null && tags.contains(tag);
+	}
+
+	/**
+	 * Returns the GameObject's tags.
+	 *
+	 * @return GameObject.tags
+	 */
+	@Contract(pure = true)
+	final @NotNull Set<String> getTags() {
+		return this.tags == null ? Collections.<String>emptySet() : this.tags;
+	}
+
+	/**
+	 * Returns whether the GameObject's children are updated in parallel.
+	 *
+	 * @return GameObject.parallelChildren
+	 */
+	@Contract(pure = true)
+	final public boolean hasParallelChildren() {
+		return this.parallelChildren;
+	}
+
+	/**
+	 * Returns whether the GameObject's children are indexed by position (see GameObject.setSpatialChildren()).
+	 *
+	 * @return boolean
+	 */
+	@Contract(pure = true)
+	final boolean hasSpatialChildren() {
+		return this.spatialChildren != null;
+	}
+
 	/**
 	 * Is the GameObject rendered if outside its parent.
 	 *
@@ -369,6 +775,10 @@ public class GameObject implements GameInterface {
 			return null;
 		}
 
+		if(this.getCoreEngine().getRenderingEngine() == null) { // Headless: nothing is ever on the screen.
+			return null;
+		}
+
 		final Vector2f cameraPosition = this.getCoreEngine().getRenderingEngine().getMainCamera().getPos();
 		final Vector2f bottomLeftCorner = cameraPosition.sub(Window.getRatio(), 1);
 		final Vector2f topRightCorner = cameraPosition.add(Window.getRatio(), 1);
@@ -436,7 +846,82 @@ public class GameObject implements GameInterface {
 	 * @param child GameObject to add
 	 */
 	final public void addChild(final @NotNull GameObject child) {
-		this.getChildrenToAdd().add(child);
+		final ParallelUpdate parallelUpdate = this.parallelUpdate;
+
+		if(parallelUpdate == null || !parallelUpdate.addChild(child)) {
+			this.getChildrenToAdd().add(child);
+		}
+	}
+
+	/**
+	 * Removes a child from the GameObject right away, the other children keeping their order.
+	 * Only the children after it are moved: removing the last one is done in constant time.
+	 * A child given by a GameObjectPool goes back to it.
+	 *
+	 * @param child GameObject to remove
+	 */
+	final protected void removeChildInstantly(final @NotNull GameObject child) {
+		this.compactChildren(this.detachChild(child));
+	}
+
+	/**
+	 * Detaches a child from the GameObject and marks its slot as freed (see GameObject.compactChildren()).
+	 * A child given by a GameObjectPool goes back to it.
+	 *
+	 * @param child GameObject to detach
+	 * @return Freed slot (Integer.MAX_VALUE = not a child)
+	 */
+	private int detachChild(final @NotNull GameObject child) {
+		if(!this.hasChild(child)) {
+			return Integer.MAX_VALUE;
+		}
+
+		final int index = child.childIndex;
+		child.childIndex = -1; // The slot isn't its anymore: GameObject.hasChild() is false right away.
+
+		if(child.inWorld) {
+			child.leaveWorld();
+		}
+
+		if(this.spatialChildren != null) {
+			this.spatialChildren.remove(child);
+		}
+
+		if(child instanceof PhysicsObject) {
+			PhysicsEngine.removeObject((PhysicsObject) child);
+		}
+
+		if(child.pool != null) {
+			child.pool.recycle(child);
+		}
+
+		return index;
+	}
+
+	/**
+	 * Drops the freed slots from the children, from the first one freed, and gives the children after it their new slot.
+	 * A slot is freed when the GameObject in it doesn't know it as its own anymore (see GameObject.childIndex).
+	 *
+	 * @param from First slot freed (Integer.MAX_VALUE = none)
+	 */
+	private void compactChildren(final int from) {
+		final int size = this.children.size();
+		if(from >= size) {
+			return;
+		}
+
+		int kept = from;
+		for(int i = from; i < size; i++) {
+			final GameObject child = this.children.get(i);
+
+			if(child.childIndex == i) {
+				child.childIndex = kept;
+				this.children.set(kept, child);
+				kept++;
+			}
+		}
+
+		this.children.subList(kept, size).clear();
 	}
 
 	/**
@@ -445,24 +930,81 @@ public class GameObject implements GameInterface {
 	 * @param child GameObject to add
 	 */
 	final protected void addChildInstantly(final @NotNull GameObject child) {
-		this.getChildren().add(child);
+		if(this.hasChild(child)) { // Already a child: adding it twice would update and render it twice.
+			return;
+		}
+
+		child.childIndex = this.children.size();
+		this.children.add(child);
+
+		if(this.inWorld && !child.inWorld) {
+			child.enterWorld();
+		}
 
 		if(this.getCoreEngine() != null) {
 			child.addToEngine(this.getCoreEngine());
 		}
 		child.getTransform().setParent(this.getTransform());
 
+		if(this.spatialChildren != null) {
+			this.spatialChildren.add(child);
+		}
+
 		if(child instanceof PhysicsObject) {
 			PhysicsEngine.addObject((PhysicsObject) child);
 		}
 	}
 
+	/**
+	 * Puts the GameObject and all its children in the world: they are registered in the EntityRegistry
+	 * and, with Options::ENTITY_STORE, their state is moved to the EntityStore.
+	 */
+	private void enterWorld() {
+		this.inWorld = true;
+
+		if(EntityRegistry.get(this.handle) != this) {
+			this.handle = EntityRegistry.register(this);
+
+			if(Options.ENTITY_STORE) {
+				final int slot = EntityRegistry.getSlot(this.handle);
+				final EntityPage page = EntityStore.getPage(slot);
+				this.bindColumns(page, EntityStore.getIndex(slot));
+				page.getUsed()[EntityStore.getIndex(slot)] = true;
+			}
+		}
+
+		for(final @NotNull GameObject child : this.getChildren()) {
+			child.enterWorld();
+		}
+	}
+
+	/**
+	 * Takes the GameObject and all its children out of the world: their handles aren't valid anymore,
+	 * nothing keeps them in the EntityRegistry and their state is back in their own fields.
+	 */
+	private void leaveWorld() {
+		for(final @NotNull GameObject child : this.getChildren()) {
+			child.leaveWorld();
+		}
+
+		if(Options.ENTITY_STORE && EntityRegistry.get(this.handle) == this) { // Back in its own fields before leaving its slot.
+			final int slot = EntityRegistry.getSlot(this.handle);
+			EntityStore.getPage(slot).getUsed()[EntityStore.getIndex(slot)] = false;
+			this.bindColumns(null, 0);
+		}
+
+		EntityRegistry.unregister(this, this.handle);
+		this.handle = EntityRegistry.NONE;
+		this.inWorld = false;
+	}
+
 	/**
 	 * Adds a component to the GameObject.
+	 * Public so trees of plain GameObjects can be assembled by the code using them (e.g. the ones saved as prefabs, see Prefab).
 	 *
 	 * @param component GameComponent to add
 	 */
-	final protected void addComponent(final @NotNull GameComponent component) {
+	final public void addComponent(final @NotNull GameComponent component) {
 		this.getComponents().add(component);
 
 		if(this.getCoreEngine() != null) {
@@ -479,6 +1021,7 @@ public class GameObject implements GameInterface {
 	 */
 	final protected void addAudioObject(final @NotNull AudioObject audioObject) {
 		this.getAudioObjects().add(audioObject);
+		this.addTag(EntityRegistry.TAG_AUDIO);
 	}
 
 	/**
@@ -487,7 +1030,53 @@ public class GameObject implements GameInterface {
 	 * @param child Child to remove
 	 */
 	final public void removeChild(final GameObject child) {
-		this.getChildrenToRemove().add(child);
+		final ParallelUpdate parallelUpdate = this.parallelUpdate;
+
+		if(parallelUpdate == null || !parallelUpdate.removeChild(child)) {
+			this.getChildrenToRemove().add(child);
+		}
+	}
+
+	/**
+	 * Tags the GameObject: the EntityRegistry indexes the GameObjects by tag (see EntityRegistry.collectTagged()).
+	 *
+	 * @param tag Tag to add
+	 */
+	final public void addTag(final @NotNull String tag) {
+		EntityRegistry.tag(this, tag);
+	}
+
+	/**
+	 * Removes a tag from the GameObject.
+	 *
+	 * @param tag Tag to remove
+	 */
+	final public void removeTag(final @NotNull String tag) {
+		EntityRegistry.untag(this, tag);
+	}
+
+	/**
+	 * Adds a tag to the GameObject's tags (the EntityRegistry's lock must be held).
+	 *
+	 * @param tag Tag to add
+	 * @return false = already tagged
+	 */
+	final boolean addTagInstantly(final @NotNull String tag) {
+		if(this.tags == null) {
+			this.tags = new LinkedHashSet<>();
+		}
+
+		return this.tags.add(tag);
+	}
+
+	/**
+	 * Removes a tag from the GameObject's tags (the EntityRegistry's lock must be held).
+	 *
+	 * @param tag Tag to remove
+	 * @return false = wasn't tagged
+	 */
+	final boolean removeTagInstantly(final @NotNull String tag) {
+		return this.tags != null && this.tags.remove(tag);
 	}
 
 	/**
@@ -496,7 +1085,59 @@ public class GameObject implements GameInterface {
 	 * @param component Component to remove
 	 */
 	final protected void removeComponent(final GameComponent component) {
-		this.getComponents().remove(component);
+		if(this.getComponents().remove(component)) {
+			component.detach();
+		}
+	}
+
+	/**
+	 * Sets the pool the GameObject goes back to when it's removed from its parent.
+	 *
+	 * @param pool Pool to set (null = none)
+	 */
+	final void setPool(final @Nullable GameObjectPool<?> pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Sets whether the GameObject's children are independent from each other, so they can be updated in parallel.
+	 * They must not read or write each other (nor anything else that isn't thread safe) during their update.
+	 * Adding and removing the GameObject's children stays possible: the changes are applied in the children's order.
+	 * Only worth it for many children doing real work (e.g. entities): with few children, they are updated one after the other anyway.
+	 *
+	 * @param enabled true = children updated in parallel
+	 */
+	final protected void setParallelChildren(final boolean enabled) {
+		this.parallelChildren = enabled;
+	}
+
+	/**
+	 * Sets whether the GameObject's children are indexed by position in a loose grid, so only the ones near
+	 * the camera are visited when rendering (instead of checking every child every frame).
+	 * The children are placed again at the end of the GameObject's update if their Transform has changed.
+	 * Worth it for GameObjects with many children spread over a large area (e.g. the map).
+	 *
+	 * @param enabled true = children indexed
+	 */
+	final protected void setSpatialChildren(final boolean enabled) {
+		if(!enabled) {
+			this.spatialChildren = null;
+		} else if(this.spatialChildren == null) {
+			this.spatialChildren = new SpatialGrid(SpatialGrid.CELL_SIZE);
+
+			for(final @NotNull GameObject child : this.getChildren()) {
+				this.spatialChildren.add(child);
+			}
+		}
+	}
+
+	/**
+	 * Sets the parallel update of the children in progress.
+	 *
+	 * @param parallelUpdate Update to set (null = none)
+	 */
+	final void setParallelUpdate(final @Nullable ParallelUpdate parallelUpdate) {
+		this.parallelUpdate = parallelUpdate;
 	}
 
 	/**
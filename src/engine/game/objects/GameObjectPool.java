@@ -0,0 +1,41 @@
+package engine.game.objects;
+
+import engine.util.pool.Pool;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Pool of GameObjects: a GameObject given by the pool goes back to it by itself
+ * when it's removed from its parent (see GameObject.removeChild()), after leaving the PhysicsEngine.
+ *
+ * @param <T> GameObjects' type
+ */
+abstract public class GameObjectPool<T extends GameObject> extends Pool<T> {
+
+	/**
+	 * Creates a new GameObjectPool instance.
+	 *
+	 * @param capacity Maximum number of GameObjects kept
+	 */
+	public GameObjectPool(final int capacity) {
+		super(capacity);
+	}
+
+	@Override
+	protected void obtained(final @NotNull T object) {
+		object.getTransform().restart(); // Freed during an earlier tick: interpolated like a new GameObject from now on.
+		object.setPool(this);
+	}
+
+	/**
+	 * Frees a GameObject removed from its parent, unless it is already free (GameObject.reset() forgets the pool).
+	 *
+	 * @param object GameObject to free
+	 */
+	@SuppressWarnings("unchecked")
+	final void recycle(final @NotNull GameObject object) {
+		if(object.getPool() == this) {
+			this.free((T) object);
+		}
+	}
+
+}
\ No newline at end of file
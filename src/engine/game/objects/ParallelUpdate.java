@@ -0,0 +1,265 @@
+package engine.game.objects;
+
+import engine.rendering.GLThread;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Updates the children of a GameObject in parallel (see GameObject.setParallelChildren()), splitting them with fork/join.
+ * The children added or removed from the parent during the update are kept per child,
+ * then merged in the children's order: the result is the same as updating them one after the other.
+ */
+@SuppressWarnings("serial") // Never serialized.
+final class ParallelUpdate extends RecursiveAction {
+
+	/**
+	 * Maximum time the thread waiting for the update waits before checking it again (in ns).
+	 */
+	final private static long MAX_WAIT = 1000000L;
+
+	/**
+	 * Minimum number of children to update them in parallel.
+	 * Forking and joining costs 10 to 25 microseconds per update (measured headless, whatever the number of children):
+	 * with fewer children, even ones doing real work, updating them one after the other is faster.
+	 */
+	final private static int MIN_CHILDREN = 64;
+
+	/**
+	 * Pool updating the children.
+	 */
+	final private static @NotNull ForkJoinPool POOL = ForkJoinPool.commonPool();
+
+	/**
+	 * Update splitting all the children (shares the buffers with every part).
+	 */
+	final private @NotNull ParallelUpdate root;
+
+	/**
+	 * Children to update.
+	 */
+	final private @NotNull GameObject[] children;
+
+	/**
+	 * Delta of the update.
+	 */
+	final private double delta;
+
+	/**
+	 * Index of the first child updated by this part.
+	 */
+	final private int from;
+
+	/**
+	 * Index after the last child updated by this part.
+	 */
+	final private int to;
+
+	/**
+	 * Maximum number of children updated one after the other by a part.
+	 */
+	final private int granularity;
+
+	/**
+	 * Index of the child being updated by the current thread.
+	 */
+	final private @Nullable ThreadLocal<Integer> current;
+
+	/**
+	 * Children added to the parent by each child during its update (null = none).
+	 */
+	final private @Nullable ArrayList<ArrayList<GameObject>> childrenToAdd;
+
+	/**
+	 * Children removed from the parent by each child during its update (null = none).
+	 */
+	final private @Nullable ArrayList<ArrayList<GameObject>> childrenToRemove;
+
+	/**
+	 * Thread waiting for the update (root only).
+	 */
+	private volatile @Nullable Thread waiter;
+
+	/**
+	 * Has the whole update been done (root only).
+	 */
+	private volatile boolean finished;
+
+	/**
+	 * Creates the root of a new ParallelUpdate.
+	 *
+	 * @param children Children to update
+	 * @param delta Delta of the update
+	 */
+	private ParallelUpdate(final @NotNull GameObject[] children, final double delta) {
+		this.root = this;
+		this.children = children;
+		this.delta = delta;
+		this.from = 0;
+		this.to = children.length;
+		this.granularity = Math.max(1, children.length / (ParallelUpdate.POOL.getParallelism() * 4));
+		this.current = new ThreadLocal<>();
+		this.childrenToAdd = ParallelUpdate.createLists(children.length);
+		this.childrenToRemove = ParallelUpdate.createLists(children.length);
+		this.waiter = null;
+		this.finished = false;
+	}
+
+	/**
+	 * Creates a part of a ParallelUpdate.
+	 *
+	 * @param root Update splitting all the children
+	 * @param from Index of the first child to update
+	 * @param to Index after the last child to update
+	 */
+	private ParallelUpdate(final @NotNull ParallelUpdate root, final int from, final int to) {
+		this.root = root;
+		this.children = root.children;
+		this.delta = root.delta;
+		this.from = from;
+		this.to = to;
+		this.granularity = root.granularity;
+		this.current = null;
+		this.childrenToAdd = null;
+		this.childrenToRemove = null;
+	}
+
+	/**
+	 * Returns whether updating a number of children in parallel is worth the cost of forking and joining.
+	 *
+	 * @param children Number of children to update
+	 * @return boolean
+	 */
+	static boolean isWorthIt(final int children) {
+		return children >= ParallelUpdate.MIN_CHILDREN && ParallelUpdate.POOL.getParallelism() > 1;
+	}
+
+	/**
+	 * Updates the parent's children in parallel and adds the children added/removed during the update
+	 * to the parent's lists, in the children's order.
+	 * While waiting, the calling thread executes the OpenGL tasks queued by the children (see GLThread).
+	 *
+	 * @param parent GameObject whose children are updated
+	 * @param childrenToAdd Parent's children to add at the end of the update
+	 * @param childrenToRemove Parent's children to remove at the end of the update
+	 * @param delta Delta of the update
+	 */
+	static void update(final @NotNull GameObject parent, final @NotNull ArrayList<GameObject> childrenToAdd, final @NotNull ArrayList<GameObject> childrenToRemove, final double delta) {
+		final ParallelUpdate update = new ParallelUpdate(parent.getChildren().toArray(new GameObject[parent.getChildren().size()]), delta);
+
+		parent.setParallelUpdate(update);
+
+		if(ForkJoinTask.inForkJoinPool()) { // Nested in another parallel update: the other workers help.
+			update.invoke();
+		} else {
+			update.waiter = Thread.currentThread();
+			ParallelUpdate.POOL.execute(update);
+
+			while(!update.finished && !update.isDone()) {
+				if(!GLThread.isCurrentThread() || GLThread.processTasks() == 0) {
+					LockSupport.parkNanos(ParallelUpdate.MAX_WAIT);
+				}
+			}
+
+			update.join(); // Rethrows the exception of a child, if any.
+		}
+
+		parent.setParallelUpdate(null);
+
+		for(int i = 0; i < update.children.length; i++) {
+			if(update.childrenToAdd.get(i) != null) childrenToAdd.addAll(update.childrenToAdd.get(i));
+			if(update.childrenToRemove.get(i) != null) childrenToRemove.addAll(update.childrenToRemove.get(i));
+		}
+	}
+
+	@Override
+	protected void compute() {
+		if(this.to - this.from <= this.granularity) {
+			for(int i = this.from; i < this.to; i++) {
+				final Integer previous = this.root.current.get(); // Not null if this part has been stolen while waiting in a child's update.
+				this.root.current.set(i);
+
+				try {
+					this.children[i].tick(this.delta);
+				} finally {
+					if(previous != null) {
+						this.root.current.set(previous);
+					} else {
+						this.root.current.remove();
+					}
+				}
+			}
+		} else {
+			final int middle = (this.from + this.to) >>> 1;
+			ForkJoinTask.invokeAll(new ParallelUpdate(this.root, this.from, middle), new ParallelUpdate(this.root, middle, this.to));
+		}
+
+		if(this == this.root) {
+			this.finished = true;
+
+			final Thread waiter = this.waiter;
+			if(waiter != null) {
+				LockSupport.unpark(waiter);
+			}
+		}
+	}
+
+	/**
+	 * Keeps a child added to the parent by the child being updated by the current thread.
+	 *
+	 * @param child Child added
+	 * @return false = the current thread isn't updating a child
+	 */
+	boolean addChild(final @NotNull GameObject child) {
+		return this.keep(this.childrenToAdd, child);
+	}
+
+	/**
+	 * Keeps a child removed from the parent by the child being updated by the current thread.
+	 *
+	 * @param child Child removed
+	 * @return false = the current thread isn't updating a child
+	 */
+	boolean removeChild(final @NotNull GameObject child) {
+		return this.keep(this.childrenToRemove, child);
+	}
+
+	/**
+	 * Keeps a child in the list of the child being updated by the current thread.
+	 *
+	 * @param lists Lists of each child
+	 * @param child Child to keep
+	 * @return false = the current thread isn't updating a child
+	 */
+	private boolean keep(final @NotNull ArrayList<ArrayList<GameObject>> lists, final @NotNull GameObject child) {
+		final Integer index = this.current.get();
+
+		if(index == null) {
+			return false;
+		}
+
+		if(lists.get(index) == null) {
+			lists.set(index, new ArrayList<GameObject>());
+		}
+		lists.get(index).add(child);
+
+		return true;
+	}
+
+	/**
+	 * Creates the lists of each child, all null until the child adds or removes something.
+	 *
+	 * @param size Number of children
+	 * @return new ArrayList
+	 */
+	private static @NotNull ArrayList<ArrayList<GameObject>> createLists(final int size) {
+		return new ArrayList<>(Collections.<ArrayList<GameObject>>nCopies(size, null));
+	}
+
+}
\ No newline at end of file
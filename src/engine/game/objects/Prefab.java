@@ -0,0 +1,262 @@
+package engine.game.objects;
+
+import com.Options;
+import engine.util.Time;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * GameObject tree saved in a compact binary file (/media/prefabs/name.prefab): hierarchy, Transforms,
+ * rendered components (meshes and materials, by textures' file names) and tags.
+ * The file is read once, then each instantiation only creates the GameObjects: the meshes, the textures
+ * and the materials are shared by all the instances, and the children are added without waiting for the next update.
+ * Only trees of plain GameObjects can be saved (see PrefabNode.capture()): what the code of the other classes does
+ * (updates, inputs, sounds...) isn't in the prefab.
+ *
+ * Format (big endian): magic, version, variant, string table (count, then UTF strings), then the nodes depth first.
+ */
+final public class Prefab {
+
+	/**
+	 * Prefab files' first bytes ("WCPF").
+	 */
+	final public static int MAGIC = 0x57435046;
+
+	/**
+	 * Version of the format.
+	 */
+	final public static short VERSION = 1;
+
+	/**
+	 * Folder of the prefab files (in the resources).
+	 */
+	final public static @NotNull String FOLDER = "/media/prefabs";
+
+	/**
+	 * Prefabs read or captured since the game started, by name.
+	 */
+	final private static @NotNull HashMap<String, Prefab> cache = new HashMap<>();
+
+	/**
+	 * Prefab's root.
+	 */
+	final private @NotNull PrefabNode root;
+
+	/**
+	 * What the tree has been built for, besides the code (e.g. the screen's ratio).
+	 */
+	final private @NotNull String variant;
+
+	/**
+	 * Creates a new Prefab instance.
+	 *
+	 * @param root Prefab's root
+	 * @param variant What the tree has been built for
+	 */
+	private Prefab(final @NotNull PrefabNode root, final @NotNull String variant) {
+		this.root = root;
+		this.variant = variant;
+	}
+
+	/**
+	 * Creates the GameObject tree. The root has no parent yet.
+	 *
+	 * @return new GameObject
+	 */
+	final public @NotNull GameObject instantiate() {
+		return this.root.instantiate();
+	}
+
+	/**
+	 * Returns what the tree has been built for, besides the code.
+	 *
+	 * @return Prefab.variant
+	 */
+	@Contract(pure = true)
+	final public @NotNull String getVariant() {
+		return this.variant;
+	}
+
+	/**
+	 * Writes the Prefab in the resources' prefab folder.
+	 * The game keeps running if it can't be written (e.g. the resources are in a jar): the tree will be built by the code again.
+	 *
+	 * @param name Prefab's name (without extension)
+	 */
+	final public void save(final @NotNull String name) {
+		final URL media = support.File.getURL("/media");
+
+		if(media == null) {
+			System.err.println("Error: the prefab " + name + " couldn't be saved, /media doesn't exist.");
+			return;
+		}
+
+		final File file = new File(media.getFile() + "/prefabs/" + name + ".prefab");
+		support.File.makeDirectories(file);
+
+		try(final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			this.write(output);
+		} catch(final IOException e) {
+			System.err.println("Error: the prefab " + name + " couldn't be saved.");
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Writes the Prefab.
+	 *
+	 * @param output Stream to write in
+	 * @throws IOException Stream couldn't be written
+	 */
+	final public void write(final @NotNull DataOutputStream output) throws IOException {
+		final LinkedHashMap<String, Integer> strings = new LinkedHashMap<>();
+		this.root.collectStrings(strings);
+
+		output.writeInt(Prefab.MAGIC);
+		output.writeShort(Prefab.VERSION);
+		output.writeUTF(this.getVariant());
+
+		output.writeShort(strings.size());
+		for(final Map.Entry<String, Integer> string : strings.entrySet()) {
+			output.writeUTF(string.getKey());
+		}
+
+		this.root.write(output, strings);
+	}
+
+	/**
+	 * Creates a GameObject tree from its prefab: from the one in memory, else from its file.
+	 * If there is none yet, or it has been built for another variant, the tree is built by the code, then captured and saved
+	 * so the next ones are instantiated from the prefab. Options::GENERATE_PREFABS builds the prefabs again (after the code has changed).
+	 * Can be called from any thread.
+	 *
+	 * @param name Prefab's name (without extension)
+	 * @param variant What the tree is built for, besides the code (e.g. the screen's ratio)
+	 * @param builder Code building the tree
+	 * @return new GameObject
+	 */
+	public static @NotNull GameObject get(final @NotNull String name, final @NotNull String variant, final @NotNull PrefabBuilder builder) {
+		final long startTime = Time.getNanoTime();
+		Prefab prefab;
+
+		synchronized(Prefab.cache) {
+			prefab = Prefab.cache.get(name);
+		}
+
+		if(prefab == null && !Options.GENERATE_PREFABS) {
+			prefab = Prefab.load(name);
+		}
+
+		if(prefab != null && prefab.getVariant().equals(variant)) {
+			final GameObject object = prefab.instantiate();
+
+			synchronized(Prefab.cache) {
+				Prefab.cache.put(name, prefab);
+			}
+
+			if(Options.DEBUG) System.out.println("Prefab " + name + " instantiated in " + (Time.getNanoTime() - startTime) * Time.NANO_TO_MILLI + "ms.");
+			return object;
+		}
+
+		final GameObject object = builder.build();
+		prefab = Prefab.capture(object, variant);
+		prefab.save(name);
+
+		synchronized(Prefab.cache) {
+			Prefab.cache.put(name, prefab);
+		}
+
+		if(Options.DEBUG) System.out.println("Prefab " + name + " built by the code and saved in " + (Time.getNanoTime() - startTime) * Time.NANO_TO_MILLI + "ms.");
+		return object;
+	}
+
+	/**
+	 * Captures a GameObject tree as it is now (the children waiting for the next update are in it).
+	 *
+	 * @param root Tree's root
+	 * @param variant What the tree has been built for, besides the code
+	 * @return new Prefab
+	 * @throws IllegalArgumentException The tree can't be saved as a prefab (see PrefabNode.capture())
+	 */
+	public static @NotNull Prefab capture(final @NotNull GameObject root, final @NotNull String variant) {
+		return new Prefab(PrefabNode.capture(root), variant);
+	}
+
+	/**
+	 * Reads a prefab file from the resources.
+	 *
+	 * @param name Prefab's name (without extension)
+	 * @return new Prefab | null if the file doesn't exist or has been written by another version
+	 */
+	public static @Nullable Prefab load(final @NotNull String name) {
+		final URL url = support.File.getURL(Prefab.FOLDER + "/" + name + ".prefab");
+
+		if(url == null) {
+			return null;
+		}
+
+		try(final InputStream stream = url.openStream()) {
+			return Prefab.read(new DataInputStream(new BufferedInputStream(stream)));
+		} catch(final IOException e) {
+			System.err.println("Error: the prefab " + name + " couldn't be read.");
+			e.printStackTrace();
+			return null; // Built by the code and saved again.
+		}
+	}
+
+	/**
+	 * Reads a Prefab.
+	 *
+	 * @param input Stream to read from
+	 * @return new Prefab | null if the stream has been written by another version
+	 * @throws IOException Stream couldn't be read
+	 */
+	public static @Nullable Prefab read(final @NotNull DataInputStream input) throws IOException {
+		if(input.readInt() != Prefab.MAGIC) {
+			throw new IOException("Not a prefab.");
+		}
+		if(input.readShort() != Prefab.VERSION) {
+			return null; // To generate again.
+		}
+
+		final String variant = input.readUTF();
+
+		final String[] strings = new String[input.readUnsignedShort()];
+		for(int i = 0; i < strings.length; i++) {
+			strings[i] = input.readUTF();
+		}
+
+		return new Prefab(PrefabNode.read(input, strings), variant);
+	}
+
+	/**
+	 * Adds a string to a string table, if it's not in it yet.
+	 *
+	 * @param strings String table (string => index)
+	 * @param string String to add
+	 */
+	static void addString(final @NotNull HashMap<String, Integer> strings, final @NotNull String string) {
+		if(!strings.containsKey(string)) {
+			if(strings.size() >= 0xFFFF) { // Indexes and count written as unsigned shorts.
+				throw new IllegalStateException("Too many strings in the prefab.");
+			}
+
+			strings.put(string, strings.size());
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package engine.game.objects;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Builds a GameObject tree by the code, when its Prefab hasn't been saved yet (see Prefab.get()).
+ */
+public interface PrefabBuilder {
+
+	/**
+	 * Builds the tree. Only plain GameObjects and RenderedComponents with textures loaded from files can be saved:
+	 * whatever the code of the other classes does (updates, inputs, sounds...) wouldn't be in the prefab.
+	 *
+	 * @return new GameObject
+	 */
+	abstract public @NotNull GameObject build();
+
+}
\ No newline at end of file
@@ -0,0 +1,251 @@
+package engine.game.objects;
+
+import engine.game.components.GameComponent;
+import engine.game.components.RenderedComponent;
+import engine.math.Vector2f;
+import engine.rendering.Mesh;
+import engine.rendering.Vertex;
+import engine.rendering.texture.Animation;
+import engine.rendering.texture.Material;
+import engine.rendering.texture.Texture;
+import engine.util.Color;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+
+/**
+ * RenderedComponent of a Prefab: its mesh and its material (by textures' file names).
+ * The Mesh, the Textures and the Material (unless animated) are created once and shared by all the instances.
+ */
+final class PrefabComponent {
+
+	/**
+	 * Component's width.
+	 */
+	final private float width;
+
+	/**
+	 * Component's height.
+	 */
+	final private float height;
+
+	/**
+	 * Is the component rendered later?
+	 */
+	final private boolean renderedLater;
+
+	/**
+	 * Mesh's vertices (Vertex::SIZE floats each).
+	 */
+	final private @NotNull float[] vertices;
+
+	/**
+	 * File names of the material's textures (more than one = animation).
+	 */
+	final private @NotNull String[] textures;
+
+	/**
+	 * Animation's length (0 = not animated).
+	 */
+	final private double animationTime;
+
+	/**
+	 * Material's color.
+	 */
+	final private @NotNull Color color;
+
+	/**
+	 * Mesh shared by the instances (null = not created yet).
+	 */
+	private @Nullable Mesh mesh;
+
+	/**
+	 * Textures shared by the instances (null = not created yet).
+	 */
+	private @Nullable Texture[] loadedTextures;
+
+	/**
+	 * Material shared by the instances, when not animated (null = not created yet).
+	 */
+	private @Nullable Material material;
+
+	/**
+	 * Creates a new PrefabComponent instance.
+	 *
+	 * @param width Component's width
+	 * @param height Component's height
+	 * @param renderedLater Is the component rendered later?
+	 * @param vertices Mesh's vertices
+	 * @param textures File names of the material's textures
+	 * @param animationTime Animation's length (0 = not animated)
+	 * @param color Material's color
+	 */
+	private PrefabComponent(final float width, final float height, final boolean renderedLater, final @NotNull float[] vertices, final @NotNull String[] textures, final double animationTime, final @NotNull Color color) {
+		this.width = width;
+		this.height = height;
+		this.renderedLater = renderedLater;
+		this.vertices = vertices;
+		this.textures = textures;
+		this.animationTime = animationTime;
+		this.color = color;
+		this.mesh = null;
+		this.loadedTextures = null;
+		this.material = null;
+	}
+
+	/**
+	 * Creates a RenderedComponent looking like this one. The first call creates what is shared.
+	 *
+	 * @return new RenderedComponent
+	 */
+	final synchronized @NotNull RenderedComponent instantiate() {
+		if(this.mesh == null) {
+			final Vertex[] vertices = new Vertex[this.vertices.length / Vertex.SIZE];
+
+			for(int i = 0; i < vertices.length; i++) {
+				final int offset = i * Vertex.SIZE;
+				vertices[i] = new Vertex(new Vector2f(this.vertices[offset], this.vertices[offset + 1]), new Vector2f(this.vertices[offset + 2], this.vertices[offset + 3]));
+			}
+
+			this.mesh = new Mesh();
+			this.mesh.setVertices(vertices);
+
+			this.loadedTextures = new Texture[this.textures.length];
+			for(int i = 0; i < this.textures.length; i++) {
+				this.loadedTextures[i] = new Texture(this.textures[i]);
+			}
+
+			if(this.animationTime <= 0.0) {
+				this.material = new Material(this.loadedTextures[0], this.color);
+			}
+		}
+
+		// An animation has its own time: each instance gets its own.
+		final Material material = this.material != null ? this.material : new Material(new Animation(this.loadedTextures, this.animationTime), new Color(this.color));
+
+		return new RenderedComponent(this.mesh, material, this.width, this.height, this.renderedLater);
+	}
+
+	/**
+	 * Adds the component's strings to the string table.
+	 *
+	 * @param strings String table (string => index)
+	 */
+	final void collectStrings(final @NotNull HashMap<String, Integer> strings) {
+		for(final String texture : this.textures) {
+			Prefab.addString(strings, texture);
+		}
+	}
+
+	/**
+	 * Writes the component.
+	 *
+	 * @param output Stream to write in
+	 * @param strings String table (string => index)
+	 * @throws IOException Stream couldn't be written
+	 */
+	final void write(final @NotNull DataOutputStream output, final @NotNull HashMap<String, Integer> strings) throws IOException {
+		output.writeFloat(this.width);
+		output.writeFloat(this.height);
+		output.writeBoolean(this.renderedLater);
+
+		output.writeShort(this.vertices.length / Vertex.SIZE);
+		for(final float value : this.vertices) {
+			output.writeFloat(value);
+		}
+
+		output.writeShort(this.textures.length);
+		for(final String texture : this.textures) {
+			output.writeShort(strings.get(texture));
+		}
+		output.writeDouble(this.animationTime);
+
+		output.writeByte(this.color.getRed());
+		output.writeByte(this.color.getGreen());
+		output.writeByte(this.color.getBlue());
+		output.writeFloat(this.color.getAlpha());
+	}
+
+	/**
+	 * Reads a component.
+	 *
+	 * @param input Stream to read from
+	 * @param strings String table
+	 * @return new PrefabComponent
+	 * @throws IOException Stream couldn't be read
+	 */
+	static @NotNull PrefabComponent read(final @NotNull DataInputStream input, final @NotNull String[] strings) throws IOException {
+		final float width = input.readFloat();
+		final float height = input.readFloat();
+		final boolean renderedLater = input.readBoolean();
+
+		final float[] vertices = new float[input.readUnsignedShort() * Vertex.SIZE];
+		for(int i = 0; i < vertices.length; i++) {
+			vertices[i] = input.readFloat();
+		}
+
+		final String[] textures = new String[input.readUnsignedShort()];
+		for(int i = 0; i < textures.length; i++) {
+			textures[i] = strings[input.readUnsignedShort()];
+		}
+		final double animationTime = input.readDouble();
+
+		final int red = input.readUnsignedByte();
+		final int green = input.readUnsignedByte();
+		final int blue = input.readUnsignedByte();
+		final Color color = new Color(red, green, blue, input.readFloat());
+
+		return new PrefabComponent(width, height, renderedLater, vertices, textures, animationTime, color);
+	}
+
+	/**
+	 * Captures a component, if it can be written in a Prefab: a RenderedComponent whose textures have been loaded from files.
+	 *
+	 * @param component Component to capture
+	 * @return new PrefabComponent | null if it can't be written
+	 */
+	@Contract(pure = true)
+	static @Nullable PrefabComponent capture(final @NotNull GameComponent component) {
+		if(component.getClass() != RenderedComponent.class) {
+			return null;
+		}
+
+		final RenderedComponent renderedComponent = (RenderedComponent) component;
+		final Object image = renderedComponent.getMaterial().getImage(); // Image isn't visible from here.
+		final Texture[] textures;
+		final double animationTime;
+
+		if(image instanceof Texture) {
+			textures = new Texture[] {(Texture) image};
+			animationTime = 0.0;
+		} else if(image instanceof Animation) {
+			textures = ((Animation) image).getTextures();
+			animationTime = ((Animation) image).getMaxTime();
+		} else {
+			return null;
+		}
+
+		final String[] filenames = new String[textures.length];
+		for(int i = 0; i < textures.length; i++) {
+			filenames[i] = textures[i].getFilename();
+
+			if(filenames[i] == null) { // Generated texture (e.g. a text): nothing to refer to.
+				return null;
+			}
+		}
+
+		final Vertex[] meshVertices = renderedComponent.getMesh().getVertices();
+		final float[] vertices = new float[meshVertices.length * Vertex.SIZE];
+		for(int i = 0; i < meshVertices.length; i++) {
+			System.arraycopy(meshVertices[i].getElements(), 0, vertices, i * Vertex.SIZE, Vertex.SIZE);
+		}
+
+		return new PrefabComponent(component.getWidth(), component.getHeight(), renderedComponent.isRenderedLater(), vertices, filenames, animationTime, new Color(renderedComponent.getMaterial().getColor()));
+	}
+
+}
\ No newline at end of file
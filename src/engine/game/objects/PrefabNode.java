@@ -0,0 +1,320 @@
+package engine.game.objects;
+
+import engine.game.Transform;
+import engine.game.components.GameComponent;
+import engine.math.Vector2f;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * GameObject of a Prefab: its Transform, its components and its children.
+ */
+final class PrefabNode {
+
+	/**
+	 * The GameObject is rendered outside its parent.
+	 */
+	final private static byte RENDER_OUTSIDE_PARENT = 1;
+
+	/**
+	 * The GameObject's children are updated in parallel.
+	 */
+	final private static byte PARALLEL_CHILDREN = 2;
+
+	/**
+	 * The GameObject's children are indexed by position.
+	 */
+	final private static byte SPATIAL_CHILDREN = 4;
+
+	/**
+	 * GameObject's name.
+	 */
+	final private @NotNull String name;
+
+	/**
+	 * GameObject's width.
+	 */
+	final private float width;
+
+	/**
+	 * GameObject's height.
+	 */
+	final private float height;
+
+	/**
+	 * Transform's x position.
+	 */
+	final private float x;
+
+	/**
+	 * Transform's y position.
+	 */
+	final private float y;
+
+	/**
+	 * Transform's depth.
+	 */
+	final private float depth;
+
+	/**
+	 * Transform's rotation.
+	 */
+	final private double rotation;
+
+	/**
+	 * Transform's x scale.
+	 */
+	final private float scaleX;
+
+	/**
+	 * Transform's y scale.
+	 */
+	final private float scaleY;
+
+	/**
+	 * GameObject's flags (PrefabNode::RENDER_OUTSIDE_PARENT, PrefabNode::PARALLEL_CHILDREN, PrefabNode::SPATIAL_CHILDREN).
+	 */
+	final private byte flags;
+
+	/**
+	 * GameObject's tags.
+	 */
+	final private @NotNull String[] tags;
+
+	/**
+	 * GameObject's components.
+	 */
+	final private @NotNull PrefabComponent[] components;
+
+	/**
+	 * GameObject's children.
+	 */
+	final private @NotNull PrefabNode[] children;
+
+	/**
+	 * Creates a new PrefabNode instance.
+	 *
+	 * @param name GameObject's name
+	 * @param width GameObject's width
+	 * @param height GameObject's height
+	 * @param transform Transform's x, y, depth, x scale and y scale
+	 * @param rotation Transform's rotation
+	 * @param flags GameObject's flags
+	 * @param tags GameObject's tags
+	 * @param components GameObject's components
+	 * @param children GameObject's children
+	 */
+	private PrefabNode(final @NotNull String name, final float width, final float height, final @NotNull float[] transform, final double rotation, final byte flags, final @NotNull String[] tags, final @NotNull PrefabComponent[] components, final @NotNull PrefabNode[] children) {
+		this.name = name;
+		this.width = width;
+		this.height = height;
+		this.x = transform[0];
+		this.y = transform[1];
+		this.depth = transform[2];
+		this.scaleX = transform[3];
+		this.scaleY = transform[4];
+		this.rotation = rotation;
+		this.flags = flags;
+		this.tags = tags;
+		this.components = components;
+		this.children = children;
+	}
+
+	/**
+	 * Creates the GameObject and its children, all set before the GameObject gets a parent:
+	 * the children are added right away instead of waiting for the next update.
+	 *
+	 * @return new GameObject
+	 */
+	final @NotNull GameObject instantiate() {
+		final GameObject object = new GameObject(this.name, this.width, this.height);
+
+		final Transform transform = object.getTransform();
+		transform.setPosition(this.x, this.y, this.depth);
+		transform.setRotation(this.rotation);
+		transform.setScale(this.scaleX, this.scaleY);
+
+		object.setRenderOutsideParent((this.flags & PrefabNode.RENDER_OUTSIDE_PARENT) != 0);
+		object.setParallelChildren((this.flags & PrefabNode.PARALLEL_CHILDREN) != 0);
+
+		for(final String tag : this.tags) {
+			object.addTag(tag);
+		}
+
+		for(final PrefabComponent component : this.components) {
+			object.addComponent(component.instantiate());
+		}
+
+		for(final PrefabNode child : this.children) {
+			object.addChildInstantly(child.instantiate());
+		}
+
+		// Indexed once all the children are there, instead of one by one.
+		object.setSpatialChildren((this.flags & PrefabNode.SPATIAL_CHILDREN) != 0);
+
+		return object;
+	}
+
+	/**
+	 * Adds the strings of the GameObject and of its children to the string table.
+	 *
+	 * @param strings String table (string => index)
+	 */
+	final void collectStrings(final @NotNull HashMap<String, Integer> strings) {
+		Prefab.addString(strings, this.name);
+
+		for(final String tag : this.tags) {
+			Prefab.addString(strings, tag);
+		}
+		for(final PrefabComponent component : this.components) {
+			component.collectStrings(strings);
+		}
+		for(final PrefabNode child : this.children) {
+			child.collectStrings(strings);
+		}
+	}
+
+	/**
+	 * Writes the GameObject and its children (depth first).
+	 *
+	 * @param output Stream to write in
+	 * @param strings String table (string => index)
+	 * @throws IOException Stream couldn't be written
+	 */
+	final void write(final @NotNull DataOutputStream output, final @NotNull HashMap<String, Integer> strings) throws IOException {
+		output.writeShort(strings.get(this.name));
+		output.writeFloat(this.width);
+		output.writeFloat(this.height);
+		output.writeFloat(this.x);
+		output.writeFloat(this.y);
+		output.writeFloat(this.depth);
+		output.writeDouble(this.rotation);
+		output.writeFloat(this.scaleX);
+		output.writeFloat(this.scaleY);
+		output.writeByte(this.flags);
+
+		output.writeShort(this.tags.length);
+		for(final String tag : this.tags) {
+			output.writeShort(strings.get(tag));
+		}
+
+		output.writeShort(this.components.length);
+		for(final PrefabComponent component : this.components) {
+			component.write(output, strings);
+		}
+
+		output.writeInt(this.children.length);
+		for(final PrefabNode child : this.children) {
+			child.write(output, strings);
+		}
+	}
+
+	/**
+	 * Reads a GameObject and its children.
+	 *
+	 * @param input Stream to read from
+	 * @param strings String table
+	 * @return new PrefabNode
+	 * @throws IOException Stream couldn't be read
+	 */
+	static @NotNull PrefabNode read(final @NotNull DataInputStream input, final @NotNull String[] strings) throws IOException {
+		final String name = strings[input.readUnsignedShort()];
+		final float width = input.readFloat();
+		final float height = input.readFloat();
+
+		final float[] transform = new float[5];
+		transform[0] = input.readFloat();
+		transform[1] = input.readFloat();
+		transform[2] = input.readFloat();
+		final double rotation = input.readDouble();
+		transform[3] = input.readFloat();
+		transform[4] = input.readFloat();
+		final byte flags = input.readByte();
+
+		final String[] tags = new String[input.readUnsignedShort()];
+		for(int i = 0; i < tags.length; i++) {
+			tags[i] = strings[input.readUnsignedShort()];
+		}
+
+		final PrefabComponent[] components = new PrefabComponent[input.readUnsignedShort()];
+		for(int i = 0; i < components.length; i++) {
+			components[i] = PrefabComponent.read(input, strings);
+		}
+
+		final PrefabNode[] children = new PrefabNode[input.readInt()];
+		for(int i = 0; i < children.length; i++) {
+			children[i] = PrefabNode.read(input, strings);
+		}
+
+		return new PrefabNode(name, width, height, transform, rotation, flags, tags, components, children);
+	}
+
+	/**
+	 * Captures a GameObject and its children (the ones waiting for the next update too).
+	 * Only plain GameObjects can be captured, without sounds and with components that can be written (see PrefabComponent.capture()):
+	 * the prefab would lose the rest.
+	 *
+	 * @param object GameObject to capture
+	 * @return new PrefabNode
+	 * @throws IllegalArgumentException The GameObject (or one of its children) can't be captured
+	 */
+	static @NotNull PrefabNode capture(final @NotNull GameObject object) {
+		if(object.getClass() != GameObject.class) {
+			throw new IllegalArgumentException(object.getName() + " is a " + object.getClass().getName() + ", only plain GameObjects can be saved in a prefab.");
+		}
+		if(!object.getAudioObjects().isEmpty()) {
+			throw new IllegalArgumentException(object.getName() + " has sounds, they can't be saved in a prefab.");
+		}
+
+		final Transform transform = object.getTransform();
+		final Vector2f position = transform.getPosition();
+		final Vector2f scale = transform.getScale();
+
+		byte flags = 0;
+		if(object.renderOutsideParent()) {
+			flags |= PrefabNode.RENDER_OUTSIDE_PARENT;
+		}
+		if(object.hasParallelChildren()) {
+			flags |= PrefabNode.PARALLEL_CHILDREN;
+		}
+		if(object.hasSpatialChildren()) {
+			flags |= PrefabNode.SPATIAL_CHILDREN;
+		}
+
+		final ArrayList<PrefabComponent> components = new ArrayList<>();
+		for(final GameComponent component : object.getComponents()) {
+			final PrefabComponent prefabComponent = PrefabComponent.capture(component);
+
+			if(prefabComponent == null) {
+				throw new IllegalArgumentException(object.getName() + " has a " + component.getClass().getName() + " that can't be saved in a prefab.");
+			}
+
+			components.add(prefabComponent);
+		}
+
+		final ArrayList<GameObject> objectChildren = new ArrayList<>(object.getChildren());
+		objectChildren.addAll(object.getChildrenToAdd());
+		final PrefabNode[] children = new PrefabNode[objectChildren.size()];
+		for(int i = 0; i < children.length; i++) {
+			children[i] = PrefabNode.capture(objectChildren.get(i));
+		}
+
+		return new PrefabNode(
+			object.getName(),
+			object.getWidth(),
+			object.getHeight(),
+			new float[] {position.getX(), position.getY(), transform.getDepth(), scale.getX(), scale.getY()},
+			transform.getRotation(),
+			flags,
+			object.getTags().toArray(new String[0]),
+			components.toArray(new PrefabComponent[components.size()]),
+			children
+		);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package engine.game.objects;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Place of a child in its parent's SpatialGrid.
+ */
+final class SpatialEntry {
+
+	/**
+	 * Child indexed.
+	 */
+	final private @NotNull GameObject object;
+
+	/**
+	 * Order in which the child has been indexed (the children are rendered in this order).
+	 */
+	final private long order;
+
+	/**
+	 * Key of the cell containing the child's bottom left corner (SpatialGrid.LARGE_CELL = too large for a cell).
+	 */
+	private long cell;
+
+	/**
+	 * Version of the child's Transform when it has been placed (see Transform.getVersion()).
+	 */
+	private long version;
+
+	/**
+	 * Child's width when it has been placed (in Position units).
+	 */
+	private int width;
+
+	/**
+	 * Child's height when it has been placed (in Position units).
+	 */
+	private int height;
+
+	/**
+	 * Creates a new SpatialEntry instance.
+	 *
+	 * @param object Child indexed
+	 * @param order Order in which the child has been indexed
+	 */
+	SpatialEntry(final @NotNull GameObject object, final long order) {
+		this.object = object;
+		this.order = order;
+		this.cell = SpatialGrid.LARGE_CELL;
+		this.version = -1L;
+		this.width = 0;
+		this.height = 0;
+	}
+
+	/**
+	 * Returns the child indexed.
+	 *
+	 * @return SpatialEntry.object
+	 */
+	@Contract(pure = true)
+	final @NotNull GameObject getObject() {
+		return this.object;
+	}
+
+	/**
+	 * Returns the order in which the child has been indexed.
+	 *
+	 * @return SpatialEntry.order
+	 */
+	@Contract(pure = true)
+	final long getOrder() {
+		return this.order;
+	}
+
+	/**
+	 * Returns the key of the cell containing the child.
+	 *
+	 * @return SpatialEntry.cell
+	 */
+	@Contract(pure = true)
+	final long getCell() {
+		return this.cell;
+	}
+
+	/**
+	 * Returns whether the child has moved or has been resized since it has been placed.
+	 *
+	 * @return boolean
+	 */
+	@Contract(pure = true)
+	final boolean isOutdated() {
+		return this.object.getTransform().getVersion() != this.version || this.object.getWidthAsInt() != this.width || this.object.getHeightAsInt() != this.height;
+	}
+
+	/**
+	 * Places the child in a cell, with its current state.
+	 *
+	 * @param cell Key of the cell
+	 */
+	final void place(final long cell) {
+		this.cell = cell;
+		this.version = this.object.getTransform().getVersion();
+		this.width = this.object.getWidthAsInt();
+		this.height = this.object.getHeightAsInt();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,276 @@
+package engine.game.objects;
+
+import engine.util.Position;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Loose uniform grid indexing the children of a GameObject by their bounding box, in the parent's space
+ * (the children don't move in the grid when the parent does).
+ * A child is stored in the cell containing its bottom left corner only: a query looks further by the size of the largest child.
+ * Children too large for the cells (e.g. infinite ones) are always returned.
+ */
+final class SpatialGrid {
+
+	/**
+	 * Key of the children too large to be stored in a cell.
+	 */
+	final static long LARGE_CELL = Long.MIN_VALUE;
+
+	/**
+	 * Default size of a cell (in openGL units).
+	 */
+	final static float CELL_SIZE = 1.0f;
+
+	/**
+	 * Maximum size of a child stored in a cell (in cells).
+	 */
+	final private static int MAX_CHILD_SIZE = 4;
+
+	/**
+	 * Sorts the entries in the order they have been indexed.
+	 */
+	final private static @NotNull Comparator<SpatialEntry> ORDER = new Comparator<SpatialEntry>() {
+		@Override
+		public int compare(final SpatialEntry a, final SpatialEntry b) {
+			return Long.compare(a.getOrder(), b.getOrder());
+		}
+	};
+
+	/**
+	 * Size of a cell (in Position units).
+	 */
+	final private long cellSize;
+
+	/**
+	 * Cells: children (by cell key).
+	 */
+	final private @NotNull HashMap<Long, ArrayList<SpatialEntry>> cells;
+
+	/**
+	 * Children too large to be stored in a cell.
+	 */
+	final private @NotNull ArrayList<SpatialEntry> largeChildren;
+
+	/**
+	 * Place of each child indexed.
+	 */
+	final private @NotNull IdentityHashMap<GameObject, SpatialEntry> entries;
+
+	/**
+	 * Largest width of a child stored in a cell (in Position units).
+	 */
+	private long maxWidth;
+
+	/**
+	 * Largest height of a child stored in a cell (in Position units).
+	 */
+	private long maxHeight;
+
+	/**
+	 * Number of children indexed since the grid has been created.
+	 */
+	private long indexed;
+
+	/**
+	 * Entries found by the last query (reused by every query).
+	 */
+	final private @NotNull ArrayList<SpatialEntry> found;
+
+	/**
+	 * Children found by the last query (reused by every query).
+	 */
+	final private @NotNull ArrayList<GameObject> result;
+
+	/**
+	 * Creates a new SpatialGrid instance.
+	 *
+	 * @param cellSize Size of a cell (in openGL units)
+	 */
+	SpatialGrid(final float cellSize) {
+		this.cellSize = Math.max(1L, Position.convert(cellSize));
+		this.cells = new HashMap<>();
+		this.largeChildren = new ArrayList<>();
+		this.entries = new IdentityHashMap<>();
+		this.maxWidth = 0L;
+		this.maxHeight = 0L;
+		this.indexed = 0L;
+		this.found = new ArrayList<>();
+		this.result = new ArrayList<>();
+	}
+
+	/**
+	 * Adds a child to the grid.
+	 *
+	 * @param child Child to add
+	 */
+	final void add(final @NotNull GameObject child) {
+		if(this.entries.containsKey(child)) {
+			return;
+		}
+
+		final SpatialEntry entry = new SpatialEntry(child, this.indexed++);
+		this.entries.put(child, entry);
+		this.place(entry);
+	}
+
+	/**
+	 * Removes a child from the grid.
+	 *
+	 * @param child Child to remove
+	 */
+	final void remove(final @NotNull GameObject child) {
+		final SpatialEntry entry = this.entries.remove(child);
+
+		if(entry != null) {
+			this.unplace(entry);
+		}
+	}
+
+	/**
+	 * Moves the children that have moved or have been resized since they have been placed.
+	 */
+	final void refresh() {
+		for(final SpatialEntry entry : this.entries.values()) {
+			if(entry.isOutdated()) {
+				this.unplace(entry);
+				this.place(entry);
+			}
+		}
+	}
+
+	/**
+	 * Returns the children that may overlap the rectangle, in the order they have been indexed.
+	 * The list is reused by the next query.
+	 *
+	 * @param minX Rectangle's left (in Position units, in the parent's space)
+	 * @param minY Rectangle's bottom (in Position units, in the parent's space)
+	 * @param maxX Rectangle's right (in Position units, in the parent's space)
+	 * @param maxY Rectangle's top (in Position units, in the parent's space)
+	 * @return SpatialGrid.result
+	 */
+	final @NotNull ArrayList<GameObject> query(final long minX, final long minY, final long maxX, final long maxY) {
+		this.found.clear();
+		this.found.addAll(this.largeChildren);
+
+		// A child is stored by its bottom left corner: the ones starting before the rectangle may still overlap it.
+		final long cellMinX = Math.floorDiv(minX - this.maxWidth, this.cellSize);
+		final long cellMinY = Math.floorDiv(minY - this.maxHeight, this.cellSize);
+		final long cellMaxX = Math.floorDiv(maxX, this.cellSize);
+		final long cellMaxY = Math.floorDiv(maxY, this.cellSize);
+
+		if((cellMaxX - cellMinX + 1) * (cellMaxY - cellMinY + 1) > this.cells.size()) { // Fewer cells to look at than to compute.
+			for(final Map.Entry<Long, ArrayList<SpatialEntry>> cell : this.cells.entrySet()) {
+				final long x = cell.getKey() >> 32;
+				final long y = (int) (long) cell.getKey();
+
+				if(x >= cellMinX && x <= cellMaxX && y >= cellMinY && y <= cellMaxY) {
+					this.found.addAll(cell.getValue());
+				}
+			}
+		} else {
+			for(long x = cellMinX; x <= cellMaxX; x++) {
+				for(long y = cellMinY; y <= cellMaxY; y++) {
+					final ArrayList<SpatialEntry> cell = this.cells.get(SpatialGrid.key(x, y));
+
+					if(cell != null) {
+						this.found.addAll(cell);
+					}
+				}
+			}
+		}
+
+		Collections.sort(this.found, SpatialGrid.ORDER);
+
+		this.result.clear();
+		for(final SpatialEntry entry : this.found) {
+			this.result.add(entry.getObject());
+		}
+
+		return this.result;
+	}
+
+	/**
+	 * Returns the number of children indexed.
+	 *
+	 * @return int
+	 */
+	@Contract(pure = true)
+	final int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Stores the child in the cell containing its bottom left corner (or with the large children).
+	 *
+	 * @param entry Child's entry
+	 */
+	private void place(final @NotNull SpatialEntry entry) {
+		final GameObject child = entry.getObject();
+		final long width = child.getWidthAsInt();
+		final long height = child.getHeightAsInt();
+
+		if(width < 0 || height < 0 || width > this.cellSize * SpatialGrid.MAX_CHILD_SIZE || height > this.cellSize * SpatialGrid.MAX_CHILD_SIZE) {
+			entry.place(SpatialGrid.LARGE_CELL);
+			this.largeChildren.add(entry);
+			return;
+		}
+
+		final Position position = child.getTransform().getPositionReference();
+		final long key = SpatialGrid.key(Math.floorDiv(position.getX(), this.cellSize), Math.floorDiv(position.getY(), this.cellSize));
+
+		ArrayList<SpatialEntry> cell = this.cells.get(key);
+		if(cell == null) {
+			cell = new ArrayList<>();
+			this.cells.put(key, cell);
+		}
+
+		entry.place(key);
+		cell.add(entry);
+
+		this.maxWidth = Math.max(this.maxWidth, width);
+		this.maxHeight = Math.max(this.maxHeight, height);
+	}
+
+	/**
+	 * Removes the child from the cell it's stored in.
+	 *
+	 * @param entry Child's entry
+	 */
+	private void unplace(final @NotNull SpatialEntry entry) {
+		if(entry.getCell() == SpatialGrid.LARGE_CELL) {
+			this.largeChildren.remove(entry);
+			return;
+		}
+
+		final ArrayList<SpatialEntry> cell = this.cells.get(entry.getCell());
+
+		if(cell != null) {
+			cell.remove(entry);
+
+			if(cell.isEmpty()) {
+				this.cells.remove(entry.getCell());
+			}
+		}
+	}
+
+	/**
+	 * Returns the key of a cell.
+	 *
+	 * @param x Cell's x
+	 * @param y Cell's y
+	 * @return new long
+	 */
+	@Contract(pure = true)
+	private static long key(final long x, final long y) {
+		return (x << 32) | (y & 0xFFFFFFFFL);
+	}
+
+}
\ No newline at end of file
@@ -44,7 +44,7 @@ public class SlideBarDisplay extends Text {
         final String text = value + (this.isPercentage() ? " %" : "");
 
         this.setText(text);
-        this.print();
+        this.printLater();
     }
 
     /**
@@ -2,13 +2,16 @@ package engine.game.objects.map;
 
 import com.Options;
 import engine.math.Vector2f;
+import engine.rendering.GLThread;
 import engine.rendering.shader.RenderToTextureShader;
 import engine.rendering.texture.Texture;
-import engine.util.Time;
 import engine.util.Window;
 import engine.util.profiling.Profiler;
+import engine.util.tasks.WorkItem;
+import engine.util.tasks.WorkScheduler;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import support.ArrayList;
 
 import java.util.HashMap;
@@ -27,11 +30,6 @@ final class ChunkLoader {
 	 */
 	final public static float RADIUS_UNLOAD = 2.0f * Chunk.SIZE;
 
-	/**
-	 * Won't load longer than delta * LOADING_RATIO.
-	 */
-	final public static float LOADING_RATIO = 1.0f/3.0f;
-
 	/**
 	 * Pointer to the Map parent.
 	 */
@@ -48,9 +46,9 @@ final class ChunkLoader {
 	final private @NotNull ArrayList<Chunk> chunksToLoad;
 
 	/**
-	 * Chunk's texture that's loading.
+	 * Chunk's texture that's loading (null = not created yet).
 	 */
-	private Texture chunkTexture;
+	private @Nullable Texture chunkTexture;
 
 	/**
 	 * Where we are drawing on the chunk on the x axis.
@@ -62,6 +60,16 @@ final class ChunkLoader {
 	 */
 	private int yTexture;
 
+	/**
+	 * Chunks around the camera, prepared before the update: x start, y start, x end, y end (null = not prepared since the last update).
+	 */
+	private volatile @Nullable int[] preparedRange;
+
+	/**
+	 * Work baking the chunks to load, a row of tiles per step.
+	 */
+	final private @NotNull WorkItem baking;
+
 	/**
 	 * Creates a new ChunkLoader instance.
 	 *
@@ -71,9 +79,16 @@ final class ChunkLoader {
 		this.map = map;
 		this.chunks = new HashMap<>();
 		this.chunksToLoad = new ArrayList<>();
-		this.clearChunkTexture();
+		this.chunkTexture = null;
 		this.xTexture = 0;
 		this.yTexture = 0;
+		this.preparedRange = null;
+		this.baking = new WorkItem("Chunks baking", WorkItem.PRIORITY_LOW) {
+			@Override
+			public boolean step() {
+				return ChunkLoader.this.bakeRow();
+			}
+		};
 	}
 
 	/**
@@ -83,36 +98,110 @@ final class ChunkLoader {
 	 */
 	final public void update(final double delta) {
 		Profiler.startProfileTimer("Update-ChunkLoading");
-		final long startTime = Time.getNanoTime(); // TODO: Get time from Profiler.
 
-		int xStart = (int)((this.getMap().getCameraPosition().getX() - Window.getRatio() - ChunkLoader.RADIUS_CHECK) / Chunk.LENGTH);
+		int[] range = this.preparedRange;
+		this.preparedRange = null;
+
+		if(range == null) {
+			range = this.computeRange(this.getMap().getCameraPosition());
+		}
+
+		this.createChunks(range);
+
+		/* Loading chunks (baked by the WorkScheduler within its budget) */
+		if(!this.getChunksToLoad().isEmpty()) {
+			WorkScheduler.submit(this.baking);
+		}
+
+		/* Chunk unloading */
+		// TODO: Chunk unloading (that will also require to change the loading.
+		// TODO: Chunk destroy with a very wide radius (just to clean memory if someone plays for 5 hours).
+
+		Profiler.stopProfileTimer("Update-ChunkLoading");
+	}
+
+	/**
+	 * Computes the chunks around the camera, for the next update to create them.
+	 * Only reads the given position and the Map's size: can run on another thread before the update.
+	 *
+	 * @param cameraPosition Camera's position (a copy, the camera may be moving meanwhile)
+	 */
+	final void prepare(final @NotNull Vector2f cameraPosition) {
+		this.preparedRange = this.computeRange(cameraPosition);
+	}
+
+	/**
+	 * Computes the chunks around a position.
+	 *
+	 * @param cameraPosition Camera's position
+	 * @return new int[] {x start, y start, x end, y end}
+	 */
+	@Contract(pure = true)
+	private @NotNull int[] computeRange(final @NotNull Vector2f cameraPosition) {
+		int xStart = (int)((cameraPosition.getX() - Window.getRatio() - ChunkLoader.RADIUS_CHECK) / Chunk.LENGTH);
 		if(xStart < 0) xStart = 0;
-		int xEnd = (int)((this.getMap().getCameraPosition().getX() + Window.getRatio() + ChunkLoader.RADIUS_CHECK) / Chunk.LENGTH);
+		int xEnd = (int)((cameraPosition.getX() + Window.getRatio() + ChunkLoader.RADIUS_CHECK) / Chunk.LENGTH);
 		if(xEnd > Math.ceil(this.getMap().getMapWidth() / Chunk.SIZE)) xEnd = (int) Math.ceil(this.getMap().getMapWidth() / Chunk.SIZE);
 
-		int yStart = (int)((this.getMap().getCameraPosition().getY() - 1 - ChunkLoader.RADIUS_CHECK) / Chunk.LENGTH);
+		int yStart = (int)((cameraPosition.getY() - 1 - ChunkLoader.RADIUS_CHECK) / Chunk.LENGTH);
 		if(yStart < 0) yStart = 0;
-		int yEnd = (int)((this.getMap().getCameraPosition().getY() + 1 + ChunkLoader.RADIUS_CHECK) / Chunk.LENGTH);
+		int yEnd = (int)((cameraPosition.getY() + 1 + ChunkLoader.RADIUS_CHECK) / Chunk.LENGTH);
 		if(yEnd > Math.ceil(this.getMap().getMapHeight() / Chunk.SIZE)) yEnd = (int) Math.ceil(this.getMap().getMapHeight() / Chunk.SIZE);
 
-		// Creates chunks if they do not exists and adds them to the "to load" list.
-		for(int x = xStart; x <= xEnd; x++) {
-			for(int y = yStart; y <= yEnd; y++) {
+		return new int[] {xStart, yStart, xEnd, yEnd};
+	}
+
+	/**
+	 * Creates the chunks of a range that do not exist yet and adds them to the "to load" list.
+	 * Must be called by the Map's update: the chunks are GameObjects.
+	 *
+	 * @param range x start, y start, x end, y end
+	 */
+	private void createChunks(final @NotNull int[] range) {
+		for(int x = range[0]; x <= range[2]; x++) {
+			for(int y = range[1]; y <= range[3]; y++) {
 				if(this.getChunk(x, y) == null) {
 					this.getChunks().put(x + "-" + y, new Chunk(x, y));
 					this.getChunksToLoad().add(this.getChunk(x, y));
 				}
 			}
 		}
+	}
+
+	/**
+	 * Bakes the next row of tiles of the first chunk to load.
+	 *
+	 * @return true = there is no chunk to load anymore
+	 */
+	private boolean bakeRow() {
+		if(!this.getChunksToLoad().isEmpty()) {
+			GLThread.invoke(new Runnable() {
+				@Override
+				public void run() {
+					ChunkLoader.this.renderRow();
+				}
+			});
+		}
+
+		return this.getChunksToLoad().isEmpty();
+	}
+
+	/**
+	 * Renders the next row of tiles of the first chunk to load into the chunk Texture.
+	 * Must be called on the OpenGL thread.
+	 */
+	private void renderRow() {
+		final Chunk chunkToLoad = this.getChunksToLoad().get(0);
+
+		if(this.getChunkTexture() == null) {
+			this.chunkTexture = new Texture(320, 320, GL_COLOR_ATTACHMENT0);
+		}
 
-		/* Loading chunks */
 		this.getChunkTexture().bindAsRenderTarget();
 		RenderToTextureShader.setTextureScale(new Vector2f(2.0f / (Options.TILE_SIZE * Chunk.SIZE), 2.0f / (Options.TILE_SIZE * Chunk.SIZE)));
 		RenderToTextureShader.setTexturePositionScale(new Vector2f(1, 1));
 
-		while(!this.getChunksToLoad().isEmpty() && (Time.getNanoTime() - startTime) * Time.NANO_TO_SECOND < delta * ChunkLoader.LOADING_RATIO) {
-			final Chunk chunkToLoad = this.getChunksToLoad().get(0);
-
+		for(this.xTexture = 0; this.getTextureX() < Chunk.SIZE; this.xTexture++) {
 			if(chunkToLoad.getX() * Chunk.SIZE + this.getTextureX() < this.getMap().getMapWidth() && chunkToLoad.getY() * Chunk.SIZE + this.getTextureY() < this.getMap().getMapHeight()) { // Draw only if the tile exists.
 				final Tile tile = this.getMap().getTileAt(chunkToLoad.getX() * Chunk.SIZE + this.getTextureX(), chunkToLoad.getY() * Chunk.SIZE + this.getTextureY());
 
@@ -121,34 +210,19 @@ final class ChunkLoader {
 					tile.getRenderedComponent().render(RenderToTextureShader.getInstance(), null);
 				}
 			}
-
-			this.xTexture++;
-			if(this.getTextureX() >= Chunk.SIZE) {
-				this.xTexture = 0;
-				this.yTexture++;
-				if(this.getTextureY() >= Chunk.SIZE) {
-					this.yTexture = 0;
-					chunkToLoad.setTexture(this.getChunkTexture());
-					this.clearChunkTexture();
-					this.getChunksToLoad().remove(0);
-					//if(Options.DEBUG) System.out.println("Chunk (" + chunkToLoad.getX() + " ; " + chunkToLoad.getY() + ") loaded.");
-				}
-			}
 		}
 
-		/* Chunk unloading */
-		// TODO: Chunk unloading (that will also require to change the loading.
-		// TODO: Chunk destroy with a very wide radius (just to clean memory if someone plays for 5 hours).
+		this.xTexture = 0;
+		this.yTexture++;
+		if(this.getTextureY() >= Chunk.SIZE) {
+			this.yTexture = 0;
+			chunkToLoad.setTexture(this.getChunkTexture());
+			this.chunkTexture = null;
+			this.getChunksToLoad().remove(0);
+			//if(Options.DEBUG) System.out.println("Chunk (" + chunkToLoad.getX() + " ; " + chunkToLoad.getY() + ") loaded.");
+		}
 
 		Window.bindAsRenderTarget();
-		Profiler.stopProfileTimer("Update-ChunkLoading");
-	}
-
-	/**
-	 * Creates a new chunk Texture.
-	 */
-	private void clearChunkTexture() {
-		this.chunkTexture = new Texture(320, 320, GL_COLOR_ATTACHMENT0);
 	}
 
 	/**
@@ -198,7 +272,7 @@ final class ChunkLoader {
 	 * @return ChunkLoader.chunkTexture
 	 */
 	@Contract(pure = true)
-	private Texture getChunkTexture() {
+	private @Nullable Texture getChunkTexture() {
 		return this.chunkTexture;
 	}
 
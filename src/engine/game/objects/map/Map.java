@@ -11,6 +11,7 @@ import engine.util.Window;
 import engine.util.profiling.Profiler;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import support.json.JSONObject;
 import support.json.JSONTokener;
 
@@ -24,10 +25,20 @@ import java.util.ArrayList;
  */
 public class Map extends GameObject {
 
+	/**
+	 * How far beyond the screen the GameObjects are updated every tick (in openGL units): where the zones are loaded.
+	 */
+	final public static float UPDATE_RADIUS_FULL = 2 * ChunkLoader.RADIUS_CHECK;
+
+	/**
+	 * How far beyond the screen the GameObjects are updated at all (in openGL units): the chunks are unloaded beyond.
+	 */
+	final public static float UPDATE_RADIUS_REDUCED = ChunkLoader.RADIUS_UNLOAD;
+
 	/**
 	 * Current instance used.
 	 */
-	private static Map INSTANCE;
+	private static volatile Map INSTANCE;
 
 	/**
 	 * Map's name.
@@ -64,6 +75,11 @@ public class Map extends GameObject {
 	 */
 	private Position cameraPosition;
 
+	/**
+	 * Copy of the Camera's position taken at the start of the last update, read by Map.prepareChunks() (null = not updated yet).
+	 */
+	private volatile @Nullable Vector2f cameraSnapshot;
+
 	/**
 	 * Creates a new Map instance.
 	 *
@@ -77,6 +93,7 @@ public class Map extends GameObject {
 		this.zones = new ArrayList<>();
 		this.tileSet = tileSet;
 		this.chunkLoader = new ChunkLoader(this);
+		this.setSpatialChildren(true); // Only the zones and chunks around the camera are rendered.
 	}
 
 	@Override
@@ -136,8 +153,27 @@ public class Map extends GameObject {
 		return this;
 	}
 
+	/**
+	 * Computes the chunks around the camera for the next update to create (see ChunkLoader.prepare()),
+	 * and submits the loading of the zones around it.
+	 * Only reads the camera's position as it was at the start of the last update (the camera moves with the physics):
+	 * can run on any thread, before the Map is updated.
+	 */
+	final public void prepareChunks() {
+		final Vector2f cameraPosition = this.cameraSnapshot;
+
+		if(cameraPosition == null) { // Not updated yet.
+			return;
+		}
+
+		this.getChunkLoader().prepare(cameraPosition);
+		this.requestZoneLoading(cameraPosition);
+	}
+
 	@Override
 	public void update(final double delta) {
+		this.cameraSnapshot = this.getCameraPosition();
+
 		this.getChunkLoader().update(delta);
 
 		for(final Chunk chunk : this.getChunkLoader().getChunks().values()) {
@@ -153,7 +189,11 @@ public class Map extends GameObject {
 	public void addToEngine(final CoreEngine engine) {
 		super.addToEngine(engine);
 
-		this.setCameraPosition(engine.getRenderingEngine().getMainCamera().getPositionReference());
+		if(engine.getRenderingEngine() != null) {
+			this.setCameraPosition(engine.getRenderingEngine().getMainCamera().getPositionReference());
+		} else { // Headless: there is no camera, the map is streamed around the origin.
+			this.setCameraPosition(new Position());
+		}
 	}
 
 	/**
@@ -190,11 +230,30 @@ public class Map extends GameObject {
 			if(this.hasChild(zone)) continue;
 
 			this.addChildInstantly(zone); // Either add instantly or check if not already added this frame (to not add it multiple times).
-			zone.init();
+			zone.init(); // Does nothing if the WorkScheduler has already loaded it.
 		}
 		Profiler.stopProfileTimer("Update-ZoneLoading");
 	}
 
+	/**
+	 * Submits the loading of the zones a chunk beyond the zones checked by Map.checkZoneLoading(),
+	 * so their file is usually loaded by the WorkScheduler before a tile is needed.
+	 *
+	 * @param cameraPosition Camera's position
+	 */
+	private void requestZoneLoading(final @NotNull Vector2f cameraPosition) {
+		final float xStart = cameraPosition.getX() - Window.getRatio() - 2 * ChunkLoader.RADIUS_CHECK - Chunk.LENGTH;
+		final float xEnd = cameraPosition.getX() + Window.getRatio() + 2 * ChunkLoader.RADIUS_CHECK + Chunk.LENGTH;
+		final float yStart = cameraPosition.getY() - 1 - 2 * ChunkLoader.RADIUS_CHECK - Chunk.LENGTH;
+		final float yEnd = cameraPosition.getY() + 1 + 2 * ChunkLoader.RADIUS_CHECK + Chunk.LENGTH;
+
+		for(final Zone zone : this.zones) {
+			if(xStart > zone.getPosition().getX() + zone.getWidth() || xEnd < zone.getPosition().getX() || yStart > zone.getPosition().getY()  + zone.getHeight() || yEnd < zone.getPosition().getY()) continue;
+
+			zone.requestLoading();
+		}
+	}
+
 	/**
 	 * Returns the Map's name.
 	 *
@@ -478,6 +537,16 @@ public class Map extends GameObject {
 		return speed / (width * height); // Returning the average speed.
 	}
 
+	/**
+	 * Returns the highest speed multiplicator (absolute value) an object can get from the Map's tiles.
+	 *
+	 * @return new float
+	 */
+	@Contract(pure = true)
+	final public float getMaxTileSpeed() {
+		return this.getTileSet().getMaxSpeedMultiplicator();
+	}
+
 	/**
 	 * Returns the tile speed at some position.
 	 * It takes into consideration whether the object is more on one tile rather than the others.
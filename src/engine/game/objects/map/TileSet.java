@@ -19,6 +19,11 @@ public class TileSet {
 	 */
 	final private @NotNull HashMap<Character, Tile> tiles;
 
+	/**
+	 * Highest speed multiplicator (absolute value) of the TileSet's tiles.
+	 */
+	private float maxSpeedMultiplicator;
+
 	/**
 	 * Creates a new TileSet instance.
 	 *
@@ -27,6 +32,7 @@ public class TileSet {
 	public TileSet(final String name) {
 		this.folder = "/tileSets/" + name;
 		this.tiles = new HashMap<>();
+		this.maxSpeedMultiplicator = 0.0f;
 	}
 
 	/**
@@ -59,6 +65,16 @@ public class TileSet {
 		return this.getTiles().get(character);
 	}
 
+	/**
+	 * Returns the highest speed multiplicator (absolute value) of the TileSet's tiles.
+	 *
+	 * @return TileSet.maxSpeedMultiplicator
+	 */
+	@Contract(pure = true)
+	final float getMaxSpeedMultiplicator() {
+		return this.maxSpeedMultiplicator;
+	}
+
 	/**
 	 * Sets a new entry to what character corresponds to what name.
 	 *
@@ -68,6 +84,7 @@ public class TileSet {
 	 */
 	final protected void setTile(final char character, final @NotNull String name, final float movementSpeed) {
 		this.tiles.put(character, new Tile(name, movementSpeed, new Material(new Texture(this.getFolderPath() + "/" + name))));
+		this.maxSpeedMultiplicator = Math.max(this.maxSpeedMultiplicator, Math.abs(movementSpeed));
 	}
 
 }
\ No newline at end of file
@@ -4,6 +4,8 @@ import com.Options;
 import engine.game.objects.GameObject;
 import engine.math.Vector2f;
 import engine.util.Time;
+import engine.util.tasks.WorkItem;
+import engine.util.tasks.WorkScheduler;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
@@ -31,6 +33,16 @@ class Zone extends GameObject {
 	 */
 	final private @NotNull Map map;
 
+	/**
+	 * Has the zone's file been loaded.
+	 */
+	private volatile boolean loaded;
+
+	/**
+	 * Work loading the zone's file ahead of time.
+	 */
+	final private @NotNull WorkItem loading;
+
 	/**
 	 * Creates a new Zone instance.
 	 *
@@ -49,11 +61,28 @@ class Zone extends GameObject {
 		this.yPos = yPos;
 		this.characters = new ArrayList<>();
 		this.map = map;
+		this.loaded = false;
+		this.loading = new WorkItem("Zone loading: " + name, WorkItem.PRIORITY_HIGH) {
+			@Override
+			public boolean step() {
+				Zone.this.init();
+				return true;
+			}
+		};
 		this.setPosition(new Vector2f(Options.TILE_SIZE * xPos, Options.TILE_SIZE * yPos));
 	}
 
+	/**
+	 * Loads the zone's file (only the first time it is called).
+	 *
+	 * @return this
+	 */
 	@Override
-	public Zone init() {
+	public synchronized Zone init() {
+		if(this.isLoaded()) {
+			return this;
+		}
+
 		final long startTime = Time.getNanoTime();
 
 		final ArrayList<ArrayList<Character>> characters1 = support.File.getCharactersFromTextFile("/media/map/" + this.map.getMapName() + "/" + this.getZoneName());
@@ -62,10 +91,31 @@ class Zone extends GameObject {
 			this.characters.add(characters1.get(i));
 		}
 
+		this.loaded = true;
+
 		if(Options.DEBUG) System.out.println(this.getName() + " has been loaded in " + (Time.getNanoTime() - startTime) * Time.NANO_TO_MILLI + "ms.");
 		return this;
 	}
 
+	/**
+	 * Submits the loading of the zone's file to the WorkScheduler, so it is loaded before being needed.
+	 */
+	final void requestLoading() {
+		if(!this.isLoaded()) {
+			WorkScheduler.submit(this.loading);
+		}
+	}
+
+	/**
+	 * Returns whether the zone's file has been loaded.
+	 *
+	 * @return Zone.loaded
+	 */
+	@Contract(pure = true)
+	final boolean isLoaded() {
+		return this.loaded;
+	}
+
 	/**
 	 * Returns the zone's name.
 	 *
@@ -2,6 +2,8 @@ package engine.game.objects.tab;
 
 import engine.game.components.RenderedComponent;
 import engine.game.objects.GameObject;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class Tabs extends GameObject {
 
@@ -16,10 +18,25 @@ public class Tabs extends GameObject {
 	private RenderedComponent[] backgrounds;
 
 	/**
-	 * Tabs contents (one for each tab).
+	 * Tabs contents (one for each tab, null = not created yet or released).
 	 */
 	private GameObject[] contents;
 
+	/**
+	 * True = the contents are created when their tab is shown (see Tabs.createContent()).
+	 */
+	private boolean lazyContents;
+
+	/**
+	 * How long a created content stays hidden before being released (in seconds, 0 = never released).
+	 */
+	private double releaseTime;
+
+	/**
+	 * How long each content has been hidden (in seconds).
+	 */
+	private double[] hiddenTimes;
+
 	/**
 	 * Tabs buttons (one for each tab).
 	 */
@@ -42,6 +59,40 @@ public class Tabs extends GameObject {
 		super("Tabs " + name, width, height);
 
 		this.tabs = new Tab[length];
+		this.lazyContents = false;
+		this.releaseTime = 0.0;
+	}
+
+	@Override
+	public void update(final double delta) {
+		super.update(delta);
+
+		if(!this.lazyContents || this.releaseTime <= 0.0) {
+			return;
+		}
+
+		// The hidden contents aren't children: releasing one only drops it, it's created again when its tab is shown.
+		for(int i = 0; i < this.getLength(); i++) {
+			if(i != this.getIndex() && this.getContents()[i] != null) {
+				this.hiddenTimes[i] += delta;
+
+				if(this.hiddenTimes[i] >= this.releaseTime) {
+					this.getContents()[i].destroy();
+					this.getContents()[i] = null;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates the content of a tab when it's shown for the first time (or again after having been released).
+	 * Only called if the contents are set by Tabs.setLazyContents(). The states to keep must not be in the content.
+	 *
+	 * @param index Tab's index
+	 * @return new GameObject
+	 */
+	protected @Nullable GameObject createContent(final int index) {
+		return null;
 	}
 
 	/**
@@ -130,6 +181,32 @@ public class Tabs extends GameObject {
 		return this.getContents()[index];
 	}
 
+	/**
+	 * Returns the content of a specific tab, created if the contents are lazy and it isn't there.
+	 *
+	 * @param index Tab's index
+	 * @return Tabs.content[index]
+	 */
+	private @NotNull GameObject loadContent(final int index) {
+		GameObject content = this.getContent(index);
+
+		if(content == null && this.lazyContents) {
+			content = this.createContent(index);
+
+			if(content == null) {
+				throw new IllegalStateException("No content created for the tab " + index + " of " + this.getName() + ".");
+			}
+
+			this.getContents()[index] = content;
+		}
+
+		if(this.lazyContents) {
+			this.hiddenTimes[index] = 0.0;
+		}
+
+		return content;
+	}
+
 	/**
 	 * Returns all the buttons.
 	 *
@@ -197,15 +274,40 @@ public class Tabs extends GameObject {
 			throw new IllegalArgumentException("The number of contents is not equals to the number of oldTabs:\n" + this.getLength() + " oldTabs, " + contents.length + " contents");
 		}
 
-		// Clears the old contents if they do exists.
+		this.clearContents();
+
+		this.contents = contents;
+		this.lazyContents = false;
+		this.addChild(contents[this.getIndex()]);
+	}
+
+	/**
+	 * Sets the tabs contents to be created only when their tab is shown (see Tabs.createContent()):
+	 * the hidden tabs cost nothing until they're shown.
+	 *
+	 * @param releaseTime How long a content stays hidden before being released (in seconds, 0 = never released)
+	 */
+	final protected void setLazyContents(final double releaseTime) {
+		this.clearContents();
+
+		this.contents = new GameObject[this.getLength()];
+		this.hiddenTimes = new double[this.getLength()];
+		this.lazyContents = true;
+		this.releaseTime = releaseTime;
+		this.addChild(this.loadContent(this.getIndex()));
+	}
+
+	/**
+	 * Removes the contents if they do exist.
+	 */
+	private void clearContents() {
 		if(this.getContents() != null) {
 			for(final GameObject object : this.getContents()) {
-				this.removeChild(object);
+				if(object != null) {
+					this.removeChild(object);
+				}
 			}
 		}
-
-		this.contents = contents;
-		this.addChild(contents[this.getIndex()]);
 	}
 
 	/**
@@ -238,11 +340,15 @@ public class Tabs extends GameObject {
 	 *
 	 * @param index Index to set
 	 */
-	final void setIndex(final int index) {
+	final protected void setIndex(final int index) {
 		if(index < 0 || index >= this.getLength()) {
 			throw new IllegalArgumentException("Index chosen : " + index + ", number of oldTabs : " + this.getLength());
 		}
 
+		if(index == this.getIndex()) {
+			return;
+		}
+
 		if(this.getBackgrounds() != null) {
 			this.removeComponent(this.getBackground(this.getIndex()));
 			this.addComponent(this.getBackground(index));
@@ -250,12 +356,23 @@ public class Tabs extends GameObject {
 
 		if(this.getContents() != null) {
 			this.removeChild(this.getContent(this.getIndex()));
-			this.addChild(this.getContent(index));
+			this.addChild(this.loadContent(index));
 		}
 
 		this.getButton(this.getIndex()).setActive(true);
 		this.getButton(index).setActive(false);
 		this.index = index;
+
+		this.selected(index);
+	}
+
+	/**
+	 * Called when a tab is chosen.
+	 *
+	 * @param index Tab's index
+	 */
+	protected void selected(final int index) {
+
 	}
 
 }
\ No newline at end of file
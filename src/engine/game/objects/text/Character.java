@@ -2,34 +2,80 @@ package engine.game.objects.text;
 
 import engine.game.components.RenderedComponent;
 import engine.game.objects.GameObject;
-import engine.math.Vector2f;
-import engine.rendering.Mesh;
-import engine.rendering.Vertex;
+import engine.game.objects.GameObjectPool;
+import engine.rendering.MeshCache;
 import engine.rendering.texture.Material;
 import engine.rendering.texture.Texture;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 class Character extends GameObject {
 
     /**
-     * Creates a new Character instance.
+     * Characters printing the texts, reused from one print to another (they go back to the pool with their Word).
+     */
+    final static @NotNull GameObjectPool<Character> POOL = new GameObjectPool<Character>(512) {
+        @Override
+        protected @NotNull Character create() {
+            return new Character();
+        }
+    };
+
+    /**
+     * Character's rendered component (null = no glyph set yet).
+     */
+    private @Nullable RenderedComponent renderedComponent;
+
+    /**
+     * Width of the glyph the mesh is for (in pixels).
+     */
+    private int meshWidth;
+
+    /**
+     * Height of the glyph the mesh is for (in pixels).
+     */
+    private int meshHeight;
+
+    /**
+     * Creates a new Character instance, without glyph (see Character.setTexture()).
+     */
+    private Character() {
+        super("Character for Text", 0, 0);
+
+        this.renderedComponent = null;
+        this.meshWidth = -1;
+        this.meshHeight = -1;
+    }
+
+    /**
+     * Sets the glyph printed by the Character.
+     * The mesh (shared by the glyphs of the same size, see MeshCache) is only replaced if the glyph's size changes.
      *
-     * @param texture Texture to use
+     * @param texture Glyph's texture
+     * @return this
      */
-    Character(final Texture texture) {
-        super("Character for Text", texture.getWidth(), texture.getHeight());
+    final @NotNull Character setTexture(final @NotNull Texture texture) {
+        final boolean resized = texture.getWidth() != this.meshWidth || texture.getHeight() != this.meshHeight;
 
-        final Mesh mesh = new Mesh();
-        final Vertex[] vertices = new Vertex[] {
-            new Vertex(new Vector2f(0, texture.getHeight()), new Vector2f(0, 1)),
-            new Vertex(new Vector2f(0, 0), new Vector2f(0, 0)),
-            new Vertex(new Vector2f(texture.getWidth(), 0), new Vector2f(1, 0)),
-            new Vertex(new Vector2f(texture.getWidth(), texture.getHeight()), new Vector2f(1, 1))
-        };
-        mesh.setVertices(vertices);
+        if(this.renderedComponent == null) {
+            this.renderedComponent = new RenderedComponent(MeshCache.get(texture.getWidth(), texture.getHeight(), true), new Material(texture), texture.getWidth(), texture.getHeight());
+            this.addComponent(this.renderedComponent);
+        } else {
+            this.renderedComponent.getMaterial().setImage(texture);
 
-        final RenderedComponent renderedComponent = new RenderedComponent(mesh, new Material(texture), texture.getWidth(), texture.getHeight());
+            if(resized) {
+                this.renderedComponent.setMesh(MeshCache.get(texture.getWidth(), texture.getHeight(), true));
+            }
+        }
+
+        if(resized) {
+            this.meshWidth = texture.getWidth();
+            this.meshHeight = texture.getHeight();
+            this.setWidth(texture.getWidth());
+            this.setHeight(texture.getHeight());
+        }
 
-        this.addComponent(renderedComponent);
+        return this;
     }
 
     /**
@@ -1,7 +1,9 @@
 package engine.game.objects.text;
 
 import engine.util.Time;
+import engine.util.loading.AssetManifest;
 import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
 import java.util.HashMap;
@@ -57,6 +59,46 @@ public class FontLoader {
         FontLoader.fonts.put(name, new Font(FontLoader.getFontFolder() + name));
     }
 
+    /**
+     * Adds the characters of all the fonts that are in the font folder to the manifest:
+     * once preloaded, FontLoader::loadAll() doesn't read any file.
+     *
+     * @param manifest Manifest to fill
+     */
+    public static void addToManifest(final @NotNull AssetManifest manifest) {
+        final File folder = support.File.getFolder("/media/texture" + FontLoader.getFontFolder());
+
+        if(folder == null || !folder.isDirectory()) {
+            return; // FontLoader::loadAll() reports it.
+        }
+
+        for(final String font : folder.list()) {
+            final String[] characters = new File(folder, font).list();
+
+            if(characters == null) {
+                continue;
+            }
+
+            for(final String character : characters) {
+                if(!character.endsWith(".png")) {
+                    continue;
+                }
+
+                final String name = character.substring(0, character.length() - 4);
+
+                try {
+                    final int code = Integer.parseInt(name);
+
+                    if(code >= Font.STARTING_CHARACTER && code < Font.MAX_CHARACTERS) {
+                        manifest.addTexture(FontLoader.getFontFolder() + font + "/" + name); // Same name as in Font's constructor.
+                    }
+                } catch(final NumberFormatException e) {
+                    // Not a character.
+                }
+            }
+        }
+    }
+
     /**
      * Loads all the fonts that are in the font folder.
      */
@@ -4,14 +4,19 @@ import com.GameOptions;
 import engine.game.components.RenderedComponent;
 import engine.game.objects.GameObject;
 import engine.math.Vector2f;
+import engine.rendering.GLThread;
 import engine.rendering.shader.RenderToTextureShader;
 import engine.rendering.texture.Material;
 import engine.rendering.texture.Texture;
 import engine.util.Color;
 import engine.util.Units;
 import engine.util.Window;
+import engine.util.tasks.WorkItem;
+import engine.util.tasks.WorkScheduler;
 import org.jetbrains.annotations.Contract;
 
+import java.util.concurrent.Callable;
+
 import static org.lwjgl.opengl.GL30.GL_COLOR_ATTACHMENT0;
 
 public class Text extends GameObject {
@@ -96,6 +101,17 @@ public class Text extends GameObject {
      */
     private RenderedComponent renderedComponent;
 
+    /**
+     * Work printing the text later (see Text.printLater()).
+     */
+    final private WorkItem printing = new WorkItem("Text printing", WorkItem.PRIORITY_NORMAL) {
+        @Override
+        public boolean step() {
+            Text.this.print();
+            return true;
+        }
+    };
+
     /**
      * Creates a new Text instance.
      *
@@ -120,6 +136,36 @@ public class Text extends GameObject {
      * Prints the text on the rendered component and adds it.
      */
     final public void print() {
+        final Texture texture = GLThread.invoke(new Callable<Texture>() {
+            @Override
+            public Texture call() {
+                return Text.this.printToTexture();
+            }
+        });
+
+        if(this.getRenderedComponent() == null) {
+            final RenderedComponent renderedComponent = new RenderedComponent(new Material(texture, this.getColor()), this.getWidth(), this.getHeight());
+            this.setRenderedComponent(renderedComponent);
+        } else {
+            this.getRenderedComponent().getMaterial().setImage(texture);
+        }
+    }
+
+    /**
+     * Prints the text within the WorkScheduler's budget, in the next frames.
+     * The text changing several times before being printed is only printed once (e.g. keys typed quickly).
+     */
+    final public void printLater() {
+        WorkScheduler.submit(this.printing);
+    }
+
+    /**
+     * Renders the text in a new Texture and returns it.
+     * Must be called on the OpenGL thread.
+     *
+     * @return new Texture
+     */
+    private Texture printToTexture() {
         final int WINDOW_MULTIPLICATOR = GameOptions.getSelect("resolution").getIndex() + 1;
 
         final Vector2f textureDimension = Units.openGLToPixels(new Vector2f(this.getWidth() / (this.getSize() * WINDOW_MULTIPLICATOR), this.getHeight() / (this.getSize() * WINDOW_MULTIPLICATOR)));
@@ -145,11 +191,10 @@ public class Text extends GameObject {
             }
 
             for(int i = 0; i < characters.length; i++) {
-                characters[i] = new Character(this.getFont().getCharacterTexture(wordString.charAt(i)));
+                characters[i] = Character.POOL.obtain().setTexture(this.getFont().getCharacterTexture(wordString.charAt(i)));
             }
 
-
-            final Word word = new Word(characters, this.getCoreEngine());
+            final Word word = Word.POOL.obtain().set(characters, this.getCoreEngine());
 
             if(x + word.getWidth() - 1 > textureWidth) {
                 y++;
@@ -158,6 +203,7 @@ public class Text extends GameObject {
 
             word.setPosition(new Vector2f(x, y * this.getFont().getPixelHeight()));
             word.render(RenderToTextureShader.getInstance(), null);
+            Word.POOL.free(word); // Its characters go back to their pool too.
 
             x += word.getWidth() - 1 + this.getFont().getCharacterTexture(' ').getWidth();
 
@@ -170,12 +216,7 @@ public class Text extends GameObject {
         GameObject.ignoreRenderOutOfBounds = false;
         Window.bindAsRenderTarget();
 
-        if(this.getRenderedComponent() == null) {
-            final RenderedComponent renderedComponent = new RenderedComponent(new Material(texture, this.getColor()), this.getWidth(), this.getHeight());
-            this.setRenderedComponent(renderedComponent);
-        } else {
-            this.getRenderedComponent().getMaterial().setImage(texture);
-        }
+        return texture;
     }
 
     /**
@@ -2,18 +2,39 @@ package engine.game.objects.text;
 
 import engine.CoreEngine;
 import engine.game.objects.GameObject;
+import engine.game.objects.GameObjectPool;
 import engine.math.Vector2f;
+import org.jetbrains.annotations.NotNull;
 
 final class Word extends GameObject {
 
     /**
-     * Creates a new Word instance.
+     * Words printing the texts, reused from one print to another.
+     */
+    final static @NotNull GameObjectPool<Word> POOL = new GameObjectPool<Word>(64) {
+        @Override
+        protected @NotNull Word create() {
+            return new Word();
+        }
+    };
+
+    /**
+     * Creates a new empty Word instance (see Word.set()).
+     */
+    private Word() {
+        super("Word for text", 0, 0);
+    }
+
+    /**
+     * Sets the Word's characters.
      *
-     * @param characters Word's characters
+     * @param characters Word's characters (given by Character.POOL, they go back to it with the Word)
      * @param coreEngine Pointer to the CoreEngine
+     * @return this
      */
-    Word(final Character[] characters, final CoreEngine coreEngine) {
-        super("Word for text", Word.getWidthFromCharacters(characters), characters[0].getHeight());
+    final @NotNull Word set(final Character[] characters, final CoreEngine coreEngine) {
+        this.setWidth(Word.getWidthFromCharacters(characters));
+        this.setHeight(characters[0].getHeight());
 
         this.addToEngine(coreEngine);
 
@@ -25,6 +46,17 @@ final class Word extends GameObject {
 
             xPos += character.getWidth();
         }
+
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+
+        for(int i = this.getChildren().size() - 1; i >= 0; i--) { // From the last one: no child has to be moved.
+            this.removeChildInstantly(this.getChildren().get(i));
+        }
     }
 
     /**
@@ -0,0 +1,181 @@
+package engine.game.store;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Page of the EntityStore: the state of EntityStore::PAGE_SIZE entities, one primitive array per field (struct of arrays).
+ * An entity's values are at the same index in every array (see EntityStore.getIndex()).
+ * The arrays are never reallocated: the objects backed by a page can keep it.
+ */
+final public class EntityPage {
+
+	/**
+	 * Is the index used by an entity.
+	 */
+	final private @NotNull boolean[] used;
+
+	/**
+	 * Positions on the x axis (in Position units).
+	 */
+	final private @NotNull long[] positionsX;
+
+	/**
+	 * Positions on the y axis (in Position units).
+	 */
+	final private @NotNull long[] positionsY;
+
+	/**
+	 * Depths (in Position units).
+	 */
+	final private @NotNull long[] positionsZ;
+
+	/**
+	 * Rotations on the z axis.
+	 */
+	final private @NotNull double[] rotations;
+
+	/**
+	 * Scales on the x axis.
+	 */
+	final private @NotNull float[] scalesX;
+
+	/**
+	 * Scales on the y axis.
+	 */
+	final private @NotNull float[] scalesY;
+
+	/**
+	 * Velocities on the x axis (PhysicsObjects only, in tiles/second).
+	 */
+	final private @NotNull float[] velocitiesX;
+
+	/**
+	 * Velocities on the y axis (PhysicsObjects only, in tiles/second).
+	 */
+	final private @NotNull float[] velocitiesY;
+
+	/**
+	 * Directions (PhysicsObjects only, see Direction).
+	 */
+	final private @NotNull byte[] directions;
+
+	/**
+	 * Creates a new EntityPage instance.
+	 *
+	 * @param size Number of entities in the page
+	 */
+	EntityPage(final int size) {
+		this.used = new boolean[size];
+		this.positionsX = new long[size];
+		this.positionsY = new long[size];
+		this.positionsZ = new long[size];
+		this.rotations = new double[size];
+		this.scalesX = new float[size];
+		this.scalesY = new float[size];
+		this.velocitiesX = new float[size];
+		this.velocitiesY = new float[size];
+		this.directions = new byte[size];
+	}
+
+	/**
+	 * Returns whether the indexes are used by an entity.
+	 *
+	 * @return EntityPage.used
+	 */
+	@Contract(pure = true)
+	final public @NotNull boolean[] getUsed() {
+		return this.used;
+	}
+
+	/**
+	 * Returns the positions on the x axis.
+	 *
+	 * @return EntityPage.positionsX
+	 */
+	@Contract(pure = true)
+	final public @NotNull long[] getPositionsX() {
+		return this.positionsX;
+	}
+
+	/**
+	 * Returns the positions on the y axis.
+	 *
+	 * @return EntityPage.positionsY
+	 */
+	@Contract(pure = true)
+	final public @NotNull long[] getPositionsY() {
+		return this.positionsY;
+	}
+
+	/**
+	 * Returns the depths.
+	 *
+	 * @return EntityPage.positionsZ
+	 */
+	@Contract(pure = true)
+	final public @NotNull long[] getPositionsZ() {
+		return this.positionsZ;
+	}
+
+	/**
+	 * Returns the rotations.
+	 *
+	 * @return EntityPage.rotations
+	 */
+	@Contract(pure = true)
+	final public @NotNull double[] getRotations() {
+		return this.rotations;
+	}
+
+	/**
+	 * Returns the scales on the x axis.
+	 *
+	 * @return EntityPage.scalesX
+	 */
+	@Contract(pure = true)
+	final public @NotNull float[] getScalesX() {
+		return this.scalesX;
+	}
+
+	/**
+	 * Returns the scales on the y axis.
+	 *
+	 * @return EntityPage.scalesY
+	 */
+	@Contract(pure = true)
+	final public @NotNull float[] getScalesY() {
+		return this.scalesY;
+	}
+
+	/**
+	 * Returns the velocities on the x axis.
+	 *
+	 * @return EntityPage.velocitiesX
+	 */
+	@Contract(pure = true)
+	final public @NotNull float[] getVelocitiesX() {
+		return this.velocitiesX;
+	}
+
+	/**
+	 * Returns the velocities on the y axis.
+	 *
+	 * @return EntityPage.velocitiesY
+	 */
+	@Contract(pure = true)
+	final public @NotNull float[] getVelocitiesY() {
+		return this.velocitiesY;
+	}
+
+	/**
+	 * Returns the directions.
+	 *
+	 * @return EntityPage.directions
+	 */
+	@Contract(pure = true)
+	final public @NotNull byte[] getDirections() {
+		return this.directions;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package engine.game.store;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+
+/**
+ * Struct of arrays storing the state of the entities in the world (positions, rotations, scales, velocities, directions)
+ * in primitive arrays indexed by the entities' slot in the EntityRegistry, when Options.ENTITY_STORE is enabled.
+ * The Transforms, Positions, Directions and PhysicsObjects keep their API: they become views of their entity's values.
+ * Bulk systems can then go through the pages (see EntityStore.getPages()) instead of following the objects on the heap.
+ * The arrays are split in pages that are never moved: storing more entities only adds pages.
+ */
+final public class EntityStore {
+
+	/**
+	 * Number of entities in a page.
+	 */
+	final public static int PAGE_SIZE = 1024;
+
+	/**
+	 * Pages (the entity of slot s is in the page s / PAGE_SIZE).
+	 */
+	final private static @NotNull ArrayList<EntityPage> pages = new ArrayList<>();
+
+	/**
+	 * EntityStore is static only.
+	 */
+	private EntityStore() {
+
+	}
+
+	/**
+	 * Returns the page containing an entity, created if needed.
+	 *
+	 * @param slot Entity's slot (see EntityRegistry)
+	 * @return EntityPage
+	 */
+	public static synchronized @NotNull EntityPage getPage(final int slot) {
+		final int page = slot / EntityStore.PAGE_SIZE;
+
+		while(EntityStore.pages.size() <= page) {
+			EntityStore.pages.add(new EntityPage(EntityStore.PAGE_SIZE));
+		}
+
+		return EntityStore.pages.get(page);
+	}
+
+	/**
+	 * Returns the index of an entity in its page.
+	 *
+	 * @param slot Entity's slot (see EntityRegistry)
+	 * @return int
+	 */
+	@Contract(pure = true)
+	public static int getIndex(final int slot) {
+		return slot % EntityStore.PAGE_SIZE;
+	}
+
+	/**
+	 * Returns the pages, to go through the entities' values (only the indexes marked as used are entities).
+	 *
+	 * @return new EntityPage[]
+	 */
+	public static synchronized @NotNull EntityPage[] getPages() {
+		return EntityStore.pages.toArray(new EntityPage[EntityStore.pages.size()]);
+	}
+
+}
\ No newline at end of file
@@ -1,9 +1,14 @@
 package engine.physic;
 
+import com.Options;
+import engine.game.objects.map.Map;
+import engine.util.Position;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 
 final public class PhysicsEngine {
 
@@ -14,21 +19,115 @@ final public class PhysicsEngine {
 
 	/**
 	 * PhysicsEngine's objects to handle.
+	 * An object knows its slot in the list (see PhysicsObject.getEngineIndex()): a removal only marks the slot as freed,
+	 * the list is compacted before the objects are moved so they stay in the order they were added (the collisions are resolved in this order).
 	 */
 	final private static ArrayList<PhysicsObject> objects = new ArrayList<>();
 
+	/**
+	 * First slot freed in the objects list since it has been compacted (Integer.MAX_VALUE = none).
+	 */
+	private static int freedSlot = Integer.MAX_VALUE;
+
+	/**
+	 * Number of times the objects list has been modified (an object added or removed).
+	 */
+	private static long modifications = 0L;
+
+	/**
+	 * Number of the last broad phase computed.
+	 */
+	private static long broadPhase = 0L;
+
+	/**
+	 * Value of PhysicsEngine.modifications when the last broad phase has been computed (-1 = not usable).
+	 */
+	private static long broadPhaseModifications = -1L;
+
+	/**
+	 * Computes, for every moving object, which objects it might collide with during the next update.
+	 * Each object's bounds are extended by the longest distance it can travel during the update,
+	 * then the bounds overlapping are found by sorting them on the x axis and sweeping through them.
+	 * Only reads the objects: can run in parallel with anything that doesn't move them.
+	 *
+	 * @param delta Time of a frame
+	 */
+	public static void computeBroadPhase(final double delta) {
+		final PhysicsObject[] objects = PhysicsEngine.getHandledObjects();
+		final long[] minX = new long[objects.length];
+		final long[] minY = new long[objects.length];
+		final long[] maxX = new long[objects.length];
+		final long[] maxY = new long[objects.length];
+		final boolean[] moving = new boolean[objects.length];
+		final Integer[] order = new Integer[objects.length];
+		final float maxTileSpeed = Map.getInstance() != null ? Map.getInstance().getMaxTileSpeed() : 1.0f;
+
+		PhysicsEngine.broadPhase++;
+
+		for(int i = 0; i < objects.length; i++) {
+			final PhysicsObject object = objects[i];
+			final Position position = object.getPositionReference();
+			moving[i] = object.isMoving();
+
+			long travel = 0L;
+			if(moving[i]) {
+				final float tileSpeed = object.canFly() ? 1.0f : maxTileSpeed;
+				// Each iteration rounds its movement to the closest unit: 1 more unit per iteration.
+				travel = (long) Math.ceil(object.getVelocity().length() * delta * Options.TILE_SIZE * tileSpeed * Position.RATIO) + PhysicsEngine.ITERATIONS_PER_FRAME;
+				object.clearPotentialColliders(PhysicsEngine.broadPhase);
+			}
+
+			minX[i] = position.getX() - travel;
+			minY[i] = position.getY() - travel;
+			maxX[i] = position.getX() + object.getPhysicsWidthAsInt() + travel;
+			maxY[i] = position.getY() + object.getPhysicsHeightAsInt() + travel;
+			order[i] = i;
+		}
+
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(final Integer a, final Integer b) {
+				return Long.compare(minX[a], minX[b]);
+			}
+		});
+
+		for(int i = 0; i < order.length; i++) {
+			final int a = order[i];
+
+			for(int j = i + 1; j < order.length && minX[order[j]] <= maxX[a]; j++) {
+				final int b = order[j];
+				if(!moving[a] && !moving[b]) continue;
+				if(minY[a] > maxY[b] || minY[b] > maxY[a]) continue;
+
+				if(moving[a]) objects[a].addPotentialCollider(objects[b], b);
+				if(moving[b]) objects[b].addPotentialCollider(objects[a], a);
+			}
+		}
+
+		// Keeps the objects' order so the collisions are resolved the same way as without broad phase.
+		for(int i = 0; i < objects.length; i++) {
+			if(moving[i]) objects[i].sortPotentialColliders();
+		}
+
+		PhysicsEngine.broadPhaseModifications = PhysicsEngine.modifications;
+	}
+
 	/**
 	 * Called every frame at the beginning of update, so that it will calculate new positions.
 	 *
 	 * @param delta Time of a frame
 	 */
 	public static void update(final double delta) {
+		PhysicsEngine.compact();
+
 		for(int i = 0; i < PhysicsEngine.ITERATIONS_PER_FRAME; i++) {
 			for(final PhysicsObject object : PhysicsEngine.objects) {
-				if(!object.isMoving()) continue;
+				if(!object.isMoving() || object.isDormant()) continue;
 				object.move(delta / PhysicsEngine.ITERATIONS_PER_FRAME);
 			}
 		}
+
+		PhysicsEngine.broadPhaseModifications = -1L; // The objects have moved: the broad phase is outdated.
 	}
 
 	/**
@@ -36,18 +135,88 @@ final public class PhysicsEngine {
 	 *
 	 * @return PhysicsEngine::objects
 	 */
-	@Contract(pure = true)
 	static ArrayList<PhysicsObject> getObjects() {
+		PhysicsEngine.compact();
+
 		return PhysicsEngine.objects;
 	}
 
+	/**
+	 * Returns the objects handled, in order, without the freed slots (the list isn't modified).
+	 *
+	 * @return PhysicsObject[]
+	 */
+	@Contract(pure = true)
+	private static @NotNull PhysicsObject[] getHandledObjects() {
+		final int size = PhysicsEngine.objects.size();
+		if(PhysicsEngine.freedSlot >= size) {
+			return PhysicsEngine.objects.toArray(new PhysicsObject[size]);
+		}
+
+		final ArrayList<PhysicsObject> handled = new ArrayList<>(size);
+		for(int i = 0; i < size; i++) {
+			final PhysicsObject object = PhysicsEngine.objects.get(i);
+
+			if(object.getEngineIndex() == i) {
+				handled.add(object);
+			}
+		}
+
+		return handled.toArray(new PhysicsObject[handled.size()]);
+	}
+
+	/**
+	 * Drops the freed slots from the objects, from the first one freed, and gives the objects after it their new slot.
+	 * A slot is freed when the object in it doesn't know it as its own anymore (see PhysicsObject.getEngineIndex()).
+	 */
+	private static void compact() {
+		final int size = PhysicsEngine.objects.size();
+		if(PhysicsEngine.freedSlot >= size) {
+			PhysicsEngine.freedSlot = Integer.MAX_VALUE;
+			return;
+		}
+
+		int kept = PhysicsEngine.freedSlot;
+		for(int i = PhysicsEngine.freedSlot; i < size; i++) {
+			final PhysicsObject object = PhysicsEngine.objects.get(i);
+
+			if(object.getEngineIndex() == i) {
+				object.setEngineIndex(kept);
+				PhysicsEngine.objects.set(kept, object);
+				kept++;
+			}
+		}
+
+		PhysicsEngine.objects.subList(kept, size).clear();
+		PhysicsEngine.freedSlot = Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Returns the number of the broad phase that can be used for the current update (-1 = none).
+	 *
+	 * @return PhysicsEngine::broadPhase
+	 */
+	@Contract(pure = true)
+	static long getBroadPhase() {
+		return PhysicsEngine.broadPhaseModifications == PhysicsEngine.modifications ? PhysicsEngine.broadPhase : -1L;
+	}
+
 	/**
 	 * Adds a PhysicsObject to the engine.
 	 *
 	 * @param object Object to add
 	 */
 	public static void addObject(final @NotNull PhysicsObject object) {
+		if(PhysicsEngine.hasObject(object)) { // Object already handled, it would collide with itself.
+			System.err.println("Error: This object is already in PhysicsEngine.");
+			System.err.println(object);
+			new Exception().printStackTrace();
+			return;
+		}
+
+		object.setEngineIndex(PhysicsEngine.objects.size());
 		PhysicsEngine.objects.add(object);
+		PhysicsEngine.modifications++;
 	}
 
 	/**
@@ -56,13 +225,31 @@ final public class PhysicsEngine {
 	 * @param object Object to remove
 	 */
 	public static void removeObject(final @NotNull PhysicsObject object) {
-		final boolean removed = PhysicsEngine.objects.remove(object);
-
-		if(!removed) { // Object was not found, thus list was not changed.
+		if(!PhysicsEngine.hasObject(object)) { // Object was not found, thus list was not changed.
 			System.err.println("Error: This object couldn't be removed from PhysicsEngine.");
 			System.err.println(object);
 			new Exception().printStackTrace();
+			return;
 		}
+
+		// Constant time: the slot is only marked as freed, the list is compacted before the objects move (see PhysicsEngine.compact()).
+		PhysicsEngine.freedSlot = Math.min(PhysicsEngine.freedSlot, object.getEngineIndex());
+		object.setEngineIndex(-1);
+
+		PhysicsEngine.modifications++;
+	}
+
+	/**
+	 * Returns whether a PhysicsObject is handled by the engine.
+	 *
+	 * @param object Object to check
+	 * @return boolean
+	 */
+	@Contract(pure = true)
+	public static boolean hasObject(final @NotNull PhysicsObject object) {
+		final int index = object.getEngineIndex();
+
+		return index >= 0 && index < PhysicsEngine.objects.size() && PhysicsEngine.objects.get(index) == object;
 	}
 
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package engine.physic;
 
 import com.Options;
 import engine.game.objects.GameObject;
+import engine.game.store.EntityPage;
 import engine.game.objects.map.Map;
 import engine.math.Vector2f;
 import engine.physic.colliders.AABBCollider;
@@ -38,6 +39,36 @@ public abstract class PhysicsObject extends GameObject {
 	 */
 	final private Direction direction = new Direction();
 
+	/**
+	 * Objects this one might collide with during the update (see PhysicsEngine.computeBroadPhase()).
+	 */
+	final private @NotNull ArrayList<PhysicsObject> potentialColliders = new ArrayList<>();
+
+	/**
+	 * Indexes of the potential colliders in PhysicsEngine's objects.
+	 */
+	final private @NotNull ArrayList<Integer> potentialCollidersIndexes = new ArrayList<>();
+
+	/**
+	 * Number of the broad phase the potential colliders have been computed by.
+	 */
+	private long broadPhase = -1L;
+
+	/**
+	 * Page of the EntityStore the velocity is stored in, instead of the field above (null = none, see PhysicsObject.bindColumns()).
+	 */
+	private @Nullable EntityPage page;
+
+	/**
+	 * Object's index in the page.
+	 */
+	private int index;
+
+	/**
+	 * Object's slot in PhysicsEngine's objects (-1 = not handled).
+	 */
+	private int engineIndex = -1;
+
 	/**
 	 * Creates a new PhysicsObject instance.
 	 *
@@ -61,7 +92,8 @@ public abstract class PhysicsObject extends GameObject {
 	 */
 	@Contract(pure = true)
 	final public @NotNull Vector2f getVelocity() {
-		return new Vector2f(this.velocity);
+		final EntityPage page = this.page;
+		return page == null ? new Vector2f(this.velocity) : new Vector2f(page.getVelocitiesX()[this.index], page.getVelocitiesY()[this.index]);
 	}
 
 	/**
@@ -185,12 +217,19 @@ public abstract class PhysicsObject extends GameObject {
 
 	/**
 	 * Sets the PhysicsObject's velocity.
-	 * This assigns the pointer, so be careful modifying the vector after.
+	 * This assigns the pointer, so be careful modifying the vector after (unless stored in the EntityStore: the vector is copied).
 	 *
 	 * @param velocity Velocity to set
 	 */
 	final protected void setVelocity(final @NotNull Vector2f velocity) {
-		this.velocity = velocity;
+		final EntityPage page = this.page;
+
+		if(page == null) {
+			this.velocity = velocity;
+		} else {
+			page.getVelocitiesX()[this.index] = velocity.getX();
+			page.getVelocitiesY()[this.index] = velocity.getY();
+		}
 	}
 
 	/**
@@ -280,6 +319,90 @@ public abstract class PhysicsObject extends GameObject {
 		}
 	}
 
+	@Override
+	protected void bindColumns(final @Nullable EntityPage page, final int index) {
+		super.bindColumns(page, index);
+
+		final Vector2f velocity = this.getVelocity();
+
+		this.page = page;
+		this.index = index;
+		this.setVelocity(velocity);
+		this.getDirection().bind(page, index);
+	}
+
+	@Override
+	public void reset() {
+		super.reset();
+
+		this.setVelocity(new Vector2f(0, 0));
+		this.clearPotentialColliders(-1L);
+	}
+
+	/**
+	 * Returns the object's slot in PhysicsEngine's objects.
+	 *
+	 * @return PhysicsObject.engineIndex
+	 */
+	@Contract(pure = true)
+	final int getEngineIndex() {
+		return this.engineIndex;
+	}
+
+	/**
+	 * Sets the object's slot in PhysicsEngine's objects.
+	 *
+	 * @param index Slot to set (-1 = not handled)
+	 */
+	final void setEngineIndex(final int index) {
+		this.engineIndex = index;
+	}
+
+	/**
+	 * Clears the potential colliders before a new broad phase.
+	 *
+	 * @param broadPhase Number of the broad phase
+	 */
+	final void clearPotentialColliders(final long broadPhase) {
+		this.potentialColliders.clear();
+		this.potentialCollidersIndexes.clear();
+		this.broadPhase = broadPhase;
+	}
+
+	/**
+	 * Adds a potential collider found by the broad phase.
+	 *
+	 * @param object Object this one might collide with
+	 * @param index Object's index in PhysicsEngine's objects
+	 */
+	final void addPotentialCollider(final @NotNull PhysicsObject object, final int index) {
+		this.potentialColliders.add(object);
+		this.potentialCollidersIndexes.add(index);
+	}
+
+	/**
+	 * Sorts the potential colliders in the same order as PhysicsEngine's objects.
+	 */
+	final void sortPotentialColliders() {
+		final int size = this.potentialColliders.size();
+
+		// Insertion sort: there are only a few potential colliders, mostly sorted already.
+		for(int i = 1; i < size; i++) {
+			final PhysicsObject object = this.potentialColliders.get(i);
+			final int index = this.potentialCollidersIndexes.get(i);
+			int j = i - 1;
+
+			while(j >= 0 && this.potentialCollidersIndexes.get(j) > index) {
+				this.potentialColliders.set(j + 1, this.potentialColliders.get(j));
+				this.potentialCollidersIndexes.set(j + 1, this.potentialCollidersIndexes.get(j));
+				j--;
+			}
+
+			this.potentialColliders.set(j + 1, object);
+			this.potentialCollidersIndexes.set(j + 1, index);
+		}
+	}
+
 	/**
 	 * Moves the PhysicsObject for a frame.
 	 * This checks for map's tiles but not yet for intersection/collisions.
@@ -306,8 +429,9 @@ public abstract class PhysicsObject extends GameObject {
 			potentialColliders.addAll(Map.getInstance().getTilesOnAsColliders(futurePos, this.getPhysicsWidthAsInt(), this.getPhysicsHeightAsInt(), this.canWalk(), this.canSwim()));
 		}
 
-		// Check with all other Physics Object
-		for(final @NotNull PhysicsObject object : PhysicsEngine.getObjects()) {
+		// Check with all other Physics Object (only the ones found by the broad phase if it has been computed).
+		final boolean broadPhase = this.broadPhase == PhysicsEngine.getBroadPhase();
+		for(final @NotNull PhysicsObject object : broadPhase ? this.potentialColliders : PhysicsEngine.getObjects()) {
 			if(object == this) {
 				continue;
 			}
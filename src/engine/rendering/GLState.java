@@ -0,0 +1,256 @@
+package engine.rendering;
+
+import engine.util.profiling.Profiler;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+import static org.lwjgl.opengl.GL11.GL_TEXTURE_2D;
+import static org.lwjgl.opengl.GL11.glBindTexture;
+import static org.lwjgl.opengl.GL11.glViewport;
+import static org.lwjgl.opengl.GL13.GL_TEXTURE0;
+import static org.lwjgl.opengl.GL13.glActiveTexture;
+import static org.lwjgl.opengl.GL20.glUseProgram;
+import static org.lwjgl.opengl.GL30.GL_DRAW_FRAMEBUFFER;
+import static org.lwjgl.opengl.GL30.glBindFramebuffer;
+import static org.lwjgl.opengl.GL30.glBindVertexArray;
+
+/**
+ * Remembers what is bound in the OpenGL context (program, textures, draw frame buffer, viewport, vertex array)
+ * and skips the calls that wouldn't change anything.
+ * Every bind of these must go through it, otherwise it must be told (see GLState.invalidate()).
+ * The deleted objects must be forgotten (see GLState.forgetTexture() and GLState.forgetFramebuffer()): their ids can be given again.
+ * Must only be used by the OpenGL thread.
+ */
+final public class GLState {
+
+	/**
+	 * Number of texture units tracked.
+	 */
+	final public static int TEXTURE_UNITS = 16;
+
+	/**
+	 * Value of what isn't known (bound outside of GLState, or deleted).
+	 */
+	final private static int UNKNOWN = -1;
+
+	/**
+	 * Program in use.
+	 */
+	private static int program = GLState.UNKNOWN;
+
+	/**
+	 * Active texture unit (0 = GL_TEXTURE0).
+	 */
+	private static int activeUnit = GLState.UNKNOWN;
+
+	/**
+	 * 2D texture bound to each texture unit.
+	 */
+	final private static @NotNull int[] textures = GLState.unknownTextures();
+
+	/**
+	 * Draw frame buffer bound (0 = window).
+	 */
+	private static int drawFramebuffer = GLState.UNKNOWN;
+
+	/**
+	 * Viewport: x, y, width and height.
+	 */
+	final private static @NotNull int[] viewport = new int[] {GLState.UNKNOWN, GLState.UNKNOWN, GLState.UNKNOWN, GLState.UNKNOWN};
+
+	/**
+	 * Vertex array bound.
+	 */
+	private static int vertexArray = GLState.UNKNOWN;
+
+	/**
+	 * Number of calls made since the last report.
+	 */
+	private static int calls = 0;
+
+	/**
+	 * Number of calls avoided since the last report.
+	 */
+	private static int avoidedCalls = 0;
+
+	/**
+	 * GLState is static only.
+	 */
+	private GLState() {
+
+	}
+
+	/**
+	 * Uses a program (glUseProgram).
+	 *
+	 * @param program Program's id (0 = none)
+	 */
+	public static void useProgram(final int program) {
+		if(GLState.program == program) {
+			GLState.avoidedCalls++;
+			return;
+		}
+
+		glUseProgram(program);
+		GLState.program = program;
+		GLState.calls++;
+	}
+
+	/**
+	 * Binds a 2D texture to the first texture unit.
+	 *
+	 * @param texture Texture's id
+	 */
+	public static void bindTexture(final int texture) {
+		GLState.bindTexture(0, texture);
+	}
+
+	/**
+	 * Binds a 2D texture to a texture unit (glActiveTexture and glBindTexture).
+	 *
+	 * @param unit Texture unit (0 = GL_TEXTURE0, less than GLState::TEXTURE_UNITS)
+	 * @param texture Texture's id
+	 */
+	public static void bindTexture(final int unit, final int texture) {
+		if(GLState.textures[unit] == texture) {
+			GLState.avoidedCalls++;
+			return;
+		}
+
+		if(GLState.activeUnit != unit) {
+			glActiveTexture(GL_TEXTURE0 + unit);
+			GLState.activeUnit = unit;
+			GLState.calls++;
+		}
+
+		glBindTexture(GL_TEXTURE_2D, texture);
+		GLState.textures[unit] = texture;
+		GLState.calls++;
+	}
+
+	/**
+	 * Binds a draw frame buffer (glBindFramebuffer with GL_DRAW_FRAMEBUFFER).
+	 *
+	 * @param framebuffer Frame buffer's id (0 = window)
+	 */
+	public static void bindDrawFramebuffer(final int framebuffer) {
+		if(GLState.drawFramebuffer == framebuffer) {
+			GLState.avoidedCalls++;
+			return;
+		}
+
+		glBindFramebuffer(GL_DRAW_FRAMEBUFFER, framebuffer);
+		GLState.drawFramebuffer = framebuffer;
+		GLState.calls++;
+	}
+
+	/**
+	 * Sets the viewport (glViewport).
+	 *
+	 * @param x Viewport's x
+	 * @param y Viewport's y
+	 * @param width Viewport's width
+	 * @param height Viewport's height
+	 */
+	public static void viewport(final int x, final int y, final int width, final int height) {
+		if(GLState.viewport[0] == x && GLState.viewport[1] == y && GLState.viewport[2] == width && GLState.viewport[3] == height) {
+			GLState.avoidedCalls++;
+			return;
+		}
+
+		glViewport(x, y, width, height);
+		GLState.viewport[0] = x;
+		GLState.viewport[1] = y;
+		GLState.viewport[2] = width;
+		GLState.viewport[3] = height;
+		GLState.calls++;
+	}
+
+	/**
+	 * Binds a vertex array (glBindVertexArray).
+	 *
+	 * @param vertexArray Vertex array's id (0 = none)
+	 */
+	public static void bindVertexArray(final int vertexArray) {
+		if(GLState.vertexArray == vertexArray) {
+			GLState.avoidedCalls++;
+			return;
+		}
+
+		glBindVertexArray(vertexArray);
+		GLState.vertexArray = vertexArray;
+		GLState.calls++;
+	}
+
+	/**
+	 * Forgets a deleted texture: the units it was bound to are unknown.
+	 *
+	 * @param texture Texture's id
+	 */
+	public static void forgetTexture(final int texture) {
+		for(int i = 0; i < GLState.TEXTURE_UNITS; i++) {
+			if(GLState.textures[i] == texture) {
+				GLState.textures[i] = GLState.UNKNOWN;
+			}
+		}
+	}
+
+	/**
+	 * Forgets a deleted frame buffer.
+	 *
+	 * @param framebuffer Frame buffer's id
+	 */
+	public static void forgetFramebuffer(final int framebuffer) {
+		if(GLState.drawFramebuffer == framebuffer) {
+			GLState.drawFramebuffer = GLState.UNKNOWN;
+		}
+	}
+
+	/**
+	 * Forgets everything (e.g. after OpenGL calls made outside of GLState): the next calls are all made.
+	 */
+	public static void invalidate() {
+		GLState.program = GLState.UNKNOWN;
+		GLState.activeUnit = GLState.UNKNOWN;
+		Arrays.fill(GLState.textures, GLState.UNKNOWN);
+		GLState.drawFramebuffer = GLState.UNKNOWN;
+		Arrays.fill(GLState.viewport, GLState.UNKNOWN);
+		GLState.vertexArray = GLState.UNKNOWN;
+	}
+
+	/**
+	 * Returns the number of calls avoided since the last report.
+	 *
+	 * @return GLState::avoidedCalls
+	 */
+	@Contract(pure = true)
+	public static int getAvoidedCalls() {
+		return GLState.avoidedCalls;
+	}
+
+	/**
+	 * Reports the calls made and avoided since the last report to the Profiler, and resets them.
+	 */
+	public static void report() {
+		Profiler.setValue("GL state calls", GLState.calls + " (" + GLState.avoidedCalls + " avoided)");
+
+		GLState.calls = 0;
+		GLState.avoidedCalls = 0;
+	}
+
+	/**
+	 * Returns the texture units' bindings, all unknown.
+	 *
+	 * @return new int[GLState::TEXTURE_UNITS]
+	 */
+	@Contract(pure = true)
+	private static @NotNull int[] unknownTextures() {
+		final int[] textures = new int[GLState.TEXTURE_UNITS];
+		Arrays.fill(textures, GLState.UNKNOWN);
+
+		return textures;
+	}
+
+}
\ No newline at end of file
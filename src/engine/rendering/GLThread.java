@@ -0,0 +1,186 @@
+package engine.rendering;
+
+import engine.util.Time;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * OpenGL calls can only be made by the thread owning the context.
+ * When the engine runs pipelined, the logic thread queues its OpenGL work here (texture/mesh creation,
+ * render to texture...) and waits for the OpenGL thread to execute it between two frames.
+ * The background loaders (e.g. the scene loader of the Game) queue their uploads here too.
+ */
+final public class GLThread {
+
+	/**
+	 * Thread owning the OpenGL context (null = no context, everything runs on the calling thread).
+	 */
+	private static volatile @Nullable Thread thread = null;
+
+	/**
+	 * Tasks waiting to be executed by the OpenGL thread.
+	 */
+	final private static @NotNull ConcurrentLinkedQueue<FutureTask<?>> tasks = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Sets the current thread as the thread owning the OpenGL context.
+	 */
+	public static void bindCurrentThread() {
+		GLThread.thread = Thread.currentThread();
+	}
+
+	/**
+	 * Returns whether the current thread can make OpenGL calls.
+	 *
+	 * @return true = current thread is the OpenGL thread (or there is none)
+	 */
+	@Contract(pure = true)
+	public static boolean isCurrentThread() {
+		final Thread glThread = GLThread.thread;
+		return glThread == null || glThread == Thread.currentThread();
+	}
+
+	/**
+	 * Executes the task on the OpenGL thread and waits for it to be done.
+	 * If called from the OpenGL thread, the task is executed right away.
+	 *
+	 * @param task Task to execute
+	 */
+	public static void invoke(final @NotNull Runnable task) {
+		if(GLThread.isCurrentThread()) {
+			task.run();
+		} else {
+			GLThread.invokeAndWait(new FutureTask<Void>(task, null));
+		}
+	}
+
+	/**
+	 * Executes the task on the OpenGL thread, waits for it to be done and returns its result.
+	 * If called from the OpenGL thread, the task is executed right away.
+	 *
+	 * @param task Task to execute
+	 * @param <T> Result's type
+	 * @return task's result
+	 */
+	public static <T> T invoke(final @NotNull Callable<T> task) {
+		if(GLThread.isCurrentThread()) {
+			try {
+				return task.call();
+			} catch(final Exception e) {
+				System.err.println("Error: a task on the OpenGL thread failed.");
+				e.printStackTrace();
+				System.exit(1);
+				return null;
+			}
+		}
+
+		return GLThread.invokeAndWait(new FutureTask<>(task));
+	}
+
+	/**
+	 * Queues the task for the OpenGL thread without waiting for it (e.g. from the finalizer thread).
+	 * If called from the OpenGL thread, the task is executed right away.
+	 *
+	 * @param task Task to execute
+	 */
+	public static void post(final @NotNull Runnable task) {
+		if(GLThread.isCurrentThread()) {
+			task.run();
+		} else {
+			GLThread.tasks.add(new FutureTask<Void>(task, null));
+			GLThread.wakeUp();
+		}
+	}
+
+	/**
+	 * Executes all the waiting tasks.
+	 * This method must only be called by the OpenGL thread.
+	 *
+	 * @return Number of tasks executed
+	 */
+	public static int processTasks() {
+		int executed = 0;
+
+		FutureTask<?> task;
+		while((task = GLThread.tasks.poll()) != null) {
+			task.run();
+			executed++;
+		}
+
+		return executed;
+	}
+
+	/**
+	 * Executes the waiting tasks until maxTime has passed (at least one task is executed if any is waiting).
+	 * This method must only be called by the OpenGL thread.
+	 *
+	 * @param maxTime Maximum time spent executing the tasks (in ns)
+	 * @return Number of tasks executed
+	 */
+	public static int processTasks(final long maxTime) {
+		final long startTime = Time.getNanoTime();
+		int executed = 0;
+
+		FutureTask<?> task;
+		while((task = GLThread.tasks.poll()) != null) {
+			task.run();
+			executed++;
+
+			if(Time.getNanoTime() - startTime >= maxTime) break;
+		}
+
+		return executed;
+	}
+
+	/**
+	 * Parks the OpenGL thread until it's woken up (see GLThread.wakeUp()) or maxWait has passed.
+	 * Returns right away if a task is waiting.
+	 *
+	 * @param maxWait Maximum time to wait (in ns)
+	 */
+	public static void waitForWork(final long maxWait) {
+		if(GLThread.tasks.isEmpty()) {
+			LockSupport.parkNanos(maxWait);
+		}
+	}
+
+	/**
+	 * Wakes the OpenGL thread up (e.g. a new snapshot has been published).
+	 */
+	public static void wakeUp() {
+		final Thread glThread = GLThread.thread;
+
+		if(glThread != null) {
+			LockSupport.unpark(glThread);
+		}
+	}
+
+	/**
+	 * Queues the task for the OpenGL thread and waits for its result.
+	 *
+	 * @param task Task to queue
+	 * @param <T> Result's type
+	 * @return task's result
+	 */
+	private static <T> T invokeAndWait(final @NotNull FutureTask<T> task) {
+		GLThread.tasks.add(task);
+		GLThread.wakeUp();
+
+		try {
+			return task.get();
+		} catch(final InterruptedException | ExecutionException e) {
+			System.err.println("Error: a task queued on the OpenGL thread failed.");
+			e.printStackTrace();
+			System.exit(1);
+			return null;
+		}
+	}
+
+}
\ No newline at end of file
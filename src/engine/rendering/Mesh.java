@@ -1,11 +1,13 @@
 package engine.rendering;
 
 import engine.math.Vector2f;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.lwjgl.BufferUtils;
 
 import java.nio.ByteBuffer;
 import java.nio.FloatBuffer;
+import java.util.concurrent.Callable;
 
 import static org.lwjgl.opengl.GL11.GL_FLOAT;
 import static org.lwjgl.opengl.GL11.GL_TRIANGLES;
@@ -18,10 +20,8 @@ import static org.lwjgl.opengl.GL15.glBindBuffer;
 import static org.lwjgl.opengl.GL15.glBufferData;
 import static org.lwjgl.opengl.GL15.glDeleteBuffers;
 import static org.lwjgl.opengl.GL15.glGenBuffers;
-import static org.lwjgl.opengl.GL20.glDisableVertexAttribArray;
 import static org.lwjgl.opengl.GL20.glEnableVertexAttribArray;
 import static org.lwjgl.opengl.GL20.glVertexAttribPointer;
-import static org.lwjgl.opengl.GL30.glBindVertexArray;
 import static org.lwjgl.opengl.GL30.glDeleteVertexArrays;
 import static org.lwjgl.opengl.GL30.glGenVertexArrays;
 
@@ -47,14 +47,39 @@ final public class Mesh {
 	 */
 	private int size;
 
+	/**
+	 * Mesh's vertices (kept for the CPU side, e.g. batching and bounds).
+	 */
+	private @NotNull Vertex[] vertices;
+
+	/**
+	 * Mesh's key in the MeshCache (-1 = not from the cache).
+	 */
+	private long cacheKey;
+
+	/**
+	 * How many times the Mesh is used, when it comes from the MeshCache (0 = dropped from the cache).
+	 */
+	private int references;
+
 	/**
 	 * Creates a new Mesh instance.
 	 */
 	public Mesh() {
-		this.vao = glGenVertexArrays();
-		this.vbo = glGenBuffers();
-		this.vboi = glGenBuffers();
+		final int[] ids = GLThread.invoke(new Callable<int[]>() {
+			@Override
+			public int[] call() {
+				return new int[] {glGenVertexArrays(), glGenBuffers(), glGenBuffers()};
+			}
+		});
+
+		this.vao = ids[0];
+		this.vbo = ids[1];
+		this.vboi = ids[2];
 		this.size = 0;
+		this.vertices = new Vertex[0];
+		this.cacheKey = -1L;
+		this.references = 0;
 	}
 
 	@Override
@@ -66,9 +91,18 @@ final public class Mesh {
 			System.exit(1);
 		}
 
-		glDeleteBuffers(this.vboi);
-		glDeleteBuffers(this.vbo);
-		glDeleteVertexArrays(this.vao);
+		// The finalizer thread has no OpenGL context.
+		final int vao = this.vao;
+		final int vbo = this.vbo;
+		final int vboi = this.vboi;
+		GLThread.post(new Runnable() {
+			@Override
+			public void run() {
+				glDeleteBuffers(vboi);
+				glDeleteBuffers(vbo);
+				glDeleteVertexArrays(vao);
+			}
+		});
 	}
 
 	/**
@@ -94,17 +128,39 @@ final public class Mesh {
 	 * @param vertices Vertex[] to set
 	 */
 	final public void setVertices(final @NotNull Vertex[] vertices) {
+		if(this.isCached()) {
+			throw new IllegalStateException("A Mesh shared by the MeshCache can't be changed.");
+		}
+
 		this.size = vertices.length;
+		this.vertices = vertices;
+
+		final FloatBuffer verticesBuffer = this.createVerticesBuffer(vertices);
+		GLThread.invoke(new Runnable() {
+			@Override
+			public void run() {
+				Mesh.this.upload(verticesBuffer);
+			}
+		});
+	}
 
-		glBindVertexArray(this.vao);
+	/**
+	 * Uploads the vertices and the triangle's indices to the Mesh's buffers, on the OpenGL thread.
+	 *
+	 * @param verticesBuffer Flipped vertices buffer
+	 */
+	private void upload(final @NotNull FloatBuffer verticesBuffer) {
+		GLState.bindVertexArray(this.vao);
 		glBindBuffer(GL_ARRAY_BUFFER, this.vbo);
-		glBufferData(GL_ARRAY_BUFFER, this.createVerticesBuffer(vertices), GL_STATIC_DRAW);
+		glBufferData(GL_ARRAY_BUFFER, verticesBuffer, GL_STATIC_DRAW);
 
+		// Kept by the VAO: nothing to enable when drawing.
 		glVertexAttribPointer(0, 2, GL_FLOAT, false, Vertex.SIZE * 4, 0);
 		glVertexAttribPointer(1, 2, GL_FLOAT, false, Vertex.SIZE * 4, 8);
+		glEnableVertexAttribArray(0);
+		glEnableVertexAttribArray(1);
 
 		glBindBuffer(GL_ARRAY_BUFFER, 0);
-		glBindVertexArray(0);
 
 		final byte[] indices = {
 			0, 1, 2,
@@ -115,28 +171,76 @@ final public class Mesh {
 		indicesBuffer.put(indices);
 		indicesBuffer.flip();
 
-		glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, this.vboi);
+		glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, this.vboi); // Kept by the VAO.
 		glBufferData(GL_ELEMENT_ARRAY_BUFFER, indicesBuffer, GL_STATIC_DRAW);
-		glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
+	}
+
+	/**
+	 * Returns the Mesh's vertices.
+	 *
+	 * @return Mesh.vertices
+	 */
+	@Contract(pure = true)
+	final public @NotNull Vertex[] getVertices() {
+		return this.vertices;
+	}
+
+	/**
+	 * Returns whether the Mesh comes from the MeshCache (it's then shared and can't be changed).
+	 *
+	 * @return boolean
+	 */
+	@Contract(pure = true)
+	final public boolean isCached() {
+		return this.cacheKey != -1L;
+	}
+
+	/**
+	 * Returns the Mesh's key in the MeshCache.
+	 *
+	 * @return Mesh.cacheKey
+	 */
+	@Contract(pure = true)
+	final long getCacheKey() {
+		return this.cacheKey;
+	}
+
+	/**
+	 * Sets the Mesh's key in the MeshCache, with its first reference.
+	 *
+	 * @param cacheKey Key to set
+	 */
+	final void setCached(final long cacheKey) {
+		this.cacheKey = cacheKey;
+		this.references = 1;
+	}
+
+	/**
+	 * Adds a reference to this cached Mesh.
+	 */
+	final void addReference() {
+		this.references++;
+	}
+
+	/**
+	 * Removes a reference to this cached Mesh.
+	 *
+	 * @return true if Mesh.references == 0
+	 */
+	final boolean removeReference() {
+		this.references--;
+
+		return this.references == 0;
 	}
 
 	/**
 	 * Draws the Mesh on the screen.
 	 */
 	final public void draw() {
-		glBindVertexArray(this.vao);
-		glEnableVertexAttribArray(0);
-		glEnableVertexAttribArray(1);
-
-		glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, this.vboi);
+		GLState.bindVertexArray(this.vao); // The attributes and the indices are kept by the VAO (see Mesh.upload()).
 
 		//glDrawArrays(GL_QUADS, 0, this.size);
 		glDrawElements(GL_TRIANGLES, 6, GL_UNSIGNED_BYTE, 0);
-
-		glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, 0);
-		glDisableVertexAttribArray(0);
-		glDisableVertexAttribArray(1);
-		glBindVertexArray(0);
 	}
 
 	/**
@@ -0,0 +1,111 @@
+package engine.rendering;
+
+import engine.util.Position;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+
+/**
+ * Basic quads (see Mesh.create() and Mesh.createWithInvertedTexture()) shared by size and texture orientation:
+ * the components of the same size use the same buffers instead of creating their own.
+ * Each Mesh given must be released once not used anymore (RenderedComponent does it when detached from its GameObject):
+ * it's dropped after its last release, and its buffers are deleted once nothing refers to it anymore (see Mesh.finalize()).
+ * A Mesh never released only stays in the cache.
+ * Can be used by any thread.
+ */
+final public class MeshCache {
+
+	/**
+	 * Meshes by key (see MeshCache.key()).
+	 */
+	final private static @NotNull HashMap<Long, Mesh> meshes = new HashMap<>();
+
+	/**
+	 * MeshCache is static only.
+	 */
+	private MeshCache() {
+
+	}
+
+	/**
+	 * Returns the quad width * height, created if none is in the cache.
+	 *
+	 * @param width Mesh's width
+	 * @param height Mesh's height
+	 * @param invertedTexture true = inverted y texture (see Mesh.createWithInvertedTexture())
+	 * @return Mesh
+	 */
+	public static synchronized @NotNull Mesh get(final float width, final float height, final boolean invertedTexture) {
+		final long key = MeshCache.key(width, height, invertedTexture);
+		Mesh mesh = MeshCache.meshes.get(key);
+
+		if(mesh != null) {
+			mesh.addReference();
+			return mesh;
+		}
+
+		mesh = invertedTexture ? Mesh.createWithInvertedTexture(width, height) : Mesh.create(width, height);
+		mesh.setCached(key);
+		MeshCache.meshes.put(key, mesh);
+
+		return mesh;
+	}
+
+	/**
+	 * Takes a reference to a Mesh given by the cache again (e.g. its component is added back to a GameObject).
+	 * A Mesh dropped meanwhile goes back in the cache, unless another one has taken its place.
+	 * Does nothing if the Mesh isn't from the cache.
+	 *
+	 * @param mesh Mesh to take
+	 */
+	public static synchronized void acquire(final @NotNull Mesh mesh) {
+		if(!mesh.isCached()) {
+			return;
+		}
+
+		mesh.addReference();
+
+		if(!MeshCache.meshes.containsKey(mesh.getCacheKey())) {
+			MeshCache.meshes.put(mesh.getCacheKey(), mesh);
+		}
+	}
+
+	/**
+	 * Releases a Mesh given by the cache. Does nothing if the Mesh isn't from the cache.
+	 *
+	 * @param mesh Mesh to release
+	 */
+	public static synchronized void release(final @NotNull Mesh mesh) {
+		if(mesh.isCached() && mesh.removeReference() && MeshCache.meshes.get(mesh.getCacheKey()) == mesh) {
+			MeshCache.meshes.remove(mesh.getCacheKey());
+		}
+	}
+
+	/**
+	 * Returns the number of Meshes in the cache.
+	 *
+	 * @return int
+	 */
+	@Contract(pure = true)
+	public static synchronized int size() {
+		return MeshCache.meshes.size();
+	}
+
+	/**
+	 * Returns the key of a quad: sizes in Position units (31 bits each) and texture orientation.
+	 *
+	 * @param width Mesh's width
+	 * @param height Mesh's height
+	 * @param invertedTexture true = inverted y texture
+	 * @return long
+	 */
+	@Contract(pure = true)
+	private static long key(final float width, final float height, final boolean invertedTexture) {
+		final long x = Position.convert(width) & 0x7FFFFFFFL;
+		final long y = Position.convert(height) & 0x7FFFFFFFL;
+
+		return (x << 32) | (y << 1) | (invertedTexture ? 1L : 0L);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,685 @@
+package engine.rendering;
+
+import engine.math.Matrix4f;
+import engine.rendering.texture.Texture;
+import engine.util.Color;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Everything needed to draw one frame, captured from the scene graph by the simulation.
+ * Each draw record copies its transformation and color so the scene can keep being updated
+ * while the snapshot is rendered. The arrays grow when needed and are reused from frame to frame.
+ * The draw records are drawn in the order given by RenderSnapshot.sort() (see RenderSnapshot.getOrder()).
+ */
+final public class RenderSnapshot {
+
+	/**
+	 * Initial number of draw records.
+	 */
+	final private static int INITIAL_CAPACITY = 256;
+
+	/**
+	 * Number of bits of a sort key holding the draw record's index (the lowest ones).
+	 */
+	final private static int INDEX_BITS = 23;
+
+	/**
+	 * Number of bits of a sort key holding the draw record's group (see RenderSnapshot.sort()).
+	 */
+	final private static int GROUP_BITS = 16;
+
+	/**
+	 * Number of bits of a sort key holding the depth.
+	 */
+	final private static int DEPTH_BITS = 24;
+
+	/**
+	 * Maximum number of draw records in a run (see RenderSnapshot.sort()): bounds the overlap checks.
+	 */
+	final private static int MAX_RUN = 64;
+
+	/**
+	 * Number of draw records.
+	 */
+	private int size;
+
+	/**
+	 * Number of the frame captured in the snapshot (increasing).
+	 */
+	private long frame;
+
+	/**
+	 * Interpolation factor between the previous tick and the last one (0 = previous tick, 1 = last tick).
+	 */
+	private float interpolation;
+
+	/**
+	 * When have the inputs used by the snapshot been sampled (in ns).
+	 */
+	private long inputTime;
+
+	/**
+	 * Draw records' meshes.
+	 */
+	private @NotNull Mesh[] meshes;
+
+	/**
+	 * Draw records' textures.
+	 */
+	private @NotNull Texture[] textures;
+
+	/**
+	 * Draw records' textures' OpenGL ids.
+	 */
+	private @NotNull int[] textureIDs;
+
+	/**
+	 * Draw records' bounds in the world: min x, min y, max x and max y of each one.
+	 */
+	private @NotNull float[] bounds;
+
+	/**
+	 * Draw records' colors.
+	 */
+	private @NotNull Color[] colors;
+
+	/**
+	 * Draw records' world transformations.
+	 */
+	private @NotNull Matrix4f[] transformations;
+
+	/**
+	 * Draw records rendered after everything else (e.g. because of 0 < opacity < 1).
+	 */
+	private @NotNull boolean[] renderedLater;
+
+	/**
+	 * Camera's projection when the snapshot has been captured.
+	 */
+	final private @NotNull Matrix4f projection;
+
+	/**
+	 * Draw records' sort keys (see RenderSnapshot.sort()).
+	 */
+	private @NotNull long[] keys;
+
+	/**
+	 * Radix sort's second buffer.
+	 */
+	private @NotNull long[] sortBuffer;
+
+	/**
+	 * Draw records' indexes in the order they're drawn.
+	 */
+	private @NotNull int[] order;
+
+	/**
+	 * Textures' groups in the current run, by OpenGL id (valid if the stamp is the current run).
+	 */
+	private @NotNull int[] textureGroups;
+
+	/**
+	 * Run during which each texture's group has been given, by OpenGL id.
+	 */
+	private @NotNull int[] textureGroupStamps;
+
+	/**
+	 * Number of runs started (stamp of the textures' groups).
+	 */
+	private int runs;
+
+	/**
+	 * Draw records of the current run (see RenderSnapshot.sort()).
+	 */
+	final private @NotNull int[] run;
+
+	/**
+	 * Number of texture changes when drawing in order.
+	 */
+	private int stateChanges;
+
+	/**
+	 * Number of texture changes avoided by the sort (compared to the scene graph's order).
+	 */
+	private int stateChangesSaved;
+
+	/**
+	 * Creates a new RenderSnapshot instance.
+	 */
+	public RenderSnapshot() {
+		this.size = 0;
+		this.frame = 0L;
+		this.interpolation = 1.0f;
+		this.inputTime = 0L;
+		this.meshes = new Mesh[0];
+		this.textures = new Texture[0];
+		this.textureIDs = new int[0];
+		this.bounds = new float[0];
+		this.colors = new Color[0];
+		this.transformations = new Matrix4f[0];
+		this.renderedLater = new boolean[0];
+		this.projection = new Matrix4f().initIdentity();
+		this.keys = new long[0];
+		this.sortBuffer = new long[0];
+		this.order = new int[0];
+		this.textureGroups = new int[0];
+		this.textureGroupStamps = new int[0];
+		this.runs = 0;
+		this.run = new int[RenderSnapshot.MAX_RUN];
+		this.stateChanges = 0;
+		this.stateChangesSaved = 0;
+		this.ensureCapacity(RenderSnapshot.INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Removes all the draw records.
+	 */
+	final public void clear() {
+		for(int i = 0; i < this.size; i++) {
+			this.meshes[i] = null;
+			this.textures[i] = null;
+		}
+
+		this.size = 0;
+		this.stateChanges = 0;
+		this.stateChangesSaved = 0;
+	}
+
+	/**
+	 * Orders the draw records. Each one gets a 64 bits key, from the highest bits to the lowest:
+	 * rendered later (1 bit), depth from the farthest to the nearest (24 bits), group (16 bits) and index (23 bits).
+	 * The keys are radix sorted, and the draw records are drawn in the keys' order, back to front:
+	 * the ones rendered later after the others.
+	 * Every draw record is blended, so at the same depth the one drawn last is on top: two overlapping records
+	 * must keep the scene graph's order. The records (except those rendered later, kept in the scene graph's order)
+	 * are split in runs, in the scene graph's order: a run ends before a record overlapping one of the run's at the same depth
+	 * (or after RenderSnapshot::MAX_RUN records). Inside a run, nothing at the same depth overlaps: the records are grouped by texture,
+	 * the groups being given in the order of the runs.
+	 * Doesn't make any OpenGL call and can be done on another thread than the OpenGL one.
+	 *
+	 * @param byTexture false = only the records rendered later are put at the end (scene graph's order otherwise)
+	 */
+	final public void sort(final boolean byTexture) {
+		if(!byTexture || this.size >= 1 << RenderSnapshot.INDEX_BITS) {
+			int position = 0;
+
+			for(int later = 0; later < 2; later++) {
+				for(int i = 0; i < this.size; i++) {
+					if(this.renderedLater[i] == (later == 1)) {
+						this.order[position++] = i;
+					}
+				}
+			}
+
+			this.stateChanges = this.countStateChanges();
+			this.stateChangesSaved = 0;
+			return;
+		}
+
+		final int maxGroup = (1 << RenderSnapshot.GROUP_BITS) - 1;
+		int groups = 0;
+		int runSize = 0;
+		this.runs++;
+
+		for(int i = 0; i < this.size; i++) {
+			final long depth = RenderSnapshot.depthBits(this.transformations[i].get(2, 3));
+			long key = i | depth << (RenderSnapshot.INDEX_BITS + RenderSnapshot.GROUP_BITS);
+
+			if(!this.renderedLater[i]) {
+				if(runSize == RenderSnapshot.MAX_RUN || this.overlapsRun(i, depth, runSize)) {
+					this.runs++;
+					runSize = 0;
+				}
+				this.run[runSize++] = i;
+
+				final int id = this.textureIDs[i];
+
+				if(id >= this.textureGroups.length) {
+					this.textureGroups = Arrays.copyOf(this.textureGroups, Math.max(id + 1, this.textureGroups.length * 2));
+					this.textureGroupStamps = Arrays.copyOf(this.textureGroupStamps, this.textureGroups.length);
+				}
+				if(this.textureGroupStamps[id] != this.runs) {
+					this.textureGroupStamps[id] = this.runs;
+					this.textureGroups[id] = Math.min(groups++, maxGroup); // Beyond, the scene graph's order.
+				}
+
+				key |= (long) this.textureGroups[id] << RenderSnapshot.INDEX_BITS;
+			} else {
+				key |= 1L << 63;
+			}
+
+			this.keys[i] = key;
+		}
+
+		this.radixSort();
+
+		final int mask = (1 << RenderSnapshot.INDEX_BITS) - 1;
+		for(int i = 0; i < this.size; i++) {
+			this.order[i] = (int) (this.keys[i] & mask);
+		}
+
+		// Scene graph's order (records rendered later at the end): what would have been drawn without sorting.
+		int unsortedChanges = 0;
+		int previous = 0;
+		for(int later = 0; later < 2; later++) {
+			for(int i = 0; i < this.size; i++) {
+				if(this.renderedLater[i] == (later == 1)) {
+					final int id = this.textureIDs[i];
+
+					if(id != previous) {
+						unsortedChanges++;
+						previous = id;
+					}
+				}
+			}
+		}
+
+		this.stateChanges = this.countStateChanges();
+		this.stateChangesSaved = unsortedChanges - this.stateChanges;
+	}
+
+	/**
+	 * Adds a draw record.
+	 *
+	 * @param mesh Mesh to draw
+	 * @param texture Texture to draw with
+	 * @param color Color to copy
+	 * @param transformation World transformation to copy
+	 * @param renderedLater true = drawn after everything else
+	 */
+	final public void add(final @NotNull Mesh mesh, final @NotNull Texture texture, final @NotNull Color color, final @NotNull Matrix4f transformation, final boolean renderedLater) {
+		float minX = Float.POSITIVE_INFINITY;
+		float minY = Float.POSITIVE_INFINITY;
+		float maxX = Float.NEGATIVE_INFINITY;
+		float maxY = Float.NEGATIVE_INFINITY;
+
+		for(final Vertex vertex : mesh.getVertices()) {
+			final float x = vertex.getPos().getX();
+			final float y = vertex.getPos().getY();
+			final float worldX = transformation.get(0, 0) * x + transformation.get(0, 1) * y + transformation.get(0, 3);
+			final float worldY = transformation.get(1, 0) * x + transformation.get(1, 1) * y + transformation.get(1, 3);
+
+			minX = Math.min(minX, worldX);
+			minY = Math.min(minY, worldY);
+			maxX = Math.max(maxX, worldX);
+			maxY = Math.max(maxY, worldY);
+		}
+
+		this.add(mesh, texture, texture.getID(), color, transformation, renderedLater, minX, minY, maxX, maxY);
+	}
+
+	/**
+	 * Adds a draw record whose bounds are known.
+	 *
+	 * @param mesh Mesh to draw (null = only sorted, never drawn)
+	 * @param texture Texture to draw with (null = only sorted, never drawn)
+	 * @param textureID Texture's OpenGL id
+	 * @param color Color to copy
+	 * @param transformation World transformation to copy
+	 * @param renderedLater true = drawn after everything else
+	 * @param minX Record's min x in the world
+	 * @param minY Record's min y in the world
+	 * @param maxX Record's max x in the world
+	 * @param maxY Record's max y in the world
+	 */
+	final void add(final @Nullable Mesh mesh, final @Nullable Texture texture, final int textureID, final @NotNull Color color, final @NotNull Matrix4f transformation, final boolean renderedLater, final float minX, final float minY, final float maxX, final float maxY) {
+		if(this.size == this.meshes.length) {
+			this.ensureCapacity(this.size * 2);
+		}
+
+		this.meshes[this.size] = mesh;
+		this.textures[this.size] = texture;
+		this.textureIDs[this.size] = textureID;
+		this.colors[this.size].set(color);
+		RenderSnapshot.copy(transformation, this.transformations[this.size]);
+		this.renderedLater[this.size] = renderedLater;
+
+		final int bounds = this.size * 4;
+		this.bounds[bounds] = minX;
+		this.bounds[bounds + 1] = minY;
+		this.bounds[bounds + 2] = maxX;
+		this.bounds[bounds + 3] = maxY;
+
+		this.size++;
+	}
+
+	/**
+	 * Returns the number of draw records.
+	 *
+	 * @return RenderSnapshot.size
+	 */
+	@Contract(pure = true)
+	final public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Returns the index of the draw record drawn in n°position (see RenderSnapshot.sort()).
+	 *
+	 * @param position Position in the drawing order
+	 * @return RenderSnapshot.order[position]
+	 */
+	@Contract(pure = true)
+	final public int getOrder(final int position) {
+		return this.order[position];
+	}
+
+	/**
+	 * Returns the number of texture changes when drawing in order.
+	 *
+	 * @return RenderSnapshot.stateChanges
+	 */
+	@Contract(pure = true)
+	final public int getStateChanges() {
+		return this.stateChanges;
+	}
+
+	/**
+	 * Returns the number of texture changes avoided by the sort.
+	 *
+	 * @return RenderSnapshot.stateChangesSaved
+	 */
+	@Contract(pure = true)
+	final public int getStateChangesSaved() {
+		return this.stateChangesSaved;
+	}
+
+	/**
+	 * Returns the number of the frame captured in the snapshot.
+	 *
+	 * @return RenderSnapshot.frame
+	 */
+	@Contract(pure = true)
+	final public long getFrame() {
+		return this.frame;
+	}
+
+	/**
+	 * Returns the interpolation factor between the previous tick and the last one.
+	 *
+	 * @return RenderSnapshot.interpolation
+	 */
+	@Contract(pure = true)
+	final public float getInterpolation() {
+		return this.interpolation;
+	}
+
+	/**
+	 * Returns when the inputs used by the snapshot have been sampled.
+	 *
+	 * @return RenderSnapshot.inputTime (in ns)
+	 */
+	@Contract(pure = true)
+	final public long getInputTime() {
+		return this.inputTime;
+	}
+
+	/**
+	 * Returns the mesh of the draw record n°index.
+	 *
+	 * @param index Draw record's index
+	 * @return RenderSnapshot.meshes[index]
+	 */
+	@Contract(pure = true)
+	final public @NotNull Mesh getMesh(final int index) {
+		return this.meshes[index];
+	}
+
+	/**
+	 * Returns the texture of the draw record n°index.
+	 *
+	 * @param index Draw record's index
+	 * @return RenderSnapshot.textures[index]
+	 */
+	@Contract(pure = true)
+	final public @NotNull Texture getTexture(final int index) {
+		return this.textures[index];
+	}
+
+	/**
+	 * Returns the color of the draw record n°index.
+	 *
+	 * @param index Draw record's index
+	 * @return RenderSnapshot.colors[index]
+	 */
+	@Contract(pure = true)
+	final public @NotNull Color getColor(final int index) {
+		return this.colors[index];
+	}
+
+	/**
+	 * Returns the world transformation of the draw record n°index.
+	 *
+	 * @param index Draw record's index
+	 * @return RenderSnapshot.transformations[index]
+	 */
+	@Contract(pure = true)
+	final public @NotNull Matrix4f getTransformation(final int index) {
+		return this.transformations[index];
+	}
+
+	/**
+	 * Returns whether the draw record n°index is drawn after everything else.
+	 *
+	 * @param index Draw record's index
+	 * @return RenderSnapshot.renderedLater[index]
+	 */
+	@Contract(pure = true)
+	final public boolean isRenderedLater(final int index) {
+		return this.renderedLater[index];
+	}
+
+	/**
+	 * Returns the camera's projection.
+	 *
+	 * @return RenderSnapshot.projection
+	 */
+	@Contract(pure = true)
+	final public @NotNull Matrix4f getProjection() {
+		return this.projection;
+	}
+
+	/**
+	 * Sets the number of the frame captured in the snapshot.
+	 *
+	 * @param frame Frame number to set
+	 */
+	final public void setFrame(final long frame) {
+		this.frame = frame;
+	}
+
+	/**
+	 * Sets the interpolation factor between the previous tick and the last one.
+	 *
+	 * @param interpolation Interpolation factor to set (between 0 and 1)
+	 */
+	final public void setInterpolation(final float interpolation) {
+		this.interpolation = interpolation;
+	}
+
+	/**
+	 * Sets when the inputs used by the snapshot have been sampled.
+	 *
+	 * @param inputTime Time to set (in ns)
+	 */
+	final public void setInputTime(final long inputTime) {
+		this.inputTime = inputTime;
+	}
+
+	/**
+	 * Copies and sets the camera's projection.
+	 *
+	 * @param projection Projection to copy
+	 */
+	final public void setProjection(final @NotNull Matrix4f projection) {
+		RenderSnapshot.copy(projection, this.projection);
+	}
+
+	/**
+	 * Grows the arrays so they can hold at least capacity draw records.
+	 *
+	 * @param capacity Minimum capacity
+	 */
+	private void ensureCapacity(final int capacity) {
+		final int oldCapacity = this.meshes.length;
+
+		if(capacity <= oldCapacity) {
+			return;
+		}
+
+		final Mesh[] meshes = new Mesh[capacity];
+		final Texture[] textures = new Texture[capacity];
+		final int[] textureIDs = new int[capacity];
+		final float[] bounds = new float[capacity * 4];
+		final Color[] colors = new Color[capacity];
+		final Matrix4f[] transformations = new Matrix4f[capacity];
+		final boolean[] renderedLater = new boolean[capacity];
+
+		this.keys = new long[capacity];
+		this.sortBuffer = new long[capacity];
+		this.order = new int[capacity];
+
+		System.arraycopy(this.meshes, 0, meshes, 0, oldCapacity);
+		System.arraycopy(this.textures, 0, textures, 0, oldCapacity);
+		System.arraycopy(this.textureIDs, 0, textureIDs, 0, oldCapacity);
+		System.arraycopy(this.bounds, 0, bounds, 0, oldCapacity * 4);
+		System.arraycopy(this.colors, 0, colors, 0, oldCapacity);
+		System.arraycopy(this.transformations, 0, transformations, 0, oldCapacity);
+		System.arraycopy(this.renderedLater, 0, renderedLater, 0, oldCapacity);
+
+		for(int i = oldCapacity; i < capacity; i++) {
+			colors[i] = new Color();
+			transformations[i] = new Matrix4f();
+		}
+
+		this.meshes = meshes;
+		this.textures = textures;
+		this.textureIDs = textureIDs;
+		this.bounds = bounds;
+		this.colors = colors;
+		this.transformations = transformations;
+		this.renderedLater = renderedLater;
+	}
+
+	/**
+	 * Sorts RenderSnapshot.keys (the first RenderSnapshot.size ones), 8 bits at a time from the lowest ones.
+	 * The passes where every key has the same byte are skipped.
+	 */
+	private void radixSort() {
+		final int[] counts = new int[256];
+		long[] source = this.keys;
+		long[] destination = this.sortBuffer;
+
+		for(int shift = 0; shift < 64; shift += 8) {
+			Arrays.fill(counts, 0);
+
+			for(int i = 0; i < this.size; i++) {
+				counts[(int) ((source[i] >>> shift) & 0xFF)]++;
+			}
+
+			if(this.size == 0 || counts[(int) ((source[0] >>> shift) & 0xFF)] == this.size) {
+				continue;
+			}
+
+			int total = 0;
+			for(int i = 0; i < 256; i++) {
+				final int count = counts[i];
+				counts[i] = total;
+				total += count;
+			}
+
+			for(int i = 0; i < this.size; i++) {
+				destination[counts[(int) ((source[i] >>> shift) & 0xFF)]++] = source[i];
+			}
+
+			final long[] swap = source;
+			source = destination;
+			destination = swap;
+		}
+
+		if(source != this.keys) {
+			System.arraycopy(source, 0, this.keys, 0, this.size);
+		}
+	}
+
+	/**
+	 * Returns the number of texture changes when drawing in RenderSnapshot.order.
+	 *
+	 * @return int
+	 */
+	@Contract(pure = true)
+	private int countStateChanges() {
+		int changes = 0;
+		int previous = 0;
+
+		for(int i = 0; i < this.size; i++) {
+			final int id = this.textureIDs[this.order[i]];
+
+			if(id != previous) {
+				changes++;
+				previous = id;
+			}
+		}
+
+		return changes;
+	}
+
+	/**
+	 * Returns whether a draw record overlaps one of the current run's at the same depth.
+	 *
+	 * @param index Draw record's index
+	 * @param depth Draw record's depth bits
+	 * @param runSize Number of draw records in the current run
+	 * @return boolean
+	 */
+	@Contract(pure = true)
+	private boolean overlapsRun(final int index, final long depth, final int runSize) {
+		final int bounds = index * 4;
+
+		for(int i = 0; i < runSize; i++) {
+			final int other = this.run[i];
+			final int otherBounds = other * 4;
+
+			if(RenderSnapshot.depthBits(this.transformations[other].get(2, 3)) == depth
+				&& this.bounds[bounds] < this.bounds[otherBounds + 2] && this.bounds[otherBounds] < this.bounds[bounds + 2]
+				&& this.bounds[bounds + 1] < this.bounds[otherBounds + 3] && this.bounds[otherBounds + 1] < this.bounds[bounds + 3]) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the sort bits of a depth: the farthest depths (the highest ones, the nearest being the most negative) first.
+	 *
+	 * @param depth Depth
+	 * @return int (RenderSnapshot::DEPTH_BITS bits)
+	 */
+	@Contract(pure = true)
+	private static int depthBits(final float depth) {
+		final int bits = Float.floatToIntBits(depth + 0.0f); // -0 as 0.
+		final int ordered = bits < 0 ? ~bits : bits | 0x80000000; // Unsigned order = float order.
+
+		return (~ordered >>> (32 - RenderSnapshot.DEPTH_BITS)) & ((1 << RenderSnapshot.DEPTH_BITS) - 1); // Highest first.
+	}
+
+	/**
+	 * Copies the source's values into the destination.
+	 *
+	 * @param source Matrix4f to copy
+	 * @param destination Matrix4f to write in
+	 */
+	private static void copy(final @NotNull Matrix4f source, final @NotNull Matrix4f destination) {
+		for(int i = 0; i < 4; i++) {
+			for(int j = 0; j < 4; j++) {
+				destination.set(i, j, source.get(i, j));
+			}
+		}
+	}
+
+}
\ No newline at end of file
@@ -1,17 +1,21 @@
 package engine.rendering;
 
+import com.Options;
 import engine.game.components.Camera;
-import engine.game.components.GameComponent;
 import engine.game.components.lights.BaseLight;
 import engine.game.objects.GameObject;
+import engine.math.Matrix4f;
 import engine.math.Vector3f;
 import engine.rendering.shader.forward.AmbientShader;
+import engine.rendering.shader.forward.BatchShader;
 import engine.rendering.shader.Shader;
 import engine.util.Color;
+import engine.util.Input;
 import engine.util.Window;
 import engine.util.profiling.Profiler;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 
@@ -55,6 +59,21 @@ final public class RenderingEngine {
 	 */
 	private BaseLight activeLight;
 
+	/**
+	 * Interpolation factor between the previous tick and the last one, used by the next capture.
+	 */
+	private float interpolation;
+
+	/**
+	 * Snapshot used to render a GameObject directly (when the engine is not pipelined).
+	 */
+	final private @NotNull RenderSnapshot snapshot;
+
+	/**
+	 * Batch drawing the snapshots (null = one draw call per draw record, see Options::SPRITE_BATCH).
+	 */
+	final private @Nullable SpriteBatch spriteBatch;
+
 	/**
 	 * Creates a new RenderingEngine instance.
 	 */
@@ -74,6 +93,9 @@ final public class RenderingEngine {
 		//this.ambientLight = new Color(15, 15, 15);
 		this.ambientLight = new Color(255, 255, 255, 1);
 		this.lights = new ArrayList<>();
+		this.snapshot = new RenderSnapshot();
+		this.spriteBatch = Options.SPRITE_BATCH ? new SpriteBatch(BatchShader.getInstance()) : null;
+		this.interpolation = 1.0f;
 	}
 
 	/**
@@ -82,20 +104,58 @@ final public class RenderingEngine {
 	 * @param object Object to render
 	 */
 	final public void render(final @NotNull GameObject object) {
+		Profiler.startProfileTimer("Render-Capture");
+		this.capture(object, this.snapshot);
+		Profiler.stopProfileTimer("Render-Capture");
+
+		this.render(this.snapshot);
+	}
+
+	/**
+	 * Captures the draw records of an object (and all his visible children/components) and the camera's projection.
+	 * This doesn't make any OpenGL call and can be done on another thread than the OpenGL one.
+	 *
+	 * @param object Object to capture
+	 * @param snapshot Snapshot to fill (cleared first)
+	 */
+	final public void capture(final @NotNull GameObject object, final @NotNull RenderSnapshot snapshot) {
+		snapshot.clear();
+		snapshot.setInterpolation(this.getInterpolation());
+		snapshot.setInputTime(Input.getLastSampleTime());
+
+		final Matrix4f projection = this.getMainCamera().getInterpolatedProjectionMatrix(this.getInterpolation());
+		if(projection != null) snapshot.setProjection(projection);
+
+		object.capture(snapshot);
+		snapshot.sort(Options.SORT_DRAW_LIST);
+	}
+
+	/**
+	 * Renders a snapshot in its order (see RenderSnapshot.sort()): back to front, the draw records rendered later at the end.
+	 *
+	 * @param snapshot Snapshot to render
+	 */
+	final public void render(final @NotNull RenderSnapshot snapshot) {
 		Profiler.startProfileTimer("Render-WindowClear");
 		Window.bindAsRenderTarget();
 		RenderingEngine.clearScreen();
 		Profiler.stopProfileTimer("Render-WindowClear");
 
+		if(this.spriteBatch != null) {
+			this.renderBatched(snapshot, this.spriteBatch);
+			return;
+		}
+
 		final Shader ambientShader = AmbientShader.getInstance();
 		ambientShader.setRenderingEngine(this);
+		ambientShader.bind();
 
-		final ArrayList<GameComponent> renderLater = new ArrayList<>();
-		object.render(ambientShader, renderLater);
-		for(final @NotNull GameComponent component : renderLater) {
-			component.render(ambientShader, null);
+		for(int i = 0; i < snapshot.size(); i++) {
+			RenderingEngine.draw(ambientShader, snapshot, snapshot.getOrder(i));
 		}
 
+		RenderingEngine.reportStateChanges(snapshot);
+
 		/*glEnable(GL_BLEND);
 		glBlendFunc(GL_ONE, GL_ONE);
 		glDepthMask(false);
@@ -113,6 +173,49 @@ final public class RenderingEngine {
 		glDisable(GL_BLEND);*/
 	}
 
+	/**
+	 * Renders a snapshot with the sprite batch, in the snapshot's order.
+	 *
+	 * @param snapshot Snapshot to render
+	 * @param spriteBatch Batch to draw with
+	 */
+	private void renderBatched(final @NotNull RenderSnapshot snapshot, final @NotNull SpriteBatch spriteBatch) {
+		spriteBatch.begin(snapshot.getProjection(), this.getAmbientLight());
+
+		for(int i = 0; i < snapshot.size(); i++) {
+			final int index = snapshot.getOrder(i);
+			spriteBatch.draw(snapshot.getMesh(index), snapshot.getTexture(index), snapshot.getColor(index), snapshot.getTransformation(index));
+		}
+
+		spriteBatch.end();
+
+		Profiler.setValue("Draw calls", spriteBatch.getDrawCalls() + " (" + spriteBatch.getSpritesDrawn() + " sprites)");
+		RenderingEngine.reportStateChanges(snapshot);
+	}
+
+	/**
+	 * Reports the texture changes of a snapshot, and how many the sort avoided, to the Profiler.
+	 * The GL calls made and avoided by the GLState since the last frame are reported too.
+	 *
+	 * @param snapshot Snapshot rendered
+	 */
+	private static void reportStateChanges(final @NotNull RenderSnapshot snapshot) {
+		Profiler.setValue("Texture changes", snapshot.getStateChanges() + " (" + snapshot.getStateChangesSaved() + " saved by the sort)");
+		GLState.report();
+	}
+
+	/**
+	 * Draws the draw record n°index of the snapshot.
+	 *
+	 * @param shader Shader to draw with
+	 * @param snapshot Snapshot containing the draw record
+	 * @param index Draw record's index
+	 */
+	private static void draw(final @NotNull Shader shader, final @NotNull RenderSnapshot snapshot, final int index) {
+		shader.updateUniforms(snapshot.getTexture(index), snapshot.getColor(index), snapshot.getTransformation(index), snapshot.getProjection());
+		snapshot.getMesh(index).draw();
+	}
+
 	/**
 	 * Returns the environment ambient light.
 	 *
@@ -123,6 +226,25 @@ final public class RenderingEngine {
 		return this.ambientLight;
 	}
 
+	/**
+	 * Returns the interpolation factor used by the next capture.
+	 *
+	 * @return RenderingEngine.interpolation
+	 */
+	@Contract(pure = true)
+	final public float getInterpolation() {
+		return this.interpolation;
+	}
+
+	/**
+	 * Sets the interpolation factor between the previous tick and the last one, used by the next capture.
+	 *
+	 * @param interpolation Interpolation factor to set (between 0 and 1)
+	 */
+	final public void setInterpolation(final float interpolation) {
+		this.interpolation = interpolation;
+	}
+
 	/**
 	 * Returns the environment lights.
 	 *
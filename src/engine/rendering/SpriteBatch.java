@@ -0,0 +1,278 @@
+package engine.rendering;
+
+import engine.math.Matrix4f;
+import engine.math.Vector2f;
+import engine.rendering.shader.Shader;
+import engine.rendering.texture.Texture;
+import engine.util.Color;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.BufferUtils;
+
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+
+import static org.lwjgl.opengl.GL11.GL_FLOAT;
+import static org.lwjgl.opengl.GL11.GL_TRIANGLES;
+import static org.lwjgl.opengl.GL11.GL_UNSIGNED_SHORT;
+import static org.lwjgl.opengl.GL11.glDrawElements;
+import static org.lwjgl.opengl.GL15.GL_ARRAY_BUFFER;
+import static org.lwjgl.opengl.GL15.GL_DYNAMIC_DRAW;
+import static org.lwjgl.opengl.GL15.GL_ELEMENT_ARRAY_BUFFER;
+import static org.lwjgl.opengl.GL15.GL_STATIC_DRAW;
+import static org.lwjgl.opengl.GL15.glBindBuffer;
+import static org.lwjgl.opengl.GL15.glBufferData;
+import static org.lwjgl.opengl.GL15.glBufferSubData;
+import static org.lwjgl.opengl.GL15.glGenBuffers;
+import static org.lwjgl.opengl.GL20.glEnableVertexAttribArray;
+import static org.lwjgl.opengl.GL20.glVertexAttribPointer;
+import static org.lwjgl.opengl.GL30.glGenVertexArrays;
+
+/**
+ * Draws the quads (see Mesh) in batches: the quads are transformed on the CPU into one dynamic vertex buffer,
+ * which is drawn with a single call each time the texture changes or the buffer is full.
+ * The quads are drawn in the order they're given, so the blending stays the same as one draw call per quad.
+ * Must be used on the OpenGL thread.
+ */
+final public class SpriteBatch {
+
+	/**
+	 * Maximum number of quads drawn by one call (the indices are unsigned shorts).
+	 */
+	final public static int MAX_SPRITES = 2048;
+
+	/**
+	 * Number of floats of a batched vertex: position (x, y, z), texture coordinates (u, v) and color (r, g, b, a).
+	 */
+	final private static int VERTEX_SIZE = 9;
+
+	/**
+	 * Shader drawing the batches (attributes "position", "textCoord" and "color", uniforms "projection" and "ambientLight").
+	 */
+	final private @NotNull Shader shader;
+
+	/**
+	 * Handle of the shader's "projection" uniform.
+	 */
+	final private int projectionUniform;
+
+	/**
+	 * Handle of the shader's "ambientLight" uniform.
+	 */
+	final private int ambientLightUniform;
+
+	/**
+	 * Batch's Vertex Array Object.
+	 */
+	final private int vao;
+
+	/**
+	 * Batch's Vertex Buffer Object.
+	 */
+	final private int vbo;
+
+	/**
+	 * Batch's Vertex Buffer Object for the triangles' indices (never changes).
+	 */
+	final private int vboi;
+
+	/**
+	 * Vertices of the quads waiting to be drawn.
+	 */
+	final private @NotNull FloatBuffer vertices;
+
+	/**
+	 * Number of quads waiting to be drawn.
+	 */
+	private int sprites;
+
+	/**
+	 * Texture of the quads waiting to be drawn (null = none).
+	 */
+	private @Nullable Texture texture;
+
+	/**
+	 * Number of draw calls since SpriteBatch.begin().
+	 */
+	private int drawCalls;
+
+	/**
+	 * Number of quads drawn since SpriteBatch.begin().
+	 */
+	private int spritesDrawn;
+
+	/**
+	 * Creates a new SpriteBatch instance.
+	 *
+	 * @param shader Shader drawing the batches (already compiled)
+	 */
+	public SpriteBatch(final @NotNull Shader shader) {
+		this.shader = shader;
+		this.projectionUniform = shader.getUniform("projection");
+		this.ambientLightUniform = shader.getUniform("ambientLight");
+		this.vertices = BufferUtils.createFloatBuffer(SpriteBatch.MAX_SPRITES * 4 * SpriteBatch.VERTEX_SIZE);
+		this.sprites = 0;
+		this.texture = null;
+		this.drawCalls = 0;
+		this.spritesDrawn = 0;
+
+		this.vao = glGenVertexArrays();
+		this.vbo = glGenBuffers();
+		this.vboi = glGenBuffers();
+
+		GLState.bindVertexArray(this.vao);
+		glBindBuffer(GL_ARRAY_BUFFER, this.vbo);
+		glBufferData(GL_ARRAY_BUFFER, this.vertices.capacity() * 4L, GL_DYNAMIC_DRAW);
+
+		SpriteBatch.setAttribute(shader.getAttribLocation("position"), 3, 0);
+		SpriteBatch.setAttribute(shader.getAttribLocation("textCoord"), 2, 3);
+		SpriteBatch.setAttribute(shader.getAttribLocation("color"), 4, 5);
+
+		// Same triangles as Mesh, for each quad.
+		final ShortBuffer indices = BufferUtils.createShortBuffer(SpriteBatch.MAX_SPRITES * 6);
+		for(int i = 0; i < SpriteBatch.MAX_SPRITES; i++) {
+			final int first = i * 4;
+			indices.put((short) first).put((short) (first + 1)).put((short) (first + 2));
+			indices.put((short) (first + 2)).put((short) (first + 3)).put((short) first);
+		}
+		indices.flip();
+
+		glBindBuffer(GL_ELEMENT_ARRAY_BUFFER, this.vboi); // Kept by the VAO.
+		glBufferData(GL_ELEMENT_ARRAY_BUFFER, indices, GL_STATIC_DRAW);
+
+		GLState.bindVertexArray(0);
+		glBindBuffer(GL_ARRAY_BUFFER, 0);
+	}
+
+	/**
+	 * Starts a frame (or a pass): binds the shader and sets its uniforms.
+	 *
+	 * @param projection Camera's projection
+	 * @param ambientLight Ambient light
+	 */
+	final public void begin(final @NotNull Matrix4f projection, final @NotNull Color ambientLight) {
+		this.shader.bind();
+		this.shader.setUniform(this.projectionUniform, projection);
+		this.shader.setUniform(this.ambientLightUniform, ambientLight);
+
+		this.drawCalls = 0;
+		this.spritesDrawn = 0;
+	}
+
+	/**
+	 * Adds a quad to the batch. The batch is drawn first if the texture is different or if it's full.
+	 * Meshes that aren't quads are ignored.
+	 *
+	 * @param mesh Quad to draw
+	 * @param texture Texture to draw with
+	 * @param color Material's color
+	 * @param transformation World transformation
+	 */
+	final public void draw(final @NotNull Mesh mesh, final @NotNull Texture texture, final @NotNull Color color, final @NotNull Matrix4f transformation) {
+		final Vertex[] meshVertices = mesh.getVertices();
+
+		if(meshVertices.length != 4) {
+			return;
+		}
+
+		if(this.sprites == SpriteBatch.MAX_SPRITES || (this.texture != null && this.texture.getID() != texture.getID())) {
+			this.flush();
+		}
+		this.texture = texture;
+
+		final float red = color.getRed() / 255f;
+		final float green = color.getGreen() / 255f;
+		final float blue = color.getBlue() / 255f;
+		final float alpha = color.getAlpha();
+		final Vector2f uvOffset = texture.getUVOffset();
+		final Vector2f uvScale = texture.getUVScale();
+
+		for(final Vertex vertex : meshVertices) {
+			final Vector2f position = vertex.getPos();
+			final Vector2f textureCoords = vertex.getTextureCoords();
+			final float x = position.getX();
+			final float y = position.getY();
+
+			this.vertices.put(transformation.get(0, 0) * x + transformation.get(0, 1) * y + transformation.get(0, 3));
+			this.vertices.put(transformation.get(1, 0) * x + transformation.get(1, 1) * y + transformation.get(1, 3));
+			this.vertices.put(transformation.get(2, 0) * x + transformation.get(2, 1) * y + transformation.get(2, 3));
+			this.vertices.put(uvOffset.getX() + textureCoords.getX() * uvScale.getX()).put(uvOffset.getY() + textureCoords.getY() * uvScale.getY());
+			this.vertices.put(red).put(green).put(blue).put(alpha);
+		}
+
+		this.sprites++;
+	}
+
+	/**
+	 * Draws the quads waiting in the batch.
+	 */
+	final public void flush() {
+		if(this.sprites == 0) {
+			return;
+		}
+
+		this.vertices.flip();
+
+		glBindBuffer(GL_ARRAY_BUFFER, this.vbo);
+		glBufferData(GL_ARRAY_BUFFER, this.vertices.capacity() * 4L, GL_DYNAMIC_DRAW); // Orphans the buffer still used by the previous draw.
+		glBufferSubData(GL_ARRAY_BUFFER, 0, this.vertices);
+		glBindBuffer(GL_ARRAY_BUFFER, 0);
+
+		this.texture.bind();
+
+		GLState.bindVertexArray(this.vao);
+		glDrawElements(GL_TRIANGLES, this.sprites * 6, GL_UNSIGNED_SHORT, 0);
+
+		this.drawCalls++;
+		this.spritesDrawn += this.sprites;
+
+		this.vertices.clear();
+		this.sprites = 0;
+	}
+
+	/**
+	 * Ends a frame (or a pass): draws what is left in the batch.
+	 */
+	final public void end() {
+		this.flush();
+		this.texture = null;
+	}
+
+	/**
+	 * Returns the number of draw calls since SpriteBatch.begin().
+	 *
+	 * @return SpriteBatch.drawCalls
+	 */
+	@Contract(pure = true)
+	final public int getDrawCalls() {
+		return this.drawCalls;
+	}
+
+	/**
+	 * Returns the number of quads drawn since SpriteBatch.begin().
+	 *
+	 * @return SpriteBatch.spritesDrawn
+	 */
+	@Contract(pure = true)
+	final public int getSpritesDrawn() {
+		return this.spritesDrawn;
+	}
+
+	/**
+	 * Sets up a vertex attribute of the batch's buffer (the VAO and the VBO must be bound).
+	 *
+	 * @param location Attribute's location (-1 = not used by the shader)
+	 * @param size Number of floats
+	 * @param offset Offset in the vertex (in floats)
+	 */
+	private static void setAttribute(final int location, final int size, final int offset) {
+		if(location < 0) {
+			return;
+		}
+
+		glVertexAttribPointer(location, size, GL_FLOAT, false, SpriteBatch.VERTEX_SIZE * 4, offset * 4L);
+		glEnableVertexAttribArray(location);
+	}
+
+}
\ No newline at end of file
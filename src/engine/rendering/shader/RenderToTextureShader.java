@@ -4,6 +4,7 @@ import engine.game.Transform;
 import engine.math.Matrix4f;
 import engine.math.Vector2f;
 import engine.rendering.texture.Material;
+import engine.rendering.texture.Texture;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
@@ -24,23 +25,37 @@ public class RenderToTextureShader extends Shader {
 	 */
 	private static @NotNull Vector2f textureScale = new Vector2f(1, 1);
 
+	/**
+	 * Handle of the "transform" uniform.
+	 */
+	final private int transformUniform;
+
+	/**
+	 * Handle of the "textureRegion" uniform.
+	 */
+	final private int textureRegionUniform;
+
 	/**
 	 * Makes a new RenderToTextureShader instance.
 	 */
 	private RenderToTextureShader() {
 		super("render-to-texture");
+
+		this.transformUniform = this.getUniform("transform");
+		this.textureRegionUniform = this.getUniform("textureRegion");
 	}
 
 	@Override
 	final public void updateUniforms(final @NotNull Material material, final @NotNull Transform transform) {
-		material.getTexture().bind();
+		final Texture texture = material.getTexture();
+		texture.bind();
+		this.setUniform(this.textureRegionUniform, texture.getUVOffset(), texture.getUVScale());
 
 		final Vector2f scale = RenderToTextureShader.getTextureScale();
 
 		final Matrix4f translationMatrix = new Matrix4f().initPosition(-1 + (transform.getTransformedPosition().getX()) * RenderToTextureShader.getTexturePositionScale().getX(), -1 + (transform.getTransformedPosition().getY()) * RenderToTextureShader.getTexturePositionScale().getY(), 0);
 		final Matrix4f scaleMatrix = new Matrix4f().initScale(scale.getX(), scale.getY(), 1);
-		final Matrix4f m = translationMatrix.mul(scaleMatrix);
-		this.setUniform("transform", m);
+		this.setUniformProduct(this.transformUniform, translationMatrix, scaleMatrix);
 	}
 
 	/**
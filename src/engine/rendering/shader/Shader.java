@@ -4,13 +4,18 @@ import engine.game.Transform;
 import engine.math.Matrix4f;
 import engine.math.Vector2f;
 import engine.math.Vector3f;
+import engine.rendering.GLState;
 import engine.rendering.texture.Material;
+import engine.rendering.texture.Texture;
 import engine.rendering.RenderingEngine;
-import engine.util.BufferUtil;
 import engine.util.Color;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.lwjgl.BufferUtils;
 
+import java.nio.FloatBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 
 import static org.lwjgl.opengl.GL20.*;
@@ -24,10 +29,50 @@ public class Shader {
 	final private int program;
 
 	/**
-	 * Shader's uniforms.
+	 * Shader's uniforms: handle (index in Shader.uniformLocations) by name.
 	 */
 	final private @NotNull HashMap<String, Integer> uniforms;
 
+	/**
+	 * Uniforms' locations, by handle.
+	 */
+	private @NotNull int[] uniformLocations;
+
+	/**
+	 * Last values uploaded to the uniforms, by handle (null = nothing uploaded yet): the same values aren't uploaded again.
+	 */
+	private @NotNull float[][] uniformValues;
+
+	/**
+	 * Values of the matrix being uploaded.
+	 */
+	final private @NotNull float[] matrixValues;
+
+	/**
+	 * Buffer the matrices are uploaded from.
+	 */
+	final private @NotNull FloatBuffer matrixBuffer;
+
+	/**
+	 * Handle of the "transform" uniform (-1 = not in the Shader).
+	 */
+	final private int transformUniform;
+
+	/**
+	 * Handle of the "transformProjected" uniform (-1 = not in the Shader).
+	 */
+	final private int transformProjectedUniform;
+
+	/**
+	 * Handle of the "materialColor" uniform (-1 = not in the Shader).
+	 */
+	final private int materialColorUniform;
+
+	/**
+	 * Handle of the "textureRegion" uniform (-1 = not in the Shader).
+	 */
+	final private int textureRegionUniform;
+
 	/**
 	 * Pointer to the rendering engine.
 	 */
@@ -41,6 +86,10 @@ public class Shader {
 	public Shader(final @NotNull String name) {
 		this.program = glCreateProgram();
 		this.uniforms = new HashMap<>();
+		this.uniformLocations = new int[0];
+		this.uniformValues = new float[0][];
+		this.matrixValues = new float[16];
+		this.matrixBuffer = BufferUtils.createFloatBuffer(16);
 
 		if(this.program == 0) { // Invalid memory location
 			System.err.println("Error, " + name + " Shader's creation failed: Could not find valid memory location for program.");
@@ -56,6 +105,11 @@ public class Shader {
 		this.compile();
 
 		this.addAllUniforms();
+
+		this.transformUniform = this.getUniform("transform");
+		this.transformProjectedUniform = this.getUniform("transformProjected");
+		this.materialColorUniform = this.getUniform("materialColor");
+		this.textureRegionUniform = this.getUniform("textureRegion");
 	}
 
 	@Override
@@ -80,14 +134,14 @@ public class Shader {
 	 * Binds the Shader's program to tell OpenGL to use it.
 	 */
 	final public void bind() {
-		glUseProgram(this.program);
+		GLState.useProgram(this.program);
 	}
 
 	/**
 	 * Unbinds the current shader.
 	 */
 	public static void unbind() {
-		glUseProgram(0);
+		GLState.useProgram(0);
 	}
 
 	/**
@@ -100,6 +154,16 @@ public class Shader {
 		glBindAttribLocation(this.program, location, attributeName);
 	}
 
+	/**
+	 * Returns the location of an attribute in the Shader's program (once compiled).
+	 *
+	 * @param attributeName Attribute's name
+	 * @return int (-1 = not found)
+	 */
+	final public int getAttribLocation(final @NotNull String attributeName) {
+		return glGetAttribLocation(this.program, attributeName);
+	}
+
 	/**
 	 * Adds a Vertex Shader to the Shader's program.
 	 *
@@ -180,21 +244,31 @@ public class Shader {
 	 * @param transform transform class
 	 */
 	public void updateUniforms(final @NotNull Material material, final @NotNull Transform transform) {
-		material.getTexture().bind();
-
-		for(final String uniformName : this.uniforms.keySet()) {
-			switch(uniformName) {
-				case "transform" :
-					this.setUniform("transform", transform.getTransformedTransformation());
-					break;
-				case "transformProjected" :
-					final Matrix4f projection = this.getRenderingEngine().getMainCamera().getProjectionMatrix();
-					this.setUniform("transformProjected", projection.mul(transform.getTransformedTransformation()));
-					break;
-				case "materialColor" :
-					this.setUniform("materialColor", material.getColor());
-					break;
-			}
+		this.updateUniforms(material.getTexture(), material.getColor(), transform.getTransformedTransformation(), this.getRenderingEngine().getMainCamera().getProjectionMatrix());
+	}
+
+	/**
+	 * Updates all the Shader's uniforms with values already resolved (e.g. from a RenderSnapshot).
+	 *
+	 * @param texture Texture to bind
+	 * @param color Material's color
+	 * @param transformation World transformation
+	 * @param projection Camera's projection
+	 */
+	public void updateUniforms(final @NotNull Texture texture, final @NotNull Color color, final @NotNull Matrix4f transformation, final @NotNull Matrix4f projection) {
+		texture.bind();
+
+		if(this.transformUniform >= 0) {
+			this.setUniform(this.transformUniform, transformation);
+		}
+		if(this.transformProjectedUniform >= 0) {
+			this.setUniformProduct(this.transformProjectedUniform, projection, transformation);
+		}
+		if(this.materialColorUniform >= 0) {
+			this.setUniform(this.materialColorUniform, color);
+		}
+		if(this.textureRegionUniform >= 0) {
+			this.setUniform(this.textureRegionUniform, texture.getUVOffset(), texture.getUVScale());
 		}
 	}
 
@@ -230,7 +304,30 @@ public class Shader {
 			System.exit(1);
 		}
 
-		this.uniforms.put(uniformName, uniformLocation);
+		int handle = this.getUniform(uniformName);
+
+		if(handle < 0) { // New uniform (added again after linking again: same handle).
+			handle = this.uniformLocations.length;
+			this.uniformLocations = Arrays.copyOf(this.uniformLocations, handle + 1);
+			this.uniformValues = Arrays.copyOf(this.uniformValues, handle + 1);
+			this.uniforms.put(uniformName, handle);
+		}
+
+		this.uniformLocations[handle] = uniformLocation;
+		this.uniformValues[handle] = null;
+	}
+
+	/**
+	 * Returns the handle of an uniform, to set it without looking its name up (see Shader.setUniform(int, ...)).
+	 *
+	 * @param uniformName Uniform's name
+	 * @return handle (-1 = not in the Shader)
+	 */
+	@Contract(pure = true)
+	final public int getUniform(final @NotNull String uniformName) {
+		final Integer handle = this.uniforms.get(uniformName);
+
+		return handle != null ? handle : -1;
 	}
 
 	/**
@@ -258,7 +355,7 @@ public class Shader {
 	 * @param value Uniform's value to put
 	 */
 	final public void setUniform(final @NotNull String uniformName, final int value) {
-		glUniform1i(this.uniforms.get(uniformName), value);
+		this.setUniform(this.getHandle(uniformName), value);
 	}
 
 	/**
@@ -268,7 +365,7 @@ public class Shader {
 	 * @param value Uniform's value to put
 	 */
 	final public void setUniform(final @NotNull String uniformName, final float value) {
-		glUniform1f(this.uniforms.get(uniformName), value);
+		this.setUniform(this.getHandle(uniformName), value);
 	}
 
 	/**
@@ -278,7 +375,7 @@ public class Shader {
 	 * @param value Uniform's values to put
 	 */
 	final public void setUniform(final @NotNull String uniformName, final @NotNull Vector2f value) {
-		glUniform2f(this.uniforms.get(uniformName), value.getX(), value.getY());
+		this.setUniform(this.getHandle(uniformName), value);
 	}
 
 	/**
@@ -288,7 +385,7 @@ public class Shader {
 	 * @param value Uniform's values to put
 	 */
 	final public void setUniform(final @NotNull String uniformName, final @NotNull Matrix4f value) {
-		glUniformMatrix4(this.uniforms.get(uniformName), true, BufferUtil.createFlippedBuffer(value));
+		this.setUniform(this.getHandle(uniformName), value);
 	}
 
 	/**
@@ -298,7 +395,18 @@ public class Shader {
 	 * @param value Uniform's value to put
 	 */
 	final public void setUniform(final @NotNull String uniformName, final @NotNull Color value) {
-		this.setUniform(uniformName, value.toVector3f(), value.getAlpha());
+		this.setUniform(this.getHandle(uniformName), value);
+	}
+
+	/**
+	 * Sets two Vector2f into a vec4 uniform (e.g. a texture region: offset, then scale).
+	 *
+	 * @param uniformName Uniform's name
+	 * @param value Uniform's x and y
+	 * @param value2 Uniform's z and w
+	 */
+	final public void setUniform(final @NotNull String uniformName, final @NotNull Vector2f value, final @NotNull Vector2f value2) {
+		this.setUniform(this.getHandle(uniformName), value, value2);
 	}
 
 	/**
@@ -309,7 +417,190 @@ public class Shader {
 	 * @param value2 Uniform's second value to put
 	 */
 	final public void setUniform(final @NotNull String uniformName, final @NotNull Vector3f value, final float value2) {
-		glUniform4f(this.uniforms.get(uniformName), value.getX(), value.getY(), value.getZ(), value2);
+		this.setUniform(this.getHandle(uniformName), value, value2);
+	}
+
+	/**
+	 * Sets an Integer into an uniform, unless it already has this value.
+	 *
+	 * @param handle Uniform's handle (see Shader.getUniform())
+	 * @param value Uniform's value to put
+	 */
+	final public void setUniform(final int handle, final int value) {
+		if(this.changeValues(handle, Float.intBitsToFloat(value), 0, 0, 0, 1)) {
+			glUniform1i(this.uniformLocations[handle], value);
+		}
+	}
+
+	/**
+	 * Sets a Float into an uniform, unless it already has this value.
+	 *
+	 * @param handle Uniform's handle (see Shader.getUniform())
+	 * @param value Uniform's value to put
+	 */
+	final public void setUniform(final int handle, final float value) {
+		if(this.changeValues(handle, value, 0, 0, 0, 1)) {
+			glUniform1f(this.uniformLocations[handle], value);
+		}
+	}
+
+	/**
+	 * Sets a Vector2f into an uniform, unless it already has this value.
+	 *
+	 * @param handle Uniform's handle (see Shader.getUniform())
+	 * @param value Uniform's values to put
+	 */
+	final public void setUniform(final int handle, final @NotNull Vector2f value) {
+		if(this.changeValues(handle, value.getX(), value.getY(), 0, 0, 2)) {
+			glUniform2f(this.uniformLocations[handle], value.getX(), value.getY());
+		}
+	}
+
+	/**
+	 * Sets a Matrix4f into an uniform, unless it already has this value.
+	 *
+	 * @param handle Uniform's handle (see Shader.getUniform())
+	 * @param value Uniform's values to put
+	 */
+	final public void setUniform(final int handle, final @NotNull Matrix4f value) {
+		for(int i = 0; i < 4; i++) {
+			for(int j = 0; j < 4; j++) {
+				this.matrixValues[i * 4 + j] = value.get(i, j);
+			}
+		}
+
+		this.uploadMatrix(handle);
+	}
+
+	/**
+	 * Sets a Color into an uniform, unless it already has this value.
+	 *
+	 * @param handle Uniform's handle (see Shader.getUniform())
+	 * @param value Uniform's value to put
+	 */
+	final public void setUniform(final int handle, final @NotNull Color value) {
+		final float red = value.getRed() / 255f;
+		final float green = value.getGreen() / 255f;
+		final float blue = value.getBlue() / 255f;
+
+		if(this.changeValues(handle, red, green, blue, value.getAlpha(), 4)) {
+			glUniform4f(this.uniformLocations[handle], red, green, blue, value.getAlpha());
+		}
+	}
+
+	/**
+	 * Sets two Vector2f into a vec4 uniform, unless it already has these values.
+	 *
+	 * @param handle Uniform's handle (see Shader.getUniform())
+	 * @param value Uniform's x and y
+	 * @param value2 Uniform's z and w
+	 */
+	final public void setUniform(final int handle, final @NotNull Vector2f value, final @NotNull Vector2f value2) {
+		if(this.changeValues(handle, value.getX(), value.getY(), value2.getX(), value2.getY(), 4)) {
+			glUniform4f(this.uniformLocations[handle], value.getX(), value.getY(), value2.getX(), value2.getY());
+		}
+	}
+
+	/**
+	 * Sets a Vector4f/Color into an uniform, unless it already has this value.
+	 *
+	 * @param handle Uniform's handle (see Shader.getUniform())
+	 * @param value Uniform's value to put
+	 * @param value2 Uniform's second value to put
+	 */
+	final public void setUniform(final int handle, final @NotNull Vector3f value, final float value2) {
+		if(this.changeValues(handle, value.getX(), value.getY(), value.getZ(), value2, 4)) {
+			glUniform4f(this.uniformLocations[handle], value.getX(), value.getY(), value.getZ(), value2);
+		}
+	}
+
+	/**
+	 * Sets the product of two Matrix4f (left * right) into an uniform, unless it already has this value.
+	 * Nothing is allocated, unlike Matrix4f.mul().
+	 *
+	 * @param handle Uniform's handle (see Shader.getUniform())
+	 * @param left Left Matrix4f
+	 * @param right Right Matrix4f
+	 */
+	final protected void setUniformProduct(final int handle, final @NotNull Matrix4f left, final @NotNull Matrix4f right) {
+		for(int i = 0; i < 4; i++) {
+			for(int j = 0; j < 4; j++) {
+				this.matrixValues[i * 4 + j] =
+					left.get(i, 0) * right.get(0, j) +
+					left.get(i, 1) * right.get(1, j) +
+					left.get(i, 2) * right.get(2, j) +
+					left.get(i, 3) * right.get(3, j);
+			}
+		}
+
+		this.uploadMatrix(handle);
+	}
+
+	/**
+	 * Returns the handle of an uniform that must be in the Shader.
+	 *
+	 * @param uniformName Uniform's name
+	 * @return handle
+	 */
+	@Contract(pure = true)
+	private int getHandle(final @NotNull String uniformName) {
+		return this.uniforms.get(uniformName);
+	}
+
+	/**
+	 * Uploads Shader.matrixValues into an uniform (row major, transposed by OpenGL), unless it already has these values.
+	 *
+	 * @param handle Uniform's handle
+	 */
+	private void uploadMatrix(final int handle) {
+		float[] values = this.uniformValues[handle];
+
+		if(values == null || values.length != 16) {
+			values = new float[16];
+			this.uniformValues[handle] = values;
+		} else if(Arrays.equals(values, this.matrixValues)) {
+			return;
+		}
+
+		System.arraycopy(this.matrixValues, 0, values, 0, 16);
+
+		this.matrixBuffer.clear();
+		this.matrixBuffer.put(this.matrixValues);
+		this.matrixBuffer.flip();
+
+		glUniformMatrix4(this.uniformLocations[handle], true, this.matrixBuffer);
+	}
+
+	/**
+	 * Keeps the values about to be uploaded to an uniform, and returns whether they're different from the last ones.
+	 *
+	 * @param handle Uniform's handle
+	 * @param x First value
+	 * @param y Second value
+	 * @param z Third value
+	 * @param w Fourth value
+	 * @param size Number of values used (1 to 4)
+	 * @return true = the values must be uploaded
+	 */
+	private boolean changeValues(final int handle, final float x, final float y, final float z, final float w, final int size) {
+		float[] values = this.uniformValues[handle];
+
+		if(values == null || values.length != size) {
+			values = new float[size];
+			this.uniformValues[handle] = values;
+		} else if(Float.floatToIntBits(values[0]) == Float.floatToIntBits(x)
+			&& (size < 2 || Float.floatToIntBits(values[1]) == Float.floatToIntBits(y))
+			&& (size < 3 || Float.floatToIntBits(values[2]) == Float.floatToIntBits(z))
+			&& (size < 4 || Float.floatToIntBits(values[3]) == Float.floatToIntBits(w))) {
+			return false;
+		}
+
+		values[0] = x;
+		if(size > 1) values[1] = y;
+		if(size > 2) values[2] = z;
+		if(size > 3) values[3] = w;
+
+		return true;
 	}
 
 	/**
@@ -1,8 +1,9 @@
 package engine.rendering.shader.forward;
 
-import engine.game.Transform;
-import engine.rendering.texture.Material;
+import engine.math.Matrix4f;
 import engine.rendering.shader.Shader;
+import engine.rendering.texture.Texture;
+import engine.util.Color;
 import org.jetbrains.annotations.NotNull;
 
 public class AmbientShader extends Shader {
@@ -12,18 +13,25 @@ public class AmbientShader extends Shader {
 	 */
 	final private static @NotNull AmbientShader instance = new AmbientShader();
 
+	/**
+	 * Handle of the "ambientLight" uniform.
+	 */
+	final private int ambientLightUniform;
+
 	/**
 	 * Makes a new AmbientShader instance.
 	 */
 	private AmbientShader() {
 		super("forward/ambient");
+
+		this.ambientLightUniform = this.getUniform("ambientLight");
 	}
 
 	@Override
-	final public void updateUniforms(final @NotNull Material material, final @NotNull Transform transform) {
-		super.updateUniforms(material, transform);
+	final public void updateUniforms(final @NotNull Texture texture, final @NotNull Color color, final @NotNull Matrix4f transformation, final @NotNull Matrix4f projection) {
+		super.updateUniforms(texture, color, transformation, projection);
 
-		this.setUniform("ambientLight", this.getRenderingEngine().getAmbientLight());
+		this.setUniform(this.ambientLightUniform, this.getRenderingEngine().getAmbientLight());
 	}
 
 	/**
@@ -0,0 +1,33 @@
+package engine.rendering.shader.forward;
+
+import engine.rendering.shader.Shader;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Ambient shader of the SpriteBatch: the vertices are already in world space and carry their material's color,
+ * only the projection and the ambient light are uniforms.
+ */
+public class BatchShader extends Shader {
+
+	/**
+	 * BatchShader's instance.
+	 */
+	final private static @NotNull BatchShader instance = new BatchShader();
+
+	/**
+	 * Makes a new BatchShader instance.
+	 */
+	private BatchShader() {
+		super("forward/batch");
+	}
+
+	/**
+	 * Returns the BatchShader's instance.
+	 *
+	 * @return BatchShader's instance
+	 */
+	public static @NotNull BatchShader getInstance() {
+		return BatchShader.instance;
+	}
+
+}
\ No newline at end of file
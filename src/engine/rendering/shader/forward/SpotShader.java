@@ -46,8 +46,8 @@ public class SpotShader extends Shader {
 
 		final Matrix4f projection = this.getRenderingEngine().getMainCamera().getProjectionMatrix();
 
-		this.setUniform("transform", transform.getTransformedTransformation());
-		this.setUniform("transformProjected", projection.mul(transform.getTransformedTransformation()));
+		this.setUniform(this.getUniform("transform"), transform.getTransformedTransformation());
+		this.setUniformProduct(this.getUniform("transformProjected"), projection, transform.getTransformedTransformation());
 		this.setUniform("spotLight", (SpotLight) this.getRenderingEngine().getActiveLight());
 	}
 
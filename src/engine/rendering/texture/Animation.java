@@ -1,5 +1,6 @@
 package engine.rendering.texture;
 
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 public class Animation extends Image {
@@ -46,7 +47,8 @@ public class Animation extends Image {
 	 *
 	 * @return Animation.textures
 	 */
-	final protected @NotNull Texture[] getTextures() {
+	@Contract(pure = true)
+	final public @NotNull Texture[] getTextures() {
 		return this.textures;
 	}
 
@@ -64,7 +66,8 @@ public class Animation extends Image {
 	 *
 	 * @return Animation.maxTime
 	 */
-	private double getMaxTime() {
+	@Contract(pure = true)
+	final public double getMaxTime() {
 		return this.maxTime;
 	}
 
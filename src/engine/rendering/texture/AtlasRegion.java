@@ -0,0 +1,104 @@
+package engine.rendering.texture;
+
+import engine.math.Vector2f;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Sub-rectangle of a TextureAtlas' page holding one of the packed images.
+ */
+final class AtlasRegion {
+
+	/**
+	 * Page holding the image.
+	 */
+	final private @NotNull Texture page;
+
+	/**
+	 * Image's width (in px).
+	 */
+	final private int width;
+
+	/**
+	 * Image's height (in px).
+	 */
+	final private int height;
+
+	/**
+	 * Texture coordinates of the image's top left corner in the page.
+	 */
+	final private @NotNull Vector2f uvOffset;
+
+	/**
+	 * Size of the image in the page's texture coordinates.
+	 */
+	final private @NotNull Vector2f uvScale;
+
+	/**
+	 * Creates a new AtlasRegion instance.
+	 *
+	 * @param page Page holding the image
+	 * @param x Image's x position in the page (in px)
+	 * @param y Image's y position in the page (in px)
+	 * @param width Image's width (in px)
+	 * @param height Image's height (in px)
+	 */
+	AtlasRegion(final @NotNull Texture page, final int x, final int y, final int width, final int height) {
+		this.page = page;
+		this.width = width;
+		this.height = height;
+		this.uvOffset = new Vector2f((float) x / page.getWidth(), (float) y / page.getHeight());
+		this.uvScale = new Vector2f((float) width / page.getWidth(), (float) height / page.getHeight());
+	}
+
+	/**
+	 * Returns the page holding the image.
+	 *
+	 * @return AtlasRegion.page
+	 */
+	@Contract(pure = true)
+	final @NotNull Texture getPage() {
+		return this.page;
+	}
+
+	/**
+	 * Returns the image's width.
+	 *
+	 * @return AtlasRegion.width
+	 */
+	@Contract(pure = true)
+	final int getWidth() {
+		return this.width;
+	}
+
+	/**
+	 * Returns the image's height.
+	 *
+	 * @return AtlasRegion.height
+	 */
+	@Contract(pure = true)
+	final int getHeight() {
+		return this.height;
+	}
+
+	/**
+	 * Returns the texture coordinates of the image's top left corner in the page.
+	 *
+	 * @return AtlasRegion.uvOffset
+	 */
+	@Contract(pure = true)
+	final @NotNull Vector2f getUVOffset() {
+		return this.uvOffset;
+	}
+
+	/**
+	 * Returns the size of the image in the page's texture coordinates.
+	 *
+	 * @return AtlasRegion.uvScale
+	 */
+	@Contract(pure = true)
+	final @NotNull Vector2f getUVScale() {
+		return this.uvScale;
+	}
+
+}
\ No newline at end of file
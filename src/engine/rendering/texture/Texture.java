@@ -1,6 +1,9 @@
 package engine.rendering.texture;
 
 import com.Options;
+import engine.math.Vector2f;
+import engine.rendering.GLState;
+import engine.rendering.GLThread;
 import engine.util.BufferUtil;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -9,6 +12,7 @@ import org.jetbrains.annotations.Nullable;
 import java.awt.image.BufferedImage;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
+import java.util.concurrent.Callable;
 
 import static org.lwjgl.opengl.GL11.GL_NEAREST;
 import static org.lwjgl.opengl.GL11.GL_NONE;
@@ -21,18 +25,15 @@ import static org.lwjgl.opengl.GL11.GL_TEXTURE_MIN_FILTER;
 import static org.lwjgl.opengl.GL11.GL_TEXTURE_WRAP_S;
 import static org.lwjgl.opengl.GL11.GL_TEXTURE_WRAP_T;
 import static org.lwjgl.opengl.GL11.GL_UNSIGNED_BYTE;
-import static org.lwjgl.opengl.GL11.glBindTexture;
 import static org.lwjgl.opengl.GL11.glDrawBuffer;
 import static org.lwjgl.opengl.GL11.glGenTextures;
 import static org.lwjgl.opengl.GL11.glTexImage2D;
 import static org.lwjgl.opengl.GL11.glTexParameterf;
 import static org.lwjgl.opengl.GL11.glTexParameteri;
-import static org.lwjgl.opengl.GL11.glViewport;
 import static org.lwjgl.opengl.GL30.GL_DEPTH_ATTACHMENT;
 import static org.lwjgl.opengl.GL30.GL_DRAW_FRAMEBUFFER;
 import static org.lwjgl.opengl.GL30.GL_FRAMEBUFFER;
 import static org.lwjgl.opengl.GL30.GL_FRAMEBUFFER_COMPLETE;
-import static org.lwjgl.opengl.GL30.glBindFramebuffer;
 import static org.lwjgl.opengl.GL30.glCheckFramebufferStatus;
 import static org.lwjgl.opengl.GL30.glFramebufferTexture2D;
 import static org.lwjgl.opengl.GL30.glGenFramebuffers;
@@ -44,6 +45,16 @@ final public class Texture extends Image {
 	 */
 	final private static HashMap<String, TextureResource> loadedTextures = new HashMap<>();
 
+	/**
+	 * Texture coordinates' offset of a whole texture (must not be modified).
+	 */
+	final private static @NotNull Vector2f NO_UV_OFFSET = new Vector2f(0, 0);
+
+	/**
+	 * Texture coordinates' scale of a whole texture (must not be modified).
+	 */
+	final private static @NotNull Vector2f NO_UV_SCALE = new Vector2f(1, 1);
+
 	/**
 	 * Texture's resource.
 	 */
@@ -54,6 +65,11 @@ final public class Texture extends Image {
 	 */
 	private @Nullable String filename = null;
 
+	/**
+	 * Texture's region in a TextureAtlas' page (null = whole texture).
+	 */
+	private @Nullable AtlasRegion region = null;
+
 	/**
 	 * Creates a new Texture instance.
 	 *
@@ -100,6 +116,7 @@ final public class Texture extends Image {
 
 	/**
 	 * Creates a new Texture instance.
+	 * If the file has been packed in a TextureAtlas (and there's no attachment), the Texture is its region of the page.
 	 *
 	 * @param filename File name
 	 * @param attachment Texture's attachment
@@ -107,14 +124,33 @@ final public class Texture extends Image {
 	public Texture(final @NotNull String filename, final int attachment) {
 		this.filename = filename;
 
-		final TextureResource resource = Texture.loadedTextures.get(filename);
+		final AtlasRegion region = attachment == GL_NONE ? TextureAtlas.getRegion(filename) : null;
+		if(region != null) {
+			synchronized(Texture.loadedTextures) {
+				this.region = region;
+				this.resource = region.getPage().getResource();
+				this.resource.addReference();
+			}
+			return;
+		}
+
+		synchronized(Texture.loadedTextures) { // Textures can be created by the engine's worker threads.
+			final TextureResource resource = Texture.loadedTextures.get(filename);
 
-		if(resource != null) {
-			this.resource = resource;
-			resource.addReference();
-		} else {
-			this.createTexture(Texture.load(filename), attachment);
-			Texture.loadedTextures.put(filename, this.resource);
+			if(resource != null) {
+				this.resource = resource;
+				resource.addReference();
+				return;
+			}
+		}
+
+		// Created outside of the lock: the creation may wait for the OpenGL thread, which may want the lock too.
+		this.createTexture(Texture.load(filename), attachment);
+
+		synchronized(Texture.loadedTextures) {
+			if(!Texture.loadedTextures.containsKey(filename)) {
+				Texture.loadedTextures.put(filename, this.resource);
+			}
 		}
 	}
 
@@ -136,9 +172,11 @@ final public class Texture extends Image {
 			System.exit(1);
 		}
 
-		if(this.getResource().removeReference()) {
-			if(this.getFilename() != null) {
-				Texture.loadedTextures.remove(this.getFilename());
+		synchronized(Texture.loadedTextures) {
+			if(this.getResource().removeReference()) {
+				if(this.getFilename() != null && Texture.loadedTextures.get(this.getFilename()) == this.getResource()) {
+					Texture.loadedTextures.remove(this.getFilename());
+				}
 			}
 		}
 	}
@@ -150,6 +188,21 @@ final public class Texture extends Image {
 	 * @param attachment Texture's attachment
 	 */
 	private void createTexture(final @NotNull int[] params, final int attachment) {
+		GLThread.invoke(new Runnable() {
+			@Override
+			public void run() {
+				Texture.this.createTextureResource(params, attachment);
+			}
+		});
+	}
+
+	/**
+	 * Creates the TextureResource (and its frame buffer if needed), on the OpenGL thread.
+	 *
+	 * @param params Texture's parameters: 0 = id, 1 = width, 2 = height
+	 * @param attachment Texture's attachment
+	 */
+	private void createTextureResource(final @NotNull int[] params, final int attachment) {
 		if(params.length < 3) {
 			System.err.println("Error: params has a length of " + params.length + ", 3 params are required.");
 			new Exception().printStackTrace();
@@ -164,7 +217,7 @@ final public class Texture extends Image {
 
 		if(attachment != GL_NONE) {
 			fbo = glGenFramebuffers();
-			glBindFramebuffer(GL_DRAW_FRAMEBUFFER, fbo);
+			GLState.bindDrawFramebuffer(fbo);
 			glFramebufferTexture2D(GL_DRAW_FRAMEBUFFER, attachment, GL_TEXTURE_2D, id, 0);
 
 			if(fbo == 0) {
@@ -196,15 +249,15 @@ final public class Texture extends Image {
 	 * Binds the Texture to tell OpenGL to use it.
 	 */
 	final public void bind() {
-		glBindTexture(GL_TEXTURE_2D, this.getID());
+		GLState.bindTexture(this.getID());
 	}
 
 	/**
 	 * Binds the Texture to render into it.
 	 */
 	final public void bindAsRenderTarget() {
-		glBindFramebuffer(GL_DRAW_FRAMEBUFFER, this.getFBO());
-		glViewport(0, 0, this.getWidth(), this.getHeight());
+		GLState.bindDrawFramebuffer(this.getFBO());
+		GLState.viewport(0, 0, this.getWidth(), this.getHeight());
 	}
 
 	/**
@@ -230,21 +283,42 @@ final public class Texture extends Image {
 	/**
 	 * Returns the Texture's width.
 	 *
-	 * @return Texture.resource.width
+	 * @return Texture.region.width | Texture.resource.width
 	 */
 	@Contract(pure = true)
 	final public int getWidth() {
-		return this.getResource().getWidth();
+		return this.region != null ? this.region.getWidth() : this.getResource().getWidth();
 	}
 
 	/**
 	 * Returns the Texture's height.
 	 *
-	 * @return Texture.resource.height
+	 * @return Texture.region.height | Texture.resource.height
 	 */
 	@Contract(pure = true)
 	final public int getHeight() {
-		return this.getResource().getHeight();
+		return this.region != null ? this.region.getHeight() : this.getResource().getHeight();
+	}
+
+	/**
+	 * Returns the texture coordinates of the Texture's top left corner in the bound texture (must not be modified).
+	 * A mesh's texture coordinate c is mapped to offset + c * scale (see Texture.getUVScale()).
+	 *
+	 * @return Texture.region.uvOffset | (0, 0)
+	 */
+	@Contract(pure = true)
+	final public @NotNull Vector2f getUVOffset() {
+		return this.region != null ? this.region.getUVOffset() : Texture.NO_UV_OFFSET;
+	}
+
+	/**
+	 * Returns the Texture's size in the bound texture's coordinates (must not be modified).
+	 *
+	 * @return Texture.region.uvScale | (1, 1)
+	 */
+	@Contract(pure = true)
+	final public @NotNull Vector2f getUVScale() {
+		return this.region != null ? this.region.getUVScale() : Texture.NO_UV_SCALE;
 	}
 
 	/**
@@ -302,6 +376,25 @@ final public class Texture extends Image {
 	 * @return new int[3]
 	 */
 	private static @NotNull int[] load(final @NotNull String filename) {
+		final BufferedImage img = Texture.loadImage(filename);
+
+		final boolean hasAlpha = img.getColorModel().hasAlpha();
+
+		final int width = img.getWidth();
+		final int height = img.getHeight();
+
+		final int[] pixels = img.getRGB(0, 0, width, height, null, 0, width);
+
+		return Texture.generateTexture(width, height, hasAlpha, pixels);
+	}
+
+	/**
+	 * Reads a texture's file (in the language's version if there's no common one).
+	 *
+	 * @param filename File name
+	 * @return BufferedImage
+	 */
+	static @NotNull BufferedImage loadImage(final @NotNull String filename) {
 		String fileName = "/media/texture/" + filename + ".png";
 
 		BufferedImage img = support.File.getImage(fileName, false);
@@ -313,14 +406,7 @@ final public class Texture extends Image {
 			}
 		}
 
-		final boolean hasAlpha = img.getColorModel().hasAlpha();
-
-		final int width = img.getWidth();
-		final int height = img.getHeight();
-
-		final int[] pixels = img.getRGB(0, 0, width, height, null, 0, width);
-
-		return Texture.generateTexture(width, height, hasAlpha, pixels);
+		return img;
 	}
 
 	/**
@@ -335,6 +421,23 @@ final public class Texture extends Image {
 	private static @NotNull int[] generateTexture(final int width, final int height, final boolean hasAlpha, final int[] pixels) {
 		final ByteBuffer buffer = BufferUtil.createFlippedBuffer(width, height, hasAlpha, pixels);
 
+		return GLThread.invoke(new Callable<int[]>() {
+			@Override
+			public int[] call() {
+				return Texture.uploadTexture(width, height, buffer);
+			}
+		});
+	}
+
+	/**
+	 * Uploads the pixels in a new OpenGL texture, on the OpenGL thread, and returns its id, width and height.
+	 *
+	 * @param width Texture's width
+	 * @param height Texture's height
+	 * @param buffer Texture's pixels
+	 * @return new int[3]
+	 */
+	private static @NotNull int[] uploadTexture(final int width, final int height, final @NotNull ByteBuffer buffer) {
 		final int id = glGenTextures();
 
 		// Check if the id is not an id that has to be removed
@@ -345,7 +448,7 @@ final public class Texture extends Image {
 			}
 		}
 
-		glBindTexture(GL_TEXTURE_2D, id);
+		GLState.bindTexture(id);
 
 		glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, GL_REPEAT);
 		glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_T, GL_REPEAT);
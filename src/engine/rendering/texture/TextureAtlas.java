@@ -0,0 +1,209 @@
+package engine.rendering.texture;
+
+import com.Options;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Packs images into a few large textures (pages), so that the quads using them share a texture and can be batched.
+ * Once an image is packed, new Texture(filename) returns its region of the page instead of loading the file:
+ * the Materials and the Animations using it don't have to change, the region carries its texture coordinates
+ * (see Texture.getUVOffset() and Texture.getUVScale()).
+ * The images must be packed before the Textures using them are created (see AssetManifest's atlases).
+ * The pages are kept for the game's whole life.
+ */
+final public class TextureAtlas {
+
+	/**
+	 * Maximum width and height of a page (in px).
+	 */
+	final public static int MAX_SIZE = 2048;
+
+	/**
+	 * Border added around each image (in px): its edges are repeated, so the neighbours never bleed into it.
+	 */
+	final public static int PADDING = 1;
+
+	/**
+	 * Regions by texture's file name (as given to new Texture()).
+	 */
+	final private static @NotNull HashMap<String, AtlasRegion> regions = new HashMap<>();
+
+	/**
+	 * TextureAtlas is static only.
+	 */
+	private TextureAtlas() {
+
+	}
+
+	/**
+	 * Packs images into as few pages as possible (shelves, tallest images first).
+	 * The images too big for a page and the ones already packed are left as they are.
+	 * Can be called by any thread: the pages are uploaded by the OpenGL thread.
+	 *
+	 * @param name Atlas' name (for the debug output)
+	 * @param filenames Textures' file names (as given to new Texture())
+	 * @return number of pages created
+	 */
+	public static int pack(final @NotNull String name, final @NotNull List<String> filenames) {
+		final ArrayList<String> packed = new ArrayList<>();
+		final ArrayList<BufferedImage> images = new ArrayList<>();
+
+		for(final String filename : filenames) {
+			if(TextureAtlas.contains(filename) || packed.contains(filename)) {
+				continue;
+			}
+
+			final BufferedImage image = Texture.loadImage(filename);
+
+			if(image.getWidth() + 2 * TextureAtlas.PADDING > TextureAtlas.MAX_SIZE || image.getHeight() + 2 * TextureAtlas.PADDING > TextureAtlas.MAX_SIZE) {
+				if(Options.DEBUG) System.out.println("Texture " + filename + " is too big for the atlas " + name + ".");
+				continue;
+			}
+
+			packed.add(filename);
+			images.add(image);
+		}
+
+		final ArrayList<Integer> order = new ArrayList<>();
+		for(int i = 0; i < images.size(); i++) {
+			order.add(i);
+		}
+
+		Collections.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(final Integer a, final Integer b) {
+				return Integer.compare(images.get(b).getHeight(), images.get(a).getHeight());
+			}
+		});
+
+		// Position of each image (with its padding) and its page.
+		final int[] x = new int[images.size()];
+		final int[] y = new int[images.size()];
+		final int[] page = new int[images.size()];
+		final ArrayList<int[]> pageSizes = new ArrayList<>();
+
+		int shelfX = 0;
+		int shelfY = 0;
+		int shelfHeight = 0;
+		int pageWidth = 0;
+
+		for(final int index : order) {
+			final int width = images.get(index).getWidth() + 2 * TextureAtlas.PADDING;
+			final int height = images.get(index).getHeight() + 2 * TextureAtlas.PADDING;
+
+			if(shelfX + width > TextureAtlas.MAX_SIZE) { // Next shelf.
+				shelfX = 0;
+				shelfY += shelfHeight;
+				shelfHeight = 0;
+			}
+
+			if(shelfY + height > TextureAtlas.MAX_SIZE) { // Next page.
+				pageSizes.add(new int[] {pageWidth, shelfY});
+				shelfX = 0;
+				shelfY = 0;
+				shelfHeight = 0;
+				pageWidth = 0;
+			}
+
+			x[index] = shelfX;
+			y[index] = shelfY;
+			page[index] = pageSizes.size();
+
+			shelfX += width;
+			shelfHeight = Math.max(shelfHeight, height);
+			pageWidth = Math.max(pageWidth, shelfX);
+		}
+
+		if(!images.isEmpty()) {
+			pageSizes.add(new int[] {pageWidth, shelfY + shelfHeight});
+		}
+
+		for(int p = 0; p < pageSizes.size(); p++) {
+			final int pageWidthPx = pageSizes.get(p)[0];
+			final int pageHeightPx = pageSizes.get(p)[1];
+			final int[] pixels = new int[pageWidthPx * pageHeightPx];
+
+			for(int i = 0; i < images.size(); i++) {
+				if(page[i] == p) {
+					TextureAtlas.copy(images.get(i), pixels, pageWidthPx, x[i], y[i]);
+				}
+			}
+
+			final Texture texture = new Texture(pageWidthPx, pageHeightPx, pixels);
+
+			synchronized(TextureAtlas.regions) {
+				for(int i = 0; i < images.size(); i++) {
+					if(page[i] == p) {
+						TextureAtlas.regions.put(packed.get(i), new AtlasRegion(texture, x[i] + TextureAtlas.PADDING, y[i] + TextureAtlas.PADDING, images.get(i).getWidth(), images.get(i).getHeight()));
+					}
+				}
+			}
+
+			if(Options.DEBUG) System.out.println("Atlas " + name + ": page " + p + " (" + pageWidthPx + "x" + pageHeightPx + "px).");
+		}
+
+		return pageSizes.size();
+	}
+
+	/**
+	 * Returns whether a texture has been packed.
+	 *
+	 * @param filename Texture's file name
+	 * @return boolean
+	 */
+	public static boolean contains(final @NotNull String filename) {
+		return TextureAtlas.getRegion(filename) != null;
+	}
+
+	/**
+	 * Returns the region of a packed texture.
+	 *
+	 * @param filename Texture's file name
+	 * @return AtlasRegion | null if not packed
+	 */
+	static @Nullable AtlasRegion getRegion(final @NotNull String filename) {
+		synchronized(TextureAtlas.regions) {
+			return TextureAtlas.regions.get(filename);
+		}
+	}
+
+	/**
+	 * Copies an image into a page, surrounded by its repeated edges (TextureAtlas::PADDING px).
+	 *
+	 * @param image Image to copy
+	 * @param pixels Page's pixels
+	 * @param pageWidth Page's width
+	 * @param x Position of the image's padding in the page
+	 * @param y Position of the image's padding in the page
+	 */
+	private static void copy(final @NotNull BufferedImage image, final @NotNull int[] pixels, final int pageWidth, final int x, final int y) {
+		final int width = image.getWidth();
+		final int height = image.getHeight();
+		final int[] source = image.getRGB(0, 0, width, height, null, 0, width);
+
+		if(!image.getColorModel().hasAlpha()) { // Same as Texture: opaque.
+			for(int i = 0; i < source.length; i++) {
+				source[i] |= 0xFF000000;
+			}
+		}
+
+		for(int j = 0; j < height + 2 * TextureAtlas.PADDING; j++) {
+			final int sourceY = Math.min(Math.max(j - TextureAtlas.PADDING, 0), height - 1);
+
+			for(int i = 0; i < width + 2 * TextureAtlas.PADDING; i++) {
+				final int sourceX = Math.min(Math.max(i - TextureAtlas.PADDING, 0), width - 1);
+
+				pixels[(y + j) * pageWidth + x + i] = source[sourceY * width + sourceX];
+			}
+		}
+	}
+
+}
\ No newline at end of file
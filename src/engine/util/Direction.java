@@ -1,7 +1,9 @@
 package engine.util;
 
+import engine.game.store.EntityPage;
 import engine.math.Vector2f;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 final public class Direction { // TODO: Should be an enum.
 
@@ -55,6 +57,16 @@ final public class Direction { // TODO: Should be an enum.
 	 */
 	private byte direction;
 
+	/**
+	 * Page of the EntityStore the direction is stored in, instead of its own field (null = none, see Direction.bind()).
+	 */
+	private @Nullable EntityPage page;
+
+	/**
+	 * Direction's index in the page.
+	 */
+	private int index;
+
 	/**
 	 * Creates a new Direction instance (with value NONE).
 	 */
@@ -133,7 +145,8 @@ final public class Direction { // TODO: Should be an enum.
 	 * @return Direction's direction
 	 */
 	final public byte getDirection() {
-		return this.direction;
+		final EntityPage page = this.page;
+		return page == null ? this.direction : page.getDirections()[this.index];
 	}
 
 	/**
@@ -142,7 +155,12 @@ final public class Direction { // TODO: Should be an enum.
 	 * @param direction Direction to set
 	 */
 	final public void setDirection(final byte direction) {
-		this.direction = direction;
+		final EntityPage page = this.page;
+		if(page == null) {
+			this.direction = direction;
+		} else {
+			page.getDirections()[this.index] = direction;
+		}
 
 		if(this.getDirectionName().equals("")) {
 			System.err.println("Error: direction was set to '" + direction + "' but is not valid.");
@@ -150,6 +168,20 @@ final public class Direction { // TODO: Should be an enum.
 		}
 	}
 
+	/**
+	 * Stores the direction in a page of the EntityStore (its current value is moved there), or back in its own field.
+	 *
+	 * @param page Page to store the direction in (null = own field)
+	 * @param index Direction's index in the page
+	 */
+	final public void bind(final @Nullable EntityPage page, final int index) {
+		final byte direction = this.getDirection();
+
+		this.page = page;
+		this.index = index;
+		this.setDirection(direction);
+	}
+
 	/**
 	 * Returns a direction that correspond to the Vector2f.
 	 *
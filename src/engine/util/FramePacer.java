@@ -0,0 +1,227 @@
+package engine.util;
+
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Waits until a deadline without waking up every millisecond:
+ * sleeps coarsely until just before the deadline, then yields for the last stretch.
+ * The sleep length is corrected by the measured oversleep of the OS timer.
+ * Also measures the frames' jitter, the idle time and the input latency.
+ */
+final public class FramePacer {
+
+	/**
+	 * Frames rendered per second when the Window is not active.
+	 */
+	final public static int BACKGROUND_FRAMES_PER_SECOND = 15;
+
+	/**
+	 * Remaining time under which the pacer stops sleeping and yields until the deadline (in ns).
+	 */
+	final private static long SPIN_THRESHOLD = 1000000L;
+
+	/**
+	 * Weight of the last measure in the oversleep estimation.
+	 */
+	final private static double OVERSLEEP_SMOOTHING = 0.1;
+
+	/**
+	 * Estimated time Thread.sleep() sleeps longer than requested (in ns).
+	 */
+	private double oversleep;
+
+	/**
+	 * When did the statistics start (in ns).
+	 */
+	private long statisticsStart;
+
+	/**
+	 * Time spent sleeping since the statistics started (in ns).
+	 */
+	private long sleptTime;
+
+	/**
+	 * When has the last frame been rendered (in ns, 0 = none).
+	 */
+	private long lastFrameTime;
+
+	/**
+	 * Number of frame intervals measured since the statistics started.
+	 */
+	private int intervals;
+
+	/**
+	 * Sum of the differences between the frame intervals and the expected frame time (in ms).
+	 */
+	private double deviationSum;
+
+	/**
+	 * Sum of the squared differences between the frame intervals and the expected frame time (in ms²).
+	 */
+	private double squaredDeviationSum;
+
+	/**
+	 * Number of input latencies measured since the statistics started.
+	 */
+	private int latencies;
+
+	/**
+	 * Sum of the input latencies measured since the statistics started (in ns).
+	 */
+	private long latencySum;
+
+	/**
+	 * Maximum input latency measured since the statistics started (in ns).
+	 */
+	private long maxLatency;
+
+	/**
+	 * Creates a new FramePacer instance.
+	 */
+	public FramePacer() {
+		this.oversleep = 0.0;
+		this.lastFrameTime = 0L;
+		this.resetStatistics();
+	}
+
+	/**
+	 * Waits until the deadline.
+	 *
+	 * @param deadline When to wake up (in ns, see Time.getNanoTime())
+	 */
+	final public void waitUntil(final long deadline) {
+		final long sleepTime = deadline - Time.getNanoTime() - FramePacer.SPIN_THRESHOLD - Math.round(this.oversleep);
+		final long sleepMillis = sleepTime / 1000000L;
+
+		if(sleepMillis > 0) {
+			final long start = Time.getNanoTime();
+
+			try {
+				Thread.sleep(sleepMillis);
+			} catch(final InterruptedException e) {
+				e.printStackTrace();
+				System.exit(1);
+			}
+
+			final long slept = Time.getNanoTime() - start;
+			this.sleptTime += slept;
+			this.oversleep += FramePacer.OVERSLEEP_SMOOTHING * ((slept - sleepMillis * 1000000L) - this.oversleep);
+			if(this.oversleep < 0) this.oversleep = 0;
+		}
+
+		while(Time.getNanoTime() < deadline) {
+			Thread.yield();
+		}
+	}
+
+	/**
+	 * Adds time spent idle outside the pacer (e.g. parked waiting for work).
+	 *
+	 * @param idleTime Time spent idle (in ns)
+	 */
+	final public void addIdleTime(final long idleTime) {
+		this.sleptTime += idleTime;
+	}
+
+	/**
+	 * Tells the pacer a frame has been rendered, to measure the jitter.
+	 *
+	 * @param frameTime Expected time between 2 frames (in seconds)
+	 */
+	final public void frameRendered(final double frameTime) {
+		final long now = Time.getNanoTime();
+
+		if(this.lastFrameTime != 0L) {
+			final double deviation = (now - this.lastFrameTime) * Time.NANO_TO_MILLI - frameTime * 1000.0;
+			this.deviationSum += deviation;
+			this.squaredDeviationSum += deviation * deviation;
+			this.intervals++;
+		}
+
+		this.lastFrameTime = now;
+	}
+
+	/**
+	 * Tells the pacer a frame has been shown, to measure the input latency.
+	 *
+	 * @param inputTime When have the inputs used by the frame been sampled (in ns, see Input.getLastSampleTime())
+	 */
+	final public void frameShown(final long inputTime) {
+		final long latency = Time.getNanoTime() - inputTime;
+
+		this.latencySum += latency;
+		this.latencies++;
+		if(latency > this.maxLatency) this.maxLatency = latency;
+	}
+
+	/**
+	 * Returns the frame-time jitter: standard deviation of the frame intervals around the expected frame time (in ms).
+	 *
+	 * @return new double
+	 */
+	@Contract(pure = true)
+	final public double getJitter() {
+		if(this.intervals == 0) {
+			return 0.0;
+		}
+
+		final double mean = this.deviationSum / this.intervals;
+		return Math.sqrt(Math.max(0.0, this.squaredDeviationSum / this.intervals - mean * mean));
+	}
+
+	/**
+	 * Returns the percentage of time spent sleeping (CPU idle) since the statistics started.
+	 *
+	 * @return new double between 0 and 100
+	 */
+	@Contract(pure = true)
+	final public double getIdlePercentage() {
+		final long elapsed = Time.getNanoTime() - this.statisticsStart;
+		return elapsed <= 0 ? 0.0 : 100.0 * this.sleptTime / elapsed;
+	}
+
+	/**
+	 * Returns the average time between the inputs sampling and the frame shown (in ms).
+	 *
+	 * @return new double
+	 */
+	@Contract(pure = true)
+	final public double getAverageLatency() {
+		return this.latencies == 0 ? 0.0 : this.latencySum * Time.NANO_TO_MILLI / this.latencies;
+	}
+
+	/**
+	 * Returns the maximum time between the inputs sampling and the frame shown (in ms).
+	 *
+	 * @return new double
+	 */
+	@Contract(pure = true)
+	final public double getMaxLatency() {
+		return this.maxLatency * Time.NANO_TO_MILLI;
+	}
+
+	/**
+	 * Returns the estimated oversleep of Thread.sleep() (in ms).
+	 *
+	 * @return FramePacer.oversleep
+	 */
+	@Contract(pure = true)
+	final public double getOversleep() {
+		return this.oversleep * Time.NANO_TO_MILLI;
+	}
+
+	/**
+	 * Resets the jitter and idle statistics.
+	 */
+	final public void resetStatistics() {
+		this.statisticsStart = Time.getNanoTime();
+		this.sleptTime = 0L;
+		this.intervals = 0;
+		this.deviationSum = 0.0;
+		this.squaredDeviationSum = 0.0;
+		this.latencies = 0;
+		this.latencySum = 0L;
+		this.maxLatency = 0L;
+	}
+
+}
\ No newline at end of file
@@ -2,6 +2,7 @@ package engine.util;
 
 import com.GameOptions;
 import engine.math.Vector2f;
+import engine.rendering.GLThread;
 import engine.util.profiling.Profiler;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -641,6 +642,11 @@ final public class Input {
 	 */
 	private static boolean blockKeys;
 
+	/**
+	 * When have the inputs been sampled for the last time (in ns).
+	 */
+	private static long lastSampleTime = 0L;
+
 	/**
 	 * Initializes the inputs.
 	 */
@@ -711,9 +717,33 @@ final public class Input {
 				}
 			}
 		}
+		Input.lastSampleTime = Time.getNanoTime();
 		Profiler.stopProfileTimer("Input-Update");
 	}
 
+	/**
+	 * Polls the keyboard and the mouse again right before rendering (late latch) so Input.getKey() returns the freshest state.
+	 * The events are not consumed: they are still handled by the next Input.update().
+	 */
+	public static void latch() {
+		if(GLThread.isCurrentThread()) Window.processMessages(); // Only the thread owning the Window can process its messages.
+
+		Keyboard.poll();
+		Mouse.poll();
+
+		Input.lastSampleTime = Time.getNanoTime();
+	}
+
+	/**
+	 * Returns when the inputs have been sampled for the last time (by Input.update() or Input.latch()).
+	 *
+	 * @return Input::lastSampleTime (in ns)
+	 */
+	@Contract(pure = true)
+	public static long getLastSampleTime() {
+		return Input.lastSampleTime;
+	}
+
 	/**
 	 * Returns the user's keyboard layout.
 	 *
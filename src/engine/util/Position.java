@@ -1,9 +1,11 @@
 package engine.util;
 
+import engine.game.store.EntityPage;
 import engine.math.Vector2f;
 import engine.math.Vector3f;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class Position {
 
@@ -27,6 +29,16 @@ public class Position {
 	 */
 	private long z;
 
+	/**
+	 * Page of the EntityStore the position is stored in, instead of its own fields (null = none, see Position.bind()).
+	 */
+	private @Nullable EntityPage page;
+
+	/**
+	 * Position's index in the page.
+	 */
+	private int index;
+
 	/**
 	 * Creates a new Position instance.
 	 */
@@ -181,7 +193,8 @@ public class Position {
 	 */
 	@Contract(pure = true)
 	final public long getX() {
-		return this.x;
+		final EntityPage page = this.page;
+		return page == null ? this.x : page.getPositionsX()[this.index];
 	}
 
 	/**
@@ -191,7 +204,8 @@ public class Position {
 	 */
 	@Contract(pure = true)
 	final public long getY() {
-		return this.y;
+		final EntityPage page = this.page;
+		return page == null ? this.y : page.getPositionsY()[this.index];
 	}
 
 	/**
@@ -201,7 +215,8 @@ public class Position {
 	 */
 	@Contract(pure = true)
 	final public long getZ() {
-		return this.z;
+		final EntityPage page = this.page;
+		return page == null ? this.z : page.getPositionsZ()[this.index];
 	}
 
 	/**
@@ -258,7 +273,12 @@ public class Position {
 	 * @param x Position on the x-axis
 	 */
 	final public void setX(final long x) {
-		this.x = x;
+		final EntityPage page = this.page;
+		if(page == null) {
+			this.x = x;
+		} else {
+			page.getPositionsX()[this.index] = x;
+		}
 	}
 
 	/**
@@ -267,7 +287,12 @@ public class Position {
 	 * @param y Position on the y-axis
 	 */
 	final public void setY(final long y) {
-		this.y = y;
+		final EntityPage page = this.page;
+		if(page == null) {
+			this.y = y;
+		} else {
+			page.getPositionsY()[this.index] = y;
+		}
 	}
 
 	/**
@@ -276,7 +301,12 @@ public class Position {
 	 * @param z Depth
 	 */
 	final public void setZ(final long z) {
-		this.z = z;
+		final EntityPage page = this.page;
+		if(page == null) {
+			this.z = z;
+		} else {
+			page.getPositionsZ()[this.index] = z;
+		}
 	}
 
 	/**
@@ -303,6 +333,22 @@ public class Position {
 		this.setZ(z);
 	}
 
+	/**
+	 * Stores the position in a page of the EntityStore (its current value is moved there), or back in its own fields.
+	 *
+	 * @param page Page to store the position in (null = own fields)
+	 * @param index Position's index in the page
+	 */
+	final public void bind(final @Nullable EntityPage page, final int index) {
+		final long x = this.getX();
+		final long y = this.getY();
+		final long z = this.getZ();
+
+		this.page = page;
+		this.index = index;
+		this.setXYZ(x, y, z);
+	}
+
 	/**
 	 * Sets the position equals to another position.
 	 *
@@ -524,7 +570,7 @@ public class Position {
 	 * @return this
 	 */
 	final public Position additionX(final long x) {
-		this.x += x;
+		this.setX(this.getX() + x);
 		return this;
 	}
 
@@ -535,7 +581,7 @@ public class Position {
 	 * @return this
 	 */
 	final public Position additionY(final long y) {
-		this.y += y;
+		this.setY(this.getY() + y);
 		return this;
 	}
 
@@ -546,7 +592,7 @@ public class Position {
 	 * @return this
 	 */
 	final public Position additionZ(final long z) {
-		this.z += z;
+		this.setZ(this.getZ() + z);
 		return this;
 	}
 
@@ -810,7 +856,7 @@ public class Position {
 	 * @return this
 	 */
 	final public Position subtractX(final long x) {
-		this.x -= x;
+		this.setX(this.getX() - x);
 		return this;
 	}
 
@@ -821,7 +867,7 @@ public class Position {
 	 * @return this
 	 */
 	final public Position subtractY(final long y) {
-		this.y -= y;
+		this.setY(this.getY() - y);
 		return this;
 	}
 
@@ -832,7 +878,7 @@ public class Position {
 	 * @return this
 	 */
 	final public Position subtractZ(final long z) {
-		this.z -= z;
+		this.setZ(this.getZ() - z);
 		return this;
 	}
 
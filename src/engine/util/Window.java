@@ -1,6 +1,7 @@
 package engine.util;
 
 import engine.math.Vector2f;
+import engine.rendering.GLState;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.lwjgl.LWJGLException;
@@ -11,9 +12,6 @@ import org.lwjgl.opengl.PixelFormat;
 
 import java.nio.ByteBuffer;
 
-import static org.lwjgl.opengl.GL11.glViewport;
-import static org.lwjgl.opengl.GL30.GL_DRAW_FRAMEBUFFER;
-import static org.lwjgl.opengl.GL30.glBindFramebuffer;
 
 final public class Window {
 
@@ -45,6 +43,31 @@ final public class Window {
 		return Display.isCloseRequested();
 	}
 
+	/**
+	 * Returns if the Window has the focus.
+	 *
+	 * @return Window is active
+	 */
+	public static boolean isActive() {
+		return Display.isActive();
+	}
+
+	/**
+	 * Returns if the Window is visible (false when minimised).
+	 *
+	 * @return Window is visible
+	 */
+	public static boolean isVisible() {
+		return Display.isVisible();
+	}
+
+	/**
+	 * Processes the Window's messages without rendering (e.g. while minimised).
+	 */
+	public static void processMessages() {
+		Display.processMessages();
+	}
+
 	/**
 	 * Returns the Window's width.
 	 *
@@ -91,8 +114,8 @@ final public class Window {
 	 * Binds the window as the render target (render to window).
 	 */
 	public static void bindAsRenderTarget() {
-		glBindFramebuffer(GL_DRAW_FRAMEBUFFER, 0);
-		glViewport(0, 0, Window.getWidth(), Window.getHeight());
+		GLState.bindDrawFramebuffer(0);
+		GLState.viewport(0, 0, Window.getWidth(), Window.getHeight());
 	}
 
 	/**
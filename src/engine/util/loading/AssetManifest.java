@@ -0,0 +1,213 @@
+package engine.util.loading;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import support.json.JSONArray;
+import support.json.JSONObject;
+import support.json.JSONTokener;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+
+/**
+ * List of the assets to preload at startup (see AssetPreloader).
+ * A manifest file (JSON) contains the textures' names (as given to new Texture()) and the sounds' paths (as given to new AudioObject()):
+ * { "textures": ["black1x1", "/menu/background-1"], "sounds": ["/fireplace_mono.wav"] }
+ * It may also contain atlases: textures packed together in a TextureAtlas, by atlas' name:
+ * { "atlases": { "hero": ["temp_hero/hero_NORTH_0", "temp_hero/hero_NORTH_1"] } }
+ * A texture in an atlas isn't preloaded on its own.
+ */
+final public class AssetManifest {
+
+	/**
+	 * Textures to preload (without duplicates, in the order they have been added).
+	 */
+	final private @NotNull LinkedHashSet<String> textures;
+
+	/**
+	 * Sounds to preload (without duplicates, in the order they have been added).
+	 */
+	final private @NotNull LinkedHashSet<String> sounds;
+
+	/**
+	 * Atlases to pack: textures by atlas' name (in the order they have been added).
+	 */
+	final private @NotNull LinkedHashMap<String, LinkedHashSet<String>> atlases;
+
+	/**
+	 * Creates a new empty AssetManifest instance.
+	 */
+	public AssetManifest() {
+		this.textures = new LinkedHashSet<>();
+		this.sounds = new LinkedHashSet<>();
+		this.atlases = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Adds the assets listed in a manifest file.
+	 *
+	 * @param path Manifest file's path (ex: /media/manifest.json)
+	 * @return this
+	 */
+	final public @NotNull AssetManifest load(final @NotNull String path) {
+		final JSONObject manifest;
+
+		try {
+			manifest = new JSONObject(new JSONTokener(support.File.getURL(path).openStream()));
+		} catch(final IOException | NullPointerException e) {
+			System.err.println("Error: could not read the asset manifest " + path + ".");
+			e.printStackTrace();
+			System.exit(1);
+			return this;
+		}
+
+		if(manifest.has("textures")) {
+			final JSONArray textures = manifest.getJSONArray("textures");
+
+			for(int i = 0; i < textures.length(); i++) {
+				this.addTexture(textures.getString(i));
+			}
+		}
+
+		if(manifest.has("atlases")) {
+			final JSONObject atlases = manifest.getJSONObject("atlases");
+
+			for(final String name : atlases.keySet()) {
+				final JSONArray textures = atlases.getJSONArray(name);
+
+				for(int i = 0; i < textures.length(); i++) {
+					this.addAtlasTexture(name, textures.getString(i));
+				}
+			}
+		}
+
+		if(manifest.has("sounds")) {
+			final JSONArray sounds = manifest.getJSONArray("sounds");
+
+			for(int i = 0; i < sounds.length(); i++) {
+				this.addSound(sounds.getString(i));
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * Adds a texture to preload.
+	 *
+	 * @param name Texture's name (as given to new Texture())
+	 * @return this
+	 */
+	final public @NotNull AssetManifest addTexture(final @NotNull String name) {
+		if(!this.isInAtlas(name)) {
+			this.textures.add(name);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Adds a texture to an atlas (created if needed). The texture isn't preloaded on its own anymore.
+	 *
+	 * @param atlas Atlas' name
+	 * @param name Texture's name (as given to new Texture())
+	 * @return this
+	 */
+	final public @NotNull AssetManifest addAtlasTexture(final @NotNull String atlas, final @NotNull String name) {
+		if(!this.atlases.containsKey(atlas)) {
+			this.atlases.put(atlas, new LinkedHashSet<String>());
+		}
+
+		if(!this.isInAtlas(name)) {
+			this.atlases.get(atlas).add(name);
+		}
+		this.textures.remove(name);
+
+		return this;
+	}
+
+	/**
+	 * Adds a sound to preload.
+	 *
+	 * @param path Sound's path (as given to new AudioObject())
+	 * @return this
+	 */
+	final public @NotNull AssetManifest addSound(final @NotNull String path) {
+		this.sounds.add(path);
+
+		return this;
+	}
+
+	/**
+	 * Returns the textures to preload.
+	 *
+	 * @return AssetManifest.textures
+	 */
+	@Contract(pure = true)
+	final public @NotNull ArrayList<String> getTextures() {
+		return new ArrayList<>(this.textures);
+	}
+
+	/**
+	 * Returns the sounds to preload.
+	 *
+	 * @return AssetManifest.sounds
+	 */
+	@Contract(pure = true)
+	final public @NotNull ArrayList<String> getSounds() {
+		return new ArrayList<>(this.sounds);
+	}
+
+	/**
+	 * Returns the atlases' names.
+	 *
+	 * @return names
+	 */
+	@Contract(pure = true)
+	final public @NotNull ArrayList<String> getAtlases() {
+		return new ArrayList<>(this.atlases.keySet());
+	}
+
+	/**
+	 * Returns the textures of an atlas.
+	 *
+	 * @param atlas Atlas' name
+	 * @return textures' names (empty if the atlas doesn't exist)
+	 */
+	@Contract(pure = true)
+	final public @NotNull ArrayList<String> getAtlasTextures(final @NotNull String atlas) {
+		final LinkedHashSet<String> textures = this.atlases.get(atlas);
+
+		return textures != null ? new ArrayList<>(textures) : new ArrayList<String>();
+	}
+
+	/**
+	 * Returns the number of assets to preload (an atlas is one asset).
+	 *
+	 * @return int
+	 */
+	@Contract(pure = true)
+	final public int size() {
+		return this.textures.size() + this.sounds.size() + this.atlases.size();
+	}
+
+	/**
+	 * Returns whether a texture is in one of the atlases.
+	 *
+	 * @param name Texture's name
+	 * @return boolean
+	 */
+	@Contract(pure = true)
+	private boolean isInAtlas(final @NotNull String name) {
+		for(final LinkedHashSet<String> textures : this.atlases.values()) {
+			if(textures.contains(name)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,342 @@
+package engine.util.loading;
+
+import com.Options;
+import engine.audio.AudioObject;
+import engine.rendering.GLThread;
+import engine.rendering.texture.Texture;
+import engine.rendering.texture.TextureAtlas;
+import engine.util.Time;
+import engine.util.Window;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.lwjgl.BufferUtils;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.lwjgl.opengl.GL11.GL_COLOR_BUFFER_BIT;
+import static org.lwjgl.opengl.GL11.GL_COLOR_CLEAR_VALUE;
+import static org.lwjgl.opengl.GL11.GL_SCISSOR_TEST;
+import static org.lwjgl.opengl.GL11.glClear;
+import static org.lwjgl.opengl.GL11.glClearColor;
+import static org.lwjgl.opengl.GL11.glDisable;
+import static org.lwjgl.opengl.GL11.glEnable;
+import static org.lwjgl.opengl.GL11.glGetFloat;
+import static org.lwjgl.opengl.GL11.glScissor;
+
+/**
+ * Preloads the assets of an AssetManifest at startup: the files are read and decoded (PNG, WAV) by a pool of threads
+ * while the engine initializes, and the OpenGL uploads are done by the OpenGL thread in budgeted slices behind a loading screen.
+ * The textures end up in the Texture cache (or in a TextureAtlas' page) and the sounds in the AudioData cache: the game's
+ * static initializers, fonts and scenes then get them without loading anything.
+ */
+final public class AssetPreloader {
+
+	/**
+	 * Minimum time between two frames of the loading screen (in ns).
+	 */
+	final private static long LOADING_SCREEN_FRAME = 33000000L;
+
+	/**
+	 * Maximum time the OpenGL thread waits for an upload before checking the progress again (in ns).
+	 */
+	final private static long MAX_WAIT = 1000000L;
+
+	/**
+	 * Assets to preload.
+	 */
+	final private @NotNull AssetManifest manifest;
+
+	/**
+	 * Threads reading and decoding the assets.
+	 */
+	final private @NotNull ExecutorService pool;
+
+	/**
+	 * Number of threads reading and decoding the assets.
+	 */
+	final private int threads;
+
+	/**
+	 * Textures preloaded (kept until the game has taken its own references, see AssetPreloader.release()).
+	 */
+	final private @NotNull ArrayList<Texture> textures;
+
+	/**
+	 * Startup timeline: when and where each asset has been preloaded.
+	 */
+	final private @NotNull ArrayList<AssetTiming> timeline;
+
+	/**
+	 * Number of assets done (loaded or failed).
+	 */
+	final private @NotNull AtomicInteger done;
+
+	/**
+	 * When did the preloading start (in ns).
+	 */
+	private long startTime;
+
+	/**
+	 * Creates a new AssetPreloader instance.
+	 *
+	 * @param manifest Assets to preload
+	 */
+	public AssetPreloader(final @NotNull AssetManifest manifest) {
+		this.manifest = manifest;
+		this.threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1); // The OpenGL thread has its own work.
+		this.pool = Executors.newFixedThreadPool(this.threads, new ThreadFactory() {
+			final private @NotNull AtomicInteger count = new AtomicInteger(0);
+
+			@Override
+			public Thread newThread(final @NotNull Runnable runnable) {
+				final Thread thread = new Thread(runnable, "Asset loader " + this.count.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		this.textures = new ArrayList<>();
+		this.timeline = new ArrayList<>();
+		this.done = new AtomicInteger(0);
+		this.startTime = 0L;
+	}
+
+	/**
+	 * Starts reading and decoding the assets on the pool, and returns right away.
+	 * The uploads wait for the OpenGL thread (see AssetPreloader.waitForAssets()).
+	 *
+	 * @return this
+	 */
+	final public @NotNull AssetPreloader start() {
+		this.startTime = Time.getNanoTime();
+
+		for(final String sound : this.manifest.getSounds()) { // Sounds first: they take the longest to decode.
+			this.pool.execute(new Runnable() {
+				@Override
+				public void run() {
+					AssetPreloader.this.preloadSound(sound);
+				}
+			});
+		}
+
+		for(final String atlas : this.manifest.getAtlases()) {
+			this.pool.execute(new Runnable() {
+				@Override
+				public void run() {
+					AssetPreloader.this.preloadAtlas(atlas);
+				}
+			});
+		}
+
+		for(final String texture : this.manifest.getTextures()) {
+			this.pool.execute(new Runnable() {
+				@Override
+				public void run() {
+					AssetPreloader.this.preloadTexture(texture);
+				}
+			});
+		}
+
+		this.pool.shutdown();
+
+		return this;
+	}
+
+	/**
+	 * Uploads the decoded assets and displays the loading screen until every asset is done.
+	 * This method must only be called by the OpenGL thread.
+	 */
+	final public void waitForAssets() {
+		final long budget = (long) (Options.UPLOAD_BUDGET * Time.SECOND_TO_NANO / 1000.0);
+		final FloatBuffer clearColor = BufferUtils.createFloatBuffer(16);
+		glGetFloat(GL_COLOR_CLEAR_VALUE, clearColor);
+
+		long lastFrame = 0L;
+
+		while(this.done.get() < this.manifest.size()) {
+			if(GLThread.processTasks(budget) == 0) {
+				GLThread.waitForWork(AssetPreloader.MAX_WAIT);
+			}
+
+			if(Time.getNanoTime() - lastFrame >= AssetPreloader.LOADING_SCREEN_FRAME) {
+				lastFrame = Time.getNanoTime();
+				AssetPreloader.renderLoadingScreen((float) this.done.get() / this.manifest.size());
+			}
+		}
+
+		glClearColor(clearColor.get(0), clearColor.get(1), clearColor.get(2), clearColor.get(3));
+
+		if(Options.DEBUG) this.printTimeline();
+	}
+
+	/**
+	 * Drops the preloader's references to the textures.
+	 * Call it once the game holds its own references: the textures it doesn't use can then be freed.
+	 */
+	final public void release() {
+		synchronized(this.textures) {
+			this.textures.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of assets done (loaded or failed).
+	 *
+	 * @return AssetPreloader.done
+	 */
+	@Contract(pure = true)
+	final public int getDone() {
+		return this.done.get();
+	}
+
+	/**
+	 * Preloads a texture (called by the pool).
+	 *
+	 * @param name Texture's name
+	 */
+	private void preloadTexture(final @NotNull String name) {
+		final long start = Time.getNanoTime() - this.startTime;
+		boolean loaded = true;
+
+		try {
+			final Texture texture = new Texture(name); // Decoded on this thread, uploaded by the OpenGL thread.
+
+			synchronized(this.textures) {
+				this.textures.add(texture);
+			}
+		} catch(final RuntimeException e) { // Missing file (NullPointerException) or unreadable image.
+			System.err.println("Error: the texture " + name + " listed in the asset manifest couldn't be preloaded.");
+			loaded = false;
+		}
+
+		this.assetDone("texture " + name, start, loaded);
+	}
+
+	/**
+	 * Packs an atlas (called by the pool). Its pages are kept by the TextureAtlas.
+	 *
+	 * @param name Atlas' name
+	 */
+	private void preloadAtlas(final @NotNull String name) {
+		final long start = Time.getNanoTime() - this.startTime;
+		boolean loaded = true;
+
+		try {
+			TextureAtlas.pack(name, this.manifest.getAtlasTextures(name)); // Decoded and packed on this thread, uploaded by the OpenGL thread.
+		} catch(final RuntimeException e) { // Missing file (NullPointerException) or unreadable image.
+			System.err.println("Error: the atlas " + name + " listed in the asset manifest couldn't be packed.");
+			loaded = false;
+		}
+
+		this.assetDone("atlas " + name, start, loaded);
+	}
+
+	/**
+	 * Preloads a sound (called by the pool).
+	 *
+	 * @param path Sound's path
+	 */
+	private void preloadSound(final @NotNull String path) {
+		final long start = Time.getNanoTime() - this.startTime;
+		final boolean loaded = AudioObject.preload(path);
+
+		if(!loaded) {
+			System.err.println("Error: the sound " + path + " listed in the asset manifest couldn't be preloaded.");
+		}
+
+		this.assetDone("sound " + path, start, loaded);
+	}
+
+	/**
+	 * Adds an asset to the timeline and wakes the OpenGL thread up to update the progress.
+	 *
+	 * @param asset Asset's description
+	 * @param start When did the loading start (in ns, since the preloading started)
+	 * @param loaded false = the asset couldn't be loaded
+	 */
+	private void assetDone(final @NotNull String asset, final long start, final boolean loaded) {
+		final AssetTiming timing = new AssetTiming(asset, Thread.currentThread().getName(), start, Time.getNanoTime() - this.startTime, loaded);
+
+		synchronized(this.timeline) {
+			this.timeline.add(timing);
+		}
+
+		this.done.incrementAndGet();
+		GLThread.wakeUp();
+	}
+
+	/**
+	 * Prints when and where each asset has been preloaded, in the order they started.
+	 */
+	private void printTimeline() {
+		final ArrayList<AssetTiming> timeline;
+
+		synchronized(this.timeline) {
+			timeline = new ArrayList<>(this.timeline);
+		}
+
+		Collections.sort(timeline, new Comparator<AssetTiming>() {
+			@Override
+			public int compare(final AssetTiming a, final AssetTiming b) {
+				return Long.compare(a.getStart(), b.getStart());
+			}
+		});
+
+		System.out.println("Startup timeline (ms since the preloading started):");
+
+		long end = 0L;
+		for(final AssetTiming timing : timeline) {
+			System.out.println(String.format("  %8.2f -> %8.2f (%7.2f) %-16s %s%s",
+				timing.getStart() * Time.NANO_TO_MILLI,
+				timing.getEnd() * Time.NANO_TO_MILLI,
+				(timing.getEnd() - timing.getStart()) * Time.NANO_TO_MILLI,
+				timing.getThread(),
+				timing.getAsset(),
+				timing.isLoaded() ? "" : " (failed)"
+			));
+
+			end = Math.max(end, timing.getEnd());
+		}
+
+		System.out.println("It took " + end * Time.NANO_TO_MILLI + "ms to preload " + timeline.size() + " assets on " + this.threads + " threads.");
+	}
+
+	/**
+	 * Renders the loading screen: a progress bar in the middle of the window.
+	 * Drawn with scissored clears: no shader nor mesh is needed this early.
+	 *
+	 * @param progress Progress (between 0 and 1)
+	 */
+	private static void renderLoadingScreen(final float progress) {
+		final int width = Window.getWidth() / 2;
+		final int height = Math.max(4, Window.getHeight() / 60);
+		final int x = (Window.getWidth() - width) / 2;
+		final int y = (Window.getHeight() - height) / 2;
+
+		Window.bindAsRenderTarget();
+
+		glClearColor(0.0f, 0.0f, 0.0f, 1.0f);
+		glClear(GL_COLOR_BUFFER_BIT);
+
+		glEnable(GL_SCISSOR_TEST);
+
+		glScissor(x, y, width, height);
+		glClearColor(0.2f, 0.2f, 0.2f, 1.0f);
+		glClear(GL_COLOR_BUFFER_BIT);
+
+		glScissor(x, y, Math.round(width * progress), height);
+		glClearColor(0.8f, 0.8f, 0.8f, 1.0f);
+		glClear(GL_COLOR_BUFFER_BIT);
+
+		glDisable(GL_SCISSOR_TEST);
+
+		Window.render();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package engine.util.loading;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * When and where an asset has been preloaded, for the startup timeline (see AssetPreloader).
+ */
+final class AssetTiming {
+
+	/**
+	 * Asset's description (ex: texture black1x1).
+	 */
+	final private @NotNull String asset;
+
+	/**
+	 * Name of the thread that loaded the asset.
+	 */
+	final private @NotNull String thread;
+
+	/**
+	 * When did the loading start (in ns, since the preloading started).
+	 */
+	final private long start;
+
+	/**
+	 * When was the asset ready (in ns, since the preloading started).
+	 */
+	final private long end;
+
+	/**
+	 * Has the asset been loaded.
+	 */
+	final private boolean loaded;
+
+	/**
+	 * Creates a new AssetTiming instance.
+	 *
+	 * @param asset Asset's description
+	 * @param thread Name of the thread that loaded the asset
+	 * @param start When did the loading start (in ns, since the preloading started)
+	 * @param end When was the asset ready (in ns, since the preloading started)
+	 * @param loaded false = the asset couldn't be loaded
+	 */
+	AssetTiming(final @NotNull String asset, final @NotNull String thread, final long start, final long end, final boolean loaded) {
+		this.asset = asset;
+		this.thread = thread;
+		this.start = start;
+		this.end = end;
+		this.loaded = loaded;
+	}
+
+	/**
+	 * Returns the asset's description.
+	 *
+	 * @return AssetTiming.asset
+	 */
+	@Contract(pure = true)
+	final @NotNull String getAsset() {
+		return this.asset;
+	}
+
+	/**
+	 * Returns the name of the thread that loaded the asset.
+	 *
+	 * @return AssetTiming.thread
+	 */
+	@Contract(pure = true)
+	final @NotNull String getThread() {
+		return this.thread;
+	}
+
+	/**
+	 * Returns when the loading started.
+	 *
+	 * @return AssetTiming.start (in ns, since the preloading started)
+	 */
+	@Contract(pure = true)
+	final long getStart() {
+		return this.start;
+	}
+
+	/**
+	 * Returns when the asset was ready.
+	 *
+	 * @return AssetTiming.end (in ns, since the preloading started)
+	 */
+	@Contract(pure = true)
+	final long getEnd() {
+		return this.end;
+	}
+
+	/**
+	 * Returns whether the asset has been loaded.
+	 *
+	 * @return AssetTiming.loaded
+	 */
+	@Contract(pure = true)
+	final boolean isLoaded() {
+		return this.loaded;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+package engine.util.pool;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+
+/**
+ * Keeps the objects freed to reuse them instead of creating new ones: short-lived objects
+ * (projectiles, texts' characters, damage numbers...) then don't create garbage nor OpenGL/OpenAL objects each time.
+ * Can be used by any thread.
+ *
+ * @param <T> Objects' type
+ */
+abstract public class Pool<T extends Poolable> {
+
+	/**
+	 * Objects freed, waiting to be reused.
+	 */
+	final private @NotNull ArrayList<T> free;
+
+	/**
+	 * Maximum number of objects kept (the ones freed beyond are left to the garbage collector).
+	 */
+	final private int capacity;
+
+	/**
+	 * Number of objects created by the pool.
+	 */
+	private int created;
+
+	/**
+	 * Creates a new Pool instance.
+	 *
+	 * @param capacity Maximum number of objects kept
+	 */
+	public Pool(final int capacity) {
+		this.free = new ArrayList<>();
+		this.capacity = capacity;
+		this.created = 0;
+	}
+
+	/**
+	 * Creates a new object, when there isn't any to reuse.
+	 *
+	 * @return new T
+	 */
+	abstract protected @NotNull T create();
+
+	/**
+	 * Called on every object given by the pool (created or reused), before it is returned.
+	 *
+	 * @param object Object given
+	 */
+	protected void obtained(final @NotNull T object) {
+
+	}
+
+	/**
+	 * Returns an object freed earlier, or a new one if there isn't any.
+	 *
+	 * @return T
+	 */
+	final public @NotNull T obtain() {
+		T object = null;
+
+		synchronized(this.free) {
+			if(!this.free.isEmpty()) {
+				object = this.free.remove(this.free.size() - 1);
+			} else {
+				this.created++;
+			}
+		}
+
+		if(object == null) {
+			object = this.create();
+		}
+
+		this.obtained(object);
+
+		return object;
+	}
+
+	/**
+	 * Resets an object and keeps it to be reused.
+	 * The object must not be used anymore by the caller.
+	 *
+	 * @param object Object to free
+	 */
+	final public void free(final @NotNull T object) {
+		object.reset(); // Out of the lock: resetting may wait for the OpenGL thread.
+
+		synchronized(this.free) {
+			if(this.free.size() < this.capacity) {
+				this.free.add(object);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of objects created by the pool.
+	 *
+	 * @return Pool.created
+	 */
+	@Contract(pure = true)
+	final public int getCreated() {
+		synchronized(this.free) {
+			return this.created;
+		}
+	}
+
+	/**
+	 * Returns the number of objects waiting to be reused.
+	 *
+	 * @return int
+	 */
+	@Contract(pure = true)
+	final public int getFree() {
+		synchronized(this.free) {
+			return this.free.size();
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package engine.util.pool;
+
+/**
+ * Object that can be reused by a Pool instead of being garbage collected.
+ */
+public interface Poolable {
+
+	/**
+	 * Puts the object back in the state it was created in, so the next user of the pool gets it clean.
+	 * Called when the object goes back to its pool.
+	 */
+	abstract public void reset();
+
+}
\ No newline at end of file
@@ -11,7 +11,7 @@ final public class Profiler {
 	/**
 	 * Is the Profiler on.
 	 */
-	private static boolean on = false;
+	private static volatile boolean on = false;
 
 	/**
 	 * Profiler's console.
@@ -28,12 +28,17 @@ final public class Profiler {
 	 */
 	private static HashMap<String, HashMap<String, ProfileTimer>> childrenTimers;
 
+	/**
+	 * Values measured outside the ProfileTimers (e.g. jitter), displayed once with the timers.
+	 */
+	private static LinkedHashMap<String, String> values;
+
 	/**
 	 * Adds a ProfileTimer.
 	 *
 	 * @param name ProfileTimer's name
 	 */
-	public static void addProfileTimer(final String name) {
+	public static synchronized void addProfileTimer(final String name) {
 		final int dashPosition = name.indexOf('-');
 
 		if(dashPosition > 0) {
@@ -60,7 +65,7 @@ final public class Profiler {
 	 *
 	 * @param name ProfileTimer's name
 	 */
-	public static void startProfileTimer(final String name) {
+	public static synchronized void startProfileTimer(final String name) {
 		if(Profiler.isOff()) {
 			return;
 		}
@@ -88,12 +93,28 @@ final public class Profiler {
 		}
 	}
 
+	/**
+	 * Starts a ProfileTimer unless it's already running, in one step: when several threads try at the same time, only one starts it.
+	 * The caller must stop the ProfileTimer only if it has started it.
+	 *
+	 * @param name ProfileTimer's name
+	 * @return true = started by this call
+	 */
+	public static synchronized boolean startProfileTimerIfIdle(final String name) {
+		if(Profiler.isOff() || Profiler.isProfileTimerRunning(name)) {
+			return false;
+		}
+
+		Profiler.startProfileTimer(name);
+		return true;
+	}
+
 	/**
 	 * Stops the ProfileTimer.
 	 *
 	 * @param name ProfileTimer's name
 	 */
-	public static void stopProfileTimer(final String name) {
+	public static synchronized void stopProfileTimer(final String name) {
 		if(Profiler.isOff()) {
 			return;
 		}
@@ -109,13 +130,27 @@ final public class Profiler {
 		}
 	}
 
+	/**
+	 * Sets a value to display with the ProfileTimers next time.
+	 *
+	 * @param name Value's name
+	 * @param value Value to display (with its unit)
+	 */
+	public static synchronized void setValue(final String name, final String value) {
+		if(Profiler.isOff()) {
+			return;
+		}
+
+		Profiler.values.put(name, value);
+	}
+
 	/**
 	 * Checks if the ProfileTimer isRunning.
 	 *
 	 * @param name ProfileTimer's name
 	 * @return ProfileTimer running
 	 */
-	public static boolean isProfileTimerRunning(final String name) {
+	public static synchronized boolean isProfileTimerRunning(final String name) {
 		if(Profiler.isOff()) {
 			return false;
 		}
@@ -141,7 +176,7 @@ final public class Profiler {
 	 * @param totalTime totalTime of one frame (in ms)
 	 * @param frames Number of frames in the second
 	 */
-	public static void displayAndResetTime(final double totalTime, final int frames) {
+	public static synchronized void displayAndResetTime(final double totalTime, final int frames) {
 		if(Profiler.isOff()) {
 			return;
 		}
@@ -195,7 +230,7 @@ final public class Profiler {
 			}
 			//timeToDisplay += "\t";
 
-			Profiler.getConsole().println(timeToDisplay + "\t called " + times.get(key)[3].intValue() + " \ttimes.");
+			Profiler.println(timeToDisplay + "\t called " + times.get(key)[3].intValue() + " \ttimes.");
 		}
 
 		final double otherTime = totalTime - totalMeasuredTime;
@@ -204,20 +239,39 @@ final public class Profiler {
 		final BigDecimal unit = bd.ulp().scaleByPowerOfTen(power);
 		final BigDecimal result = bd.divideToIntegralValue(unit).multiply(unit);
 
-		Profiler.getConsole().println(" Other time: " + result.doubleValue() + " ms");
-		Profiler.getConsole().println(" Total time: " + totalTime + " ms  (" + frames + " frames)");
-		Profiler.getConsole().println(" ---------------------------------------------------------------------------------------------------------------------------------------------");
+		Profiler.println(" Other time: " + result.doubleValue() + " ms");
+		Profiler.println(" Total time: " + totalTime + " ms  (" + frames + " frames)");
+
+		for(final String name : Profiler.values.keySet()) {
+			Profiler.println(" " + name + ": " + Profiler.values.get(name));
+		}
+		Profiler.values.clear();
+
+		Profiler.println(" ---------------------------------------------------------------------------------------------------------------------------------------------");
 	}
 
 	/**
 	 * Updates the Profiler.
 	 */
 	public static void update() {
-		if(Profiler.isOn()) {
+		if(Profiler.isOn() && Profiler.getConsole() != null) {
 			Profiler.getConsole().update();
 		}
 	}
 
+	/**
+	 * Prints a line in the Profiler's console, or in the standard output if there is no console.
+	 *
+	 * @param text Text to print
+	 */
+	private static void println(final String text) {
+		if(Profiler.getConsole() != null) {
+			Profiler.getConsole().println(text);
+		} else {
+			System.out.println(text);
+		}
+	}
+
 	/**
 	 * Returns the Profiler's console.
 	 *
@@ -251,12 +305,31 @@ final public class Profiler {
 	 * @param enabled true = active
 	 */
 	public static void setActive(final boolean enabled) {
+		Profiler.setActive(enabled, true);
+	}
+
+	/**
+	 * Sets if the Profiler is active or not.
+	 * Without console (e.g. headless), everything is printed in the standard output.
+	 *
+	 * @param enabled true = active
+	 * @param withConsole true = opens the profiling console
+	 */
+	public static void setActive(final boolean enabled, final boolean withConsole) {
 		Profiler.on = enabled;
 
-		if(Profiler.getConsole() == null && enabled) {
+		if(!enabled) {
+			return;
+		}
+
+		if(Profiler.getConsole() == null && withConsole) {
 			Profiler.console = new Console("Profiling console");
+		}
+
+		if(Profiler.timers == null) {
 			Profiler.timers = new HashMap<>();
 			Profiler.childrenTimers = new HashMap<>();
+			Profiler.values = new LinkedHashMap<>();
 		}
 	}
 
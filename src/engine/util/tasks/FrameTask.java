@@ -0,0 +1,176 @@
+package engine.util.tasks;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Work done once per frame by one of the engine's systems, scheduled by a TaskGraph.
+ * The task declares the resources it reads and writes: tasks that don't conflict run in parallel.
+ * A pinned task always runs on the thread running the TaskGraph (e.g. because it makes OpenGL calls).
+ */
+public abstract class FrameTask {
+
+	/**
+	 * Task's name (also used as the name of its ProfileTimer).
+	 */
+	final private @NotNull String name;
+
+	/**
+	 * Does the task need to run on the thread running the TaskGraph.
+	 */
+	final private boolean pinned;
+
+	/**
+	 * Resources read by the task.
+	 */
+	final private @NotNull String[] reads;
+
+	/**
+	 * Resources written by the task.
+	 */
+	final private @NotNull String[] writes;
+
+	/**
+	 * Tasks that can only start once this one is done.
+	 */
+	final private @NotNull ArrayList<FrameTask> dependents;
+
+	/**
+	 * Number of tasks that must be done before this one can start.
+	 */
+	private int dependencies;
+
+	/**
+	 * Number of tasks this frame that must still be done before this one can start.
+	 */
+	final private @NotNull AtomicInteger remainingDependencies;
+
+	/**
+	 * Creates a new FrameTask instance.
+	 *
+	 * @param name Task's name
+	 * @param pinned true = runs on the thread running the TaskGraph
+	 * @param reads Resources read by the task
+	 * @param writes Resources written by the task
+	 */
+	public FrameTask(final @NotNull String name, final boolean pinned, final @NotNull String[] reads, final @NotNull String[] writes) {
+		this.name = name;
+		this.pinned = pinned;
+		this.reads = reads;
+		this.writes = writes;
+		this.dependents = new ArrayList<>();
+		this.dependencies = 0;
+		this.remainingDependencies = new AtomicInteger(0);
+	}
+
+	/**
+	 * Does the task's work.
+	 */
+	public abstract void run();
+
+	/**
+	 * Returns the task's name.
+	 *
+	 * @return FrameTask.name
+	 */
+	@Contract(pure = true)
+	final public @NotNull String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Returns whether the task must run on the thread running the TaskGraph.
+	 *
+	 * @return FrameTask.pinned
+	 */
+	@Contract(pure = true)
+	final public boolean isPinned() {
+		return this.pinned;
+	}
+
+	/**
+	 * Returns whether the task can't run at the same time as another one:
+	 * one of them writes a resource the other one reads or writes.
+	 *
+	 * @param task Task to check with
+	 * @return boolean
+	 */
+	@Contract(pure = true)
+	final boolean conflictsWith(final @NotNull FrameTask task) {
+		for(final String write : this.writes) {
+			if(FrameTask.contains(task.reads, write) || FrameTask.contains(task.writes, write)) return true;
+		}
+
+		for(final String write : task.writes) {
+			if(FrameTask.contains(this.reads, write)) return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Adds a task that can only start once this one is done.
+	 *
+	 * @param task Task to add
+	 */
+	final void addDependent(final @NotNull FrameTask task) {
+		this.dependents.add(task);
+		task.dependencies++;
+	}
+
+	/**
+	 * Returns the tasks that can only start once this one is done.
+	 *
+	 * @return FrameTask.dependents
+	 */
+	@Contract(pure = true)
+	final @NotNull ArrayList<FrameTask> getDependents() {
+		return this.dependents;
+	}
+
+	/**
+	 * Returns whether the task has to wait for other tasks when the frame starts.
+	 *
+	 * @return boolean
+	 */
+	@Contract(pure = true)
+	final boolean hasDependencies() {
+		return this.dependencies > 0;
+	}
+
+	/**
+	 * Resets the number of tasks to wait for, before a new frame.
+	 */
+	final void reset() {
+		this.remainingDependencies.set(this.dependencies);
+	}
+
+	/**
+	 * Tells the task one of the tasks it waits for is done.
+	 *
+	 * @return true = the task can start
+	 */
+	final boolean dependencyDone() {
+		return this.remainingDependencies.decrementAndGet() == 0;
+	}
+
+	/**
+	 * Returns whether the array contains the resource.
+	 *
+	 * @param resources Resources to look in
+	 * @param resource Resource to look for
+	 * @return boolean
+	 */
+	@Contract(pure = true)
+	private static boolean contains(final @NotNull String[] resources, final @NotNull String resource) {
+		for(final String r : resources) {
+			if(r.equals(resource)) return true;
+		}
+
+		return false;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,214 @@
+package engine.util.tasks;
+
+import engine.rendering.GLThread;
+import engine.util.profiling.Profiler;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs the engine's FrameTasks every frame.
+ * A task depends on every task added before it that it conflicts with (see FrameTask.conflictsWith()),
+ * so the result is the same as running them one after the other in the order they have been added.
+ * Tasks that are ready are executed by the work-stealing ForkJoinPool, except pinned tasks
+ * which are executed by the thread running the graph. While waiting, that thread also executes
+ * the OpenGL tasks queued by the other tasks (see GLThread).
+ */
+final public class TaskGraph {
+
+	/**
+	 * Maximum time the thread running the graph waits before checking the tasks again (in ns).
+	 */
+	final private static long MAX_WAIT = 1000000L;
+
+	/**
+	 * Pool executing the tasks that aren't pinned.
+	 */
+	final private static @NotNull ForkJoinPool POOL = ForkJoinPool.commonPool();
+
+	/**
+	 * Graph's tasks, in the order they have been added.
+	 */
+	final private @NotNull ArrayList<FrameTask> tasks;
+
+	/**
+	 * Name of the parent ProfileTimer of the tasks' ProfileTimers (null = tasks aren't profiled).
+	 */
+	final private @Nullable String profilerName;
+
+	/**
+	 * Are the tasks run in parallel (false = one after the other on the calling thread).
+	 */
+	final private boolean parallel;
+
+	/**
+	 * Pinned tasks ready to be run by the thread running the graph.
+	 */
+	final private @NotNull ConcurrentLinkedQueue<FrameTask> pinnedTasks;
+
+	/**
+	 * Number of tasks not done yet this frame.
+	 */
+	final private @NotNull AtomicInteger remainingTasks;
+
+	/**
+	 * Thread running the graph this frame.
+	 */
+	private volatile @Nullable Thread thread;
+
+	/**
+	 * Creates a new TaskGraph instance.
+	 *
+	 * @param profilerName Name of the parent ProfileTimer (null = tasks aren't profiled)
+	 * @param parallel true = tasks run in parallel when possible
+	 */
+	public TaskGraph(final @Nullable String profilerName, final boolean parallel) {
+		this.tasks = new ArrayList<>();
+		this.profilerName = profilerName;
+		this.parallel = parallel && TaskGraph.POOL.getParallelism() > 1;
+		this.pinnedTasks = new ConcurrentLinkedQueue<>();
+		this.remainingTasks = new AtomicInteger(0);
+		this.thread = null;
+	}
+
+	/**
+	 * Adds a task to the graph.
+	 * It will start once every task added before it that it conflicts with is done.
+	 *
+	 * @param task Task to add
+	 * @return this
+	 */
+	final public @NotNull TaskGraph addTask(final @NotNull FrameTask task) {
+		for(final FrameTask previousTask : this.tasks) {
+			if(previousTask.conflictsWith(task)) {
+				previousTask.addDependent(task);
+			}
+		}
+
+		this.tasks.add(task);
+		return this;
+	}
+
+	/**
+	 * Runs all the tasks once and returns when they are all done.
+	 */
+	final public void run() {
+		if(!this.isParallel()) {
+			for(final FrameTask task : this.tasks) {
+				this.execute(task);
+			}
+			return;
+		}
+
+		this.thread = Thread.currentThread();
+		this.remainingTasks.set(this.tasks.size());
+
+		for(final FrameTask task : this.tasks) {
+			task.reset();
+		}
+
+		for(final FrameTask task : this.tasks) {
+			if(!task.hasDependencies()) {
+				this.schedule(task);
+			}
+		}
+
+		while(this.remainingTasks.get() > 0) {
+			final FrameTask task = this.pinnedTasks.poll();
+
+			if(task != null) {
+				this.execute(task);
+				this.done(task);
+			} else if(!GLThread.isCurrentThread() || GLThread.processTasks() == 0) {
+				LockSupport.parkNanos(TaskGraph.MAX_WAIT);
+			}
+		}
+
+		this.thread = null;
+	}
+
+	/**
+	 * Returns whether the tasks run in parallel.
+	 *
+	 * @return TaskGraph.parallel
+	 */
+	@Contract(pure = true)
+	final public boolean isParallel() {
+		return this.parallel;
+	}
+
+	/**
+	 * Sends a task ready to start to the thread that will run it.
+	 *
+	 * @param task Task to schedule
+	 */
+	private void schedule(final @NotNull FrameTask task) {
+		if(task.isPinned()) {
+			this.pinnedTasks.add(task);
+			this.wakeUp();
+			return;
+		}
+
+		TaskGraph.POOL.execute(new Runnable() {
+			@Override
+			public void run() {
+				TaskGraph.this.execute(task);
+				TaskGraph.this.done(task);
+			}
+		});
+	}
+
+	/**
+	 * Executes a task (and profiles it).
+	 *
+	 * @param task Task to execute
+	 */
+	private void execute(final @NotNull FrameTask task) {
+		final String timerName = this.profilerName != null ? this.profilerName + "-" + task.getName() : null;
+
+		try {
+			if(timerName != null) Profiler.startProfileTimer(timerName);
+			task.run();
+			if(timerName != null) Profiler.stopProfileTimer(timerName);
+		} catch(final Throwable e) {
+			System.err.println("Error: the frame task \"" + task.getName() + "\" failed.");
+			e.printStackTrace();
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Starts the tasks that were only waiting for this one.
+	 *
+	 * @param task Task done
+	 */
+	private void done(final @NotNull FrameTask task) {
+		for(final FrameTask dependent : task.getDependents()) {
+			if(dependent.dependencyDone()) {
+				this.schedule(dependent);
+			}
+		}
+
+		if(this.remainingTasks.decrementAndGet() == 0) {
+			this.wakeUp();
+		}
+	}
+
+	/**
+	 * Wakes the thread running the graph up.
+	 */
+	private void wakeUp() {
+		final Thread thread = this.thread;
+
+		if(thread != null) {
+			LockSupport.unpark(thread);
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+package engine.util.tasks;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Deferred work done a step at a time by the WorkScheduler, within its time budget.
+ * A step must be short (e.g. one file read, one chunk row rendered): the scheduler checks the time between two steps.
+ */
+public abstract class WorkItem {
+
+	/**
+	 * Priority of work needed before anything else can be done (e.g. map zones).
+	 */
+	final public static int PRIORITY_HIGH = 100;
+
+	/**
+	 * Priority of work visible by the player right away (e.g. texts).
+	 */
+	final public static int PRIORITY_NORMAL = 50;
+
+	/**
+	 * Priority of work that can wait (e.g. chunks baking).
+	 */
+	final public static int PRIORITY_LOW = 0;
+
+	/**
+	 * Item's name.
+	 */
+	final private @NotNull String name;
+
+	/**
+	 * Item's priority (the highest are done first).
+	 */
+	final private int priority;
+
+	/**
+	 * Order in which the item has been submitted (items with the same priority are done in this order).
+	 */
+	private long order;
+
+	/**
+	 * Is the item waiting in the WorkScheduler.
+	 */
+	private boolean queued;
+
+	/**
+	 * Creates a new WorkItem instance.
+	 *
+	 * @param name Item's name
+	 * @param priority Item's priority (the highest are done first)
+	 */
+	public WorkItem(final @NotNull String name, final int priority) {
+		this.name = name;
+		this.priority = priority;
+		this.order = 0L;
+		this.queued = false;
+	}
+
+	/**
+	 * Does the next step of the work.
+	 *
+	 * @return true = the work is done
+	 */
+	public abstract boolean step();
+
+	/**
+	 * Returns the item's name.
+	 *
+	 * @return WorkItem.name
+	 */
+	@Contract(pure = true)
+	final public @NotNull String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Returns the item's priority.
+	 *
+	 * @return WorkItem.priority
+	 */
+	@Contract(pure = true)
+	final public int getPriority() {
+		return this.priority;
+	}
+
+	/**
+	 * Returns whether the item is waiting in the WorkScheduler.
+	 *
+	 * @return WorkItem.queued
+	 */
+	@Contract(pure = true)
+	final public boolean isQueued() {
+		synchronized(WorkScheduler.class) {
+			return this.queued;
+		}
+	}
+
+	/**
+	 * Returns the order in which the item has been submitted.
+	 *
+	 * @return WorkItem.order
+	 */
+	@Contract(pure = true)
+	final long getOrder() {
+		return this.order;
+	}
+
+	/**
+	 * Sets whether the item is waiting in the WorkScheduler.
+	 *
+	 * @param queued true = waiting
+	 * @param order Order in which the item has been submitted
+	 */
+	final void setQueued(final boolean queued, final long order) {
+		this.queued = queued;
+		this.order = order;
+	}
+
+}
\ No newline at end of file
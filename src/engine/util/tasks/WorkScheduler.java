@@ -0,0 +1,185 @@
+package engine.util.tasks;
+
+import com.Options;
+import engine.util.Time;
+import engine.util.profiling.Profiler;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Does the engine's deferred work (chunks baking, texts printing, zones loading...) a step at a time,
+ * without spending more than its time budget each frame: the hitches stay bounded however much work is waiting.
+ * The items with the highest priority are done first, in the order they have been submitted.
+ */
+final public class WorkScheduler {
+
+	/**
+	 * Items waiting to be done.
+	 */
+	final private static @NotNull PriorityQueue<WorkItem> items = new PriorityQueue<>(16, new Comparator<WorkItem>() {
+		@Override
+		public int compare(final WorkItem a, final WorkItem b) {
+			if(a.getPriority() != b.getPriority()) {
+				return a.getPriority() > b.getPriority() ? -1 : 1;
+			}
+
+			return Long.compare(a.getOrder(), b.getOrder());
+		}
+	});
+
+	/**
+	 * Number of items submitted since the start.
+	 */
+	private static long submitted = 0L;
+
+	/**
+	 * Maximum time spent doing the work each frame (in ms).
+	 */
+	private static volatile double budget = Options.WORK_BUDGET;
+
+	/**
+	 * Number of items waiting.
+	 */
+	private static volatile int backlog = 0;
+
+	/**
+	 * Lock of the statistics (not the scheduler's lock: a step may wait for the OpenGL thread, which displays them).
+	 */
+	final private static @NotNull Object statisticsLock = new Object();
+
+	/**
+	 * Number of frames the work has been done since the statistics started.
+	 */
+	private static int runs = 0;
+
+	/**
+	 * Number of frames the budget has been exceeded since the statistics started.
+	 */
+	private static int overruns = 0;
+
+	/**
+	 * Longest time the budget has been exceeded by since the statistics started (in ns).
+	 */
+	private static long maxOverrun = 0L;
+
+	/**
+	 * Highest number of items waiting since the statistics started.
+	 */
+	private static int maxBacklog = 0;
+
+	/**
+	 * Submits an item, to be done in the next frames.
+	 * Does nothing if the item is already waiting.
+	 *
+	 * @param item Item to submit
+	 */
+	public static synchronized void submit(final @NotNull WorkItem item) {
+		if(item.isQueued()) {
+			return;
+		}
+
+		item.setQueued(true, WorkScheduler.submitted++);
+		WorkScheduler.items.add(item);
+		WorkScheduler.backlog = WorkScheduler.items.size();
+	}
+
+	/**
+	 * Does all the remaining steps of an item right away (e.g. its result is needed now), whatever the budget.
+	 *
+	 * @param item Item to complete
+	 */
+	public static synchronized void complete(final @NotNull WorkItem item) {
+		if(item.isQueued()) {
+			WorkScheduler.items.remove(item);
+			item.setQueued(false, 0L);
+			WorkScheduler.backlog = WorkScheduler.items.size();
+		}
+
+		while(!item.step()) {
+			// Steps until done.
+		}
+	}
+
+	/**
+	 * Does the waiting items' steps until the budget is spent.
+	 * Called once per frame, after the simulation's ticks.
+	 */
+	public static synchronized void run() {
+		if(WorkScheduler.items.isEmpty()) {
+			return;
+		}
+
+		Profiler.startProfileTimer("Work");
+		final long startTime = Time.getNanoTime();
+		final long budget = (long) (WorkScheduler.budget * Time.SECOND_TO_NANO / 1000.0);
+		final int backlog = WorkScheduler.items.size();
+
+		while(!WorkScheduler.items.isEmpty() && Time.getNanoTime() - startTime < budget) {
+			final WorkItem item = WorkScheduler.items.peek();
+
+			if(item.step()) {
+				WorkScheduler.items.remove(item); // The step may have submitted or completed other items: not always the head anymore.
+				item.setQueued(false, 0L);
+			}
+		}
+
+		final long overrun = Time.getNanoTime() - startTime - budget;
+		WorkScheduler.backlog = WorkScheduler.items.size();
+		Profiler.stopProfileTimer("Work");
+
+		synchronized(WorkScheduler.statisticsLock) {
+			WorkScheduler.runs++;
+			if(overrun > 0) WorkScheduler.overruns++;
+			if(overrun > WorkScheduler.maxOverrun) WorkScheduler.maxOverrun = overrun;
+			if(backlog > WorkScheduler.maxBacklog) WorkScheduler.maxBacklog = backlog;
+		}
+	}
+
+	/**
+	 * Returns the number of items waiting.
+	 *
+	 * @return WorkScheduler::backlog
+	 */
+	@Contract(pure = true)
+	public static int getBacklog() {
+		return WorkScheduler.backlog;
+	}
+
+	/**
+	 * Returns the maximum time spent doing the work each frame.
+	 *
+	 * @return WorkScheduler::budget (in ms)
+	 */
+	@Contract(pure = true)
+	public static double getBudget() {
+		return WorkScheduler.budget;
+	}
+
+	/**
+	 * Sets the maximum time spent doing the work each frame.
+	 *
+	 * @param budget Budget to set (in ms)
+	 */
+	public static void setBudget(final double budget) {
+		WorkScheduler.budget = budget;
+	}
+
+	/**
+	 * Sends the backlog and the budget overruns to the Profiler, then resets them.
+	 */
+	public static void displayStatistics() {
+		synchronized(WorkScheduler.statisticsLock) {
+			Profiler.setValue("Work backlog", WorkScheduler.getBacklog() + " items (max " + WorkScheduler.maxBacklog + ")");
+			Profiler.setValue("Work overruns", WorkScheduler.overruns + " / " + WorkScheduler.runs + " frames (max " + WorkScheduler.maxOverrun * Time.NANO_TO_MILLI + " ms over " + WorkScheduler.getBudget() + " ms)");
+
+			WorkScheduler.runs = 0;
+			WorkScheduler.overruns = 0;
+			WorkScheduler.maxOverrun = 0L;
+			WorkScheduler.maxBacklog = 0;
+		}
+	}
+
+}
\ No newline at end of file
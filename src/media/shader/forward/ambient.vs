@@ -6,8 +6,9 @@ in vec2 textCoord;
 out vec2 textCoord0;
 
 uniform mat4 transformProjected;
+uniform vec4 textureRegion;
 
 void main(){
 	gl_Position = transformProjected * vec4(position, 0, 1);
-	textCoord0 = textCoord;
+	textCoord0 = textureRegion.xy + textCoord * textureRegion.zw;
 }
\ No newline at end of file
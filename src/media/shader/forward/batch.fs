@@ -0,0 +1,16 @@
+#version 150 core
+
+in vec2 textCoord0;
+in vec4 color0;
+
+out vec4 out_color;
+
+uniform vec4 ambientLight;
+uniform sampler2D sampler;
+
+void main(){
+	if(texture(sampler, textCoord0).a == 0)
+		discard;
+
+	out_color = color0 * ambientLight * texture(sampler, textCoord0);
+}
\ No newline at end of file
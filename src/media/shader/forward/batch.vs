@@ -0,0 +1,16 @@
+#version 150 core
+
+in vec3 position;
+in vec2 textCoord;
+in vec4 color;
+
+out vec2 textCoord0;
+out vec4 color0;
+
+uniform mat4 projection;
+
+void main(){
+	gl_Position = projection * vec4(position, 1);
+	textCoord0 = textCoord;
+	color0 = color;
+}
\ No newline at end of file
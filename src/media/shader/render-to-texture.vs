@@ -6,8 +6,9 @@ in vec2 textCoord;
 out vec2 textCoord0;
 
 uniform mat4 transform;
+uniform vec4 textureRegion;
 
 void main(){
-	textCoord0 = textCoord;
+	textCoord0 = textureRegion.xy + textCoord * textureRegion.zw;
 	gl_Position = transform * vec4(position, 0.0, 1.0);
 }
\ No newline at end of file
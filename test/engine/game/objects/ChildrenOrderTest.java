@@ -0,0 +1,109 @@
+package engine.game.objects;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Checks that removing children keeps the other ones in the order they were added (update and render order).
+ * Runs without any window: java engine.game.objects.ChildrenOrderTest
+ */
+final public class ChildrenOrderTest {
+
+	/**
+	 * ChildrenOrderTest is static only.
+	 */
+	private ChildrenOrderTest() {
+
+	}
+
+	/**
+	 * Runs the checks.
+	 *
+	 * @param args Unused
+	 */
+	public static void main(final String[] args) {
+		ChildrenOrderTest.instantRemovalKeepsOrder();
+		ChildrenOrderTest.deferredRemovalsKeepOrder();
+
+		System.out.println("ChildrenOrderTest: OK");
+	}
+
+	/**
+	 * Removing a child right away, in the middle then at the end.
+	 */
+	private static void instantRemovalKeepsOrder() {
+		final GameObject parent = new GameObject("Parent", 1.0f, 1.0f);
+		final GameObject[] children = ChildrenOrderTest.addChildren(parent, 5);
+
+		parent.removeChildInstantly(children[1]);
+		ChildrenOrderTest.check(parent, children[0], children[2], children[3], children[4]);
+
+		parent.removeChildInstantly(children[4]);
+		ChildrenOrderTest.check(parent, children[0], children[2], children[3]);
+
+		parent.removeChildInstantly(children[1]); // Not a child anymore: nothing changes.
+		ChildrenOrderTest.check(parent, children[0], children[2], children[3]);
+	}
+
+	/**
+	 * Removing several children at the end of an update, with a child added during the same update.
+	 */
+	private static void deferredRemovalsKeepOrder() {
+		final GameObject parent = new GameObject("Parent", 1.0f, 1.0f);
+		final GameObject[] children = ChildrenOrderTest.addChildren(parent, 6);
+		final GameObject added = new GameObject("Added", 1.0f, 1.0f);
+
+		parent.removeChild(children[3]);
+		parent.removeChild(children[0]);
+		parent.addChild(added);
+		parent.removeChild(children[4]);
+		parent.update(0.0);
+
+		ChildrenOrderTest.check(parent, children[1], children[2], children[5], added);
+
+		parent.addChild(children[0]); // Added again: goes at the end.
+		parent.update(0.0);
+
+		ChildrenOrderTest.check(parent, children[1], children[2], children[5], added, children[0]);
+	}
+
+	/**
+	 * Adds children to a GameObject right away.
+	 *
+	 * @param parent GameObject to add the children to
+	 * @param count Number of children
+	 * @return Children added, in order
+	 */
+	private static @NotNull GameObject[] addChildren(final @NotNull GameObject parent, final int count) {
+		final GameObject[] children = new GameObject[count];
+
+		for(int i = 0; i < count; i++) {
+			children[i] = new GameObject("Child " + i, 1.0f, 1.0f);
+			parent.addChildInstantly(children[i]);
+		}
+
+		return children;
+	}
+
+	/**
+	 * Fails if the GameObject's children aren't the expected ones, in the same order, or don't all know their slot.
+	 *
+	 * @param parent GameObject to check
+	 * @param expected Children expected
+	 */
+	private static void check(final @NotNull GameObject parent, final @NotNull GameObject... expected) {
+		if(parent.getChildren().size() != expected.length) {
+			throw new AssertionError("Children: " + parent.getChildren().size() + ", expected " + expected.length + ".");
+		}
+
+		for(int i = 0; i < expected.length; i++) {
+			if(parent.getChildren().get(i) != expected[i]) {
+				throw new AssertionError("Child " + i + ": " + parent.getChildren().get(i).getName() + ", expected " + expected[i].getName() + ".");
+			}
+
+			if(!parent.hasChild(expected[i])) {
+				throw new AssertionError(expected[i].getName() + " doesn't know its slot.");
+			}
+		}
+	}
+
+}
\ No newline at end of file
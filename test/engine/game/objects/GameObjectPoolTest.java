@@ -0,0 +1,83 @@
+package engine.game.objects;
+
+import engine.game.Transform;
+import engine.math.Vector2f;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Checks that a GameObject reused from a GameObjectPool is interpolated like a new one (see Transform.restart()).
+ * Runs without any window: java engine.game.objects.GameObjectPoolTest
+ */
+final public class GameObjectPoolTest {
+
+	/**
+	 * GameObjectPoolTest is static only.
+	 */
+	private GameObjectPoolTest() {
+
+	}
+
+	/**
+	 * Runs the checks.
+	 *
+	 * @param args Unused
+	 */
+	public static void main(final String[] args) {
+		GameObjectPoolTest.reusedObjectIsNotSwept();
+
+		System.out.println("GameObjectPoolTest: OK");
+	}
+
+	/**
+	 * A GameObject moved and latched, freed, then obtained again during a later tick:
+	 * its first position isn't interpolated from the one it had before being freed.
+	 */
+	private static void reusedObjectIsNotSwept() {
+		final GameObjectPool<GameObject> pool = new GameObjectPool<GameObject>(4) {
+			@Override
+			protected @NotNull GameObject create() {
+				return new GameObject("Pooled", 1.0f, 1.0f);
+			}
+		};
+
+		final GameObject object = pool.obtain();
+		object.setPosition(new Vector2f(0, 0));
+
+		Transform.nextTick();
+		object.setPosition(new Vector2f(1, 1));
+		object.getTransform().setLatchedPosition(new Vector2f(1.5f, 1.5f));
+		GameObjectPoolTest.check("Moving object interpolated", object.getTransform().isInterpolated(), true);
+
+		pool.free(object);
+		GameObjectPoolTest.check("Freed object latched", object.getTransform().isLatched(), false);
+
+		Transform.nextTick();
+		Transform.nextTick();
+
+		final GameObject reused = pool.obtain();
+		if(reused != object) {
+			throw new AssertionError("The pool didn't reuse the freed object.");
+		}
+
+		reused.setPosition(new Vector2f(40, 7.5f));
+		GameObjectPoolTest.check("Reused object interpolated when launched", reused.getTransform().isInterpolated(), false);
+
+		Transform.nextTick();
+		reused.setPosition(new Vector2f(41, 8.5f));
+		GameObjectPoolTest.check("Reused object interpolated on the next tick", reused.getTransform().isInterpolated(), true);
+	}
+
+	/**
+	 * Fails if a state isn't the expected one.
+	 *
+	 * @param what What is checked
+	 * @param state State found
+	 * @param expected State expected
+	 */
+	private static void check(final @NotNull String what, final boolean state, final boolean expected) {
+		if(state != expected) {
+			throw new AssertionError(what + ": " + state + ", expected " + expected + ".");
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,129 @@
+package engine.game.objects;
+
+import engine.game.Transform;
+import engine.math.Vector2f;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Checks that a GameObject tree saved as a Prefab is instantiated the same (hierarchy, Transforms, flags and tags).
+ * The components aren't checked: their meshes and textures need OpenGL.
+ * Runs without any window: java engine.game.objects.PrefabTest
+ */
+final public class PrefabTest {
+
+	/**
+	 * PrefabTest is static only.
+	 */
+	private PrefabTest() {
+
+	}
+
+	/**
+	 * Runs the checks.
+	 *
+	 * @param args Unused
+	 * @throws IOException The prefab couldn't be written or read
+	 */
+	public static void main(final String[] args) throws IOException {
+		PrefabTest.treeSurvivesRoundTrip();
+		PrefabTest.behaviourIsRejected();
+
+		System.out.println("PrefabTest: OK");
+	}
+
+	/**
+	 * A tree written then read is instantiated with the same GameObjects, in the same order.
+	 *
+	 * @throws IOException The prefab couldn't be written or read
+	 */
+	private static void treeSurvivesRoundTrip() throws IOException {
+		final GameObject root = new GameObject("Root", 4.0f, 2.0f);
+		root.setSpatialChildren(true);
+		root.addTag("decor");
+
+		final GameObject first = new GameObject("First", 1.0f, 0.5f);
+		first.getTransform().setPosition(new Vector2f(0.25f, 1.5f));
+		first.getTransform().setDepth(-0.1f);
+		first.getTransform().setRotation(0.5);
+		first.getTransform().setScale(2.0f, 3.0f);
+		first.setRenderOutsideParent(true);
+		root.addChildInstantly(first);
+
+		final GameObject second = new GameObject("Second", 1.0f, 1.0f);
+		root.addChild(second); // Waiting for the next update: saved too.
+		second.addChildInstantly(new GameObject("Grandchild", 0.5f, 0.5f));
+
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		Prefab.capture(root, "test").write(new DataOutputStream(bytes));
+		final Prefab prefab = Prefab.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+		if(prefab == null || !prefab.getVariant().equals("test")) {
+			throw new AssertionError("The prefab read isn't the one written.");
+		}
+
+		final GameObject copy = prefab.instantiate();
+		PrefabTest.check(root, copy);
+		PrefabTest.check(first, copy.getChildren().get(0));
+		PrefabTest.check(second, copy.getChildren().get(1));
+		PrefabTest.check(second.getChildren().get(0), copy.getChildren().get(1).getChildren().get(0));
+
+		if(!copy.hasSpatialChildren() || copy.getChildren().get(1).hasSpatialChildren()) {
+			throw new AssertionError("Spatial children not restored.");
+		}
+		if(!copy.getChildren().get(0).renderOutsideParent()) {
+			throw new AssertionError("Render outside parent not restored.");
+		}
+		if(!copy.hasTag("decor")) {
+			throw new AssertionError("Tag not restored.");
+		}
+	}
+
+	/**
+	 * A tree with a GameObject whose class has code can't be saved: the code wouldn't run on the instances.
+	 */
+	private static void behaviourIsRejected() {
+		final GameObject root = new GameObject("Root", 1.0f, 1.0f);
+		root.addChildInstantly(new GameObject("With code", 1.0f, 1.0f) {
+			@Override
+			public void update(final double delta) {
+				super.update(delta);
+			}
+		});
+
+		try {
+			Prefab.capture(root, "test");
+		} catch(final IllegalArgumentException e) {
+			return;
+		}
+
+		throw new AssertionError("A GameObject subclass has been saved in a prefab.");
+	}
+
+	/**
+	 * Fails if a GameObject instantiated isn't like the one captured.
+	 *
+	 * @param expected GameObject captured
+	 * @param object GameObject instantiated
+	 */
+	private static void check(final @NotNull GameObject expected, final @NotNull GameObject object) {
+		final Transform a = expected.getTransform();
+		final Transform b = object.getTransform();
+
+		if(!expected.getName().equals(object.getName()) || expected.getWidth() != object.getWidth() || expected.getHeight() != object.getHeight()) {
+			throw new AssertionError(object.getName() + " isn't " + expected.getName() + ".");
+		}
+		if(!a.getPosition().equals(b.getPosition()) || a.getDepth() != b.getDepth() || a.getRotation() != b.getRotation() || !a.getScale().equals(b.getScale())) {
+			throw new AssertionError(object.getName() + "'s Transform isn't restored.");
+		}
+		if(expected.getChildren().size() + expected.getChildrenToAdd().size() != object.getChildren().size()) {
+			throw new AssertionError(object.getName() + "'s children aren't restored.");
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package engine.game.objects;
+
+import engine.math.Vector2f;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Checks the update levels of GameObjects (see GameObject.computeUpdateLevel()) with the camera far from the origin.
+ * Runs without any window: java engine.game.objects.UpdateLevelTest
+ */
+final public class UpdateLevelTest {
+
+	/**
+	 * Screen's ratio used by the checks (16:9).
+	 */
+	final private static float RATIO = 16.0f / 9.0f;
+
+	/**
+	 * UpdateLevelTest is static only.
+	 */
+	private UpdateLevelTest() {
+
+	}
+
+	/**
+	 * Runs the checks.
+	 *
+	 * @param args Unused
+	 */
+	public static void main(final String[] args) {
+		UpdateLevelTest.childrenFollowingTheCamera();
+		UpdateLevelTest.farFromTheCamera();
+		UpdateLevelTest.scaledParent();
+
+		System.out.println("UpdateLevelTest: OK");
+	}
+
+	/**
+	 * A HUD-like GameObject follows the hero far from the origin: its children (small local positions) are fully updated.
+	 */
+	private static void childrenFollowingTheCamera() {
+		final Vector2f hero = new Vector2f(100, 60);
+
+		final GameObject hud = new GameObject("HUD", 2.0f * UpdateLevelTest.RATIO, 2.0f);
+		hud.setPosition(hero.sub(UpdateLevelTest.RATIO, 1.0f));
+
+		final GameObject status = new GameObject("Status", 0.4f, 0.2f);
+		status.setPosition(new Vector2f(0.1f, 1.5f));
+		hud.addChildInstantly(status);
+
+		UpdateLevelTest.check("HUD", hud.computeUpdateLevel(hero, UpdateLevelTest.RATIO), GameObject.UPDATE_FULL);
+		UpdateLevelTest.check("HUD's child", status.computeUpdateLevel(hero, UpdateLevelTest.RATIO), GameObject.UPDATE_FULL);
+	}
+
+	/**
+	 * A GameObject left at the origin is dormant once the camera is far away.
+	 */
+	private static void farFromTheCamera() {
+		final GameObject object = new GameObject("Far away", 0.4f, 0.4f);
+
+		UpdateLevelTest.check("Object at the origin", object.computeUpdateLevel(new Vector2f(100, 60), UpdateLevelTest.RATIO), GameObject.UPDATE_DORMANT);
+		UpdateLevelTest.check("Object at the origin, camera at the origin", object.computeUpdateLevel(new Vector2f(0, 0), UpdateLevelTest.RATIO), GameObject.UPDATE_FULL);
+	}
+
+	/**
+	 * The frame of a child is scaled by its parents: a scaled child reaching the screen is fully updated.
+	 */
+	private static void scaledParent() {
+		final Vector2f camera = new Vector2f(100, 60);
+
+		final GameObject parent = new GameObject("Parent", 1.0f, 1.0f);
+		parent.setPosition(new Vector2f(camera.getX() - UpdateLevelTest.RATIO - 2.5f, camera.getY()));
+
+		final GameObject child = new GameObject("Child", 1.0f, 1.0f);
+		parent.addChildInstantly(child);
+
+		UpdateLevelTest.check("Unscaled child", child.computeUpdateLevel(camera, UpdateLevelTest.RATIO), GameObject.UPDATE_REDUCED);
+
+		parent.setScale(new Vector2f(2, 2));
+
+		UpdateLevelTest.check("Scaled child", child.computeUpdateLevel(camera, UpdateLevelTest.RATIO), GameObject.UPDATE_FULL);
+	}
+
+	/**
+	 * Fails if an update level isn't the expected one.
+	 *
+	 * @param what What is checked
+	 * @param level Update level computed
+	 * @param expected Update level expected
+	 */
+	private static void check(final @NotNull String what, final byte level, final byte expected) {
+		if(level != expected) {
+			throw new AssertionError(what + ": update level " + level + ", expected " + expected + ".");
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+package engine.rendering;
+
+import engine.math.Matrix4f;
+import engine.util.Color;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Checks the order the draw records are drawn in (see RenderSnapshot.sort()).
+ * Runs without any window: java engine.rendering.RenderSnapshotTest
+ */
+final public class RenderSnapshotTest {
+
+	/**
+	 * RenderSnapshotTest is static only.
+	 */
+	private RenderSnapshotTest() {
+
+	}
+
+	/**
+	 * Runs the checks.
+	 *
+	 * @param args Unused
+	 */
+	public static void main(final String[] args) {
+		RenderSnapshotTest.overlappingRecordsKeepTheirOrder();
+		RenderSnapshotTest.separateRecordsAreGroupedByTexture();
+		RenderSnapshotTest.backToFront();
+		RenderSnapshotTest.renderedLaterAtTheEnd();
+
+		System.out.println("RenderSnapshotTest: OK");
+	}
+
+	/**
+	 * A(t1), B(t2), C(t1) at the same depth, B overlapping A and C: C must stay above B.
+	 */
+	private static void overlappingRecordsKeepTheirOrder() {
+		final RenderSnapshot snapshot = new RenderSnapshot();
+		RenderSnapshotTest.add(snapshot, 1, 0.0f, 0, 0, 1, 1, false);
+		RenderSnapshotTest.add(snapshot, 2, 0.0f, 0.5f, 0.5f, 1.5f, 1.5f, false);
+		RenderSnapshotTest.add(snapshot, 1, 0.0f, 1, 1, 2, 2, false);
+
+		snapshot.sort(true);
+
+		RenderSnapshotTest.check("Overlapping records", snapshot, 0, 1, 2);
+	}
+
+	/**
+	 * A(t1), B(t2), C(t1) at the same depth, nothing overlapping: A and C are drawn together.
+	 */
+	private static void separateRecordsAreGroupedByTexture() {
+		final RenderSnapshot snapshot = new RenderSnapshot();
+		RenderSnapshotTest.add(snapshot, 1, 0.0f, 0, 0, 1, 1, false);
+		RenderSnapshotTest.add(snapshot, 2, 0.0f, 2, 0, 3, 1, false);
+		RenderSnapshotTest.add(snapshot, 1, 0.0f, 4, 0, 5, 1, false);
+
+		snapshot.sort(true);
+
+		RenderSnapshotTest.check("Separate records", snapshot, 0, 2, 1);
+
+		if(snapshot.getStateChanges() != 2 || snapshot.getStateChangesSaved() != 1) {
+			throw new AssertionError("Separate records: " + snapshot.getStateChanges() + " texture changes (" + snapshot.getStateChangesSaved() + " saved), expected 2 (1 saved).");
+		}
+	}
+
+	/**
+	 * The farthest records are drawn first (the nearest being the most negative depth), whatever their texture.
+	 */
+	private static void backToFront() {
+		final RenderSnapshot snapshot = new RenderSnapshot();
+		RenderSnapshotTest.add(snapshot, 1, -0.5f, 0, 0, 1, 1, false);
+		RenderSnapshotTest.add(snapshot, 2, 0.0f, 0, 0, 1, 1, false);
+		RenderSnapshotTest.add(snapshot, 2, 0.0f, 2, 0, 3, 1, false);
+
+		snapshot.sort(true);
+
+		RenderSnapshotTest.check("Depths", snapshot, 1, 2, 0);
+	}
+
+	/**
+	 * The records rendered later are drawn after the others, in the scene graph's order at the same depth.
+	 */
+	private static void renderedLaterAtTheEnd() {
+		final RenderSnapshot snapshot = new RenderSnapshot();
+		RenderSnapshotTest.add(snapshot, 1, 0.0f, 0, 0, 1, 1, true);
+		RenderSnapshotTest.add(snapshot, 2, 0.0f, 2, 0, 3, 1, false);
+		RenderSnapshotTest.add(snapshot, 2, 0.0f, 4, 0, 5, 1, true);
+		RenderSnapshotTest.add(snapshot, 1, 0.0f, 6, 0, 7, 1, true);
+
+		snapshot.sort(true);
+
+		RenderSnapshotTest.check("Rendered later", snapshot, 1, 0, 2, 3);
+	}
+
+	/**
+	 * Adds a draw record without mesh nor texture (only sorted).
+	 *
+	 * @param snapshot Snapshot to add to
+	 * @param textureID Texture's id
+	 * @param depth Record's depth
+	 * @param minX Record's min x
+	 * @param minY Record's min y
+	 * @param maxX Record's max x
+	 * @param maxY Record's max y
+	 * @param renderedLater true = drawn after everything else
+	 */
+	private static void add(final @NotNull RenderSnapshot snapshot, final int textureID, final float depth, final float minX, final float minY, final float maxX, final float maxY, final boolean renderedLater) {
+		snapshot.add(null, null, textureID, new Color(), new Matrix4f().initPosition(minX, minY, depth), renderedLater, minX, minY, maxX, maxY);
+	}
+
+	/**
+	 * Fails if the draw records aren't drawn in the expected order.
+	 *
+	 * @param what What is checked
+	 * @param snapshot Sorted snapshot
+	 * @param expected Draw records' indexes in the expected order
+	 */
+	private static void check(final @NotNull String what, final @NotNull RenderSnapshot snapshot, final int... expected) {
+		for(int i = 0; i < expected.length; i++) {
+			if(snapshot.getOrder(i) != expected[i]) {
+				final StringBuilder order = new StringBuilder();
+				for(int j = 0; j < snapshot.size(); j++) {
+					order.append(j == 0 ? "" : ", ").append(snapshot.getOrder(j));
+				}
+
+				throw new AssertionError(what + ": drawn in the order " + order + ".");
+			}
+		}
+	}
+
+}
\ No newline at end of file